@@ -0,0 +1,27 @@
+package ai.fusionbrain.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected on the command line with the GC profiler attached, so every result reports the
+ * allocation rate and bytes allocated per operation next to the time.
+ * <p>
+ * Accepts the options of {@code org.openjdk.jmh.Main}, e.g. {@code java -jar benchmarks.jar Multipart -f 1}.
+ * </p>
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
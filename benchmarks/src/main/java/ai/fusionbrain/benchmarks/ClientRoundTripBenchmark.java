@@ -0,0 +1,128 @@
+package ai.fusionbrain.benchmarks;
+
+import ai.fusionbrain.autoconfigure.FusionBrainAutoConfiguration;
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code runPipeline} and {@code getStatus} through the auto-configured client, Feign and the HTTP transport, against
+ * an in-process HTTP stub on the loopback interface.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientRoundTripBenchmark {
+    private static final UUID TASK_ID = UUID.randomUUID();
+
+    @Param({"262144", "2097152"})
+    public int imageSize;
+
+    @Param({"apache", "hc5", "jdk"})
+    public String transport;
+
+    private HttpServer server;
+    private ConfigurableApplicationContext context;
+    private FusionBrainClient client;
+    private Text2ImageParams params;
+    private List<byte[]> files;
+    private final UUID pipelineId = UUID.randomUUID();
+
+    @ImportAutoConfiguration({
+            JacksonAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            FeignAutoConfiguration.class,
+            FusionBrainAutoConfiguration.class
+    })
+    static class BenchmarkConfig {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] runResponse = Fixtures.runResponse(TASK_ID);
+        byte[] statusResponse = Fixtures.doneStatus(TASK_ID, 1, imageSize);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/key/api/v1/pipeline/run", exchange -> {
+            // Read the upload, as the API does
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            respond(exchange, 201, runResponse);
+        });
+        server.createContext("/key/api/v1/pipeline/status/", exchange -> respond(exchange, 200, statusResponse));
+        server.start();
+
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "fusionbrain.enabled=true",
+                        "fusionbrain.api-key=benchmark-key",
+                        "fusionbrain.api-secret=benchmark-secret",
+                        "fusionbrain.base-url=http://127.0.0.1:" + server.getAddress().getPort(),
+                        "fusionbrain.http.transport=" + transport,
+                        "logging.level.ai.fusionbrain=WARN")
+                .run();
+        client = context.getBean(FusionBrainClient.class);
+        params = Fixtures.params();
+        files = List.of(Fixtures.randomBytes(4096));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public RunResponse runPipeline() {
+        return client.runPipeline(pipelineId, params, files);
+    }
+
+    @Benchmark
+    public StatusResponse getStatus() {
+        return client.getStatus(TASK_ID);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().put("Content-Type", List.of("application/json"));
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
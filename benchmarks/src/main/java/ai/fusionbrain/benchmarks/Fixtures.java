@@ -0,0 +1,48 @@
+package ai.fusionbrain.benchmarks;
+
+import ai.fusionbrain.dto.request.GenerateParams;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Payloads shared by the benchmarks. Random bytes are seeded, so every run measures the same content.
+ */
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static Text2ImageParams params() {
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("A red cat sitting on a windowsill at sunset, oil painting"));
+        params.setNegativePromptDecoder("blurry, low quality");
+        params.setStyle("DEFAULT");
+        return params;
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns the body of a finished status response holding {@code images} base64 images of {@code imageSize} bytes.
+     */
+    static byte[] doneStatus(UUID taskId, int images, int imageSize) {
+        String image = Base64.getEncoder().encodeToString(randomBytes(imageSize));
+        StringBuilder json = new StringBuilder(images * (image.length() + 3) + 256)
+                .append("{\"uuid\":\"").append(taskId).append("\",\"status\":\"DONE\",\"result\":{\"files\":[");
+        for (int i = 0; i < images; i++) {
+            json.append(i > 0 ? ",\"" : "\"").append(image).append('"');
+        }
+        return json.append("],\"censored\":false},\"generationTime\":12}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] runResponse(UUID taskId) {
+        return ("{\"uuid\":\"" + taskId + "\",\"status\":\"INITIAL\",\"status_time\":1}").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package ai.fusionbrain.benchmarks;
+
+import ai.fusionbrain.config.FusionBrainFormWriter;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.Encoder;
+import feign.form.ContentType;
+import feign.form.MultipartFormContentProcessor;
+import feign.form.spring.SpringFormEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multipart encoding of a pipeline run with {@code List<byte[]>} files, as done by the Feign encoder of the starter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultipartEncodingBenchmark {
+    @Param({"65536", "1048576"})
+    public int fileSize;
+
+    @Param({"1", "4"})
+    public int fileCount;
+
+    private SpringFormEncoder encoder;
+    private Text2ImageParams params;
+    private List<byte[]> files;
+
+    @Setup
+    public void setUp() {
+        encoder = new SpringFormEncoder();
+        // Spring Cloud OpenFeign registers the form writer bean the same way
+        ((MultipartFormContentProcessor) encoder.getContentProcessor(ContentType.MULTIPART))
+                .addFirstWriter(new FusionBrainFormWriter(new ObjectMapper()));
+        params = Fixtures.params();
+        files = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            files.add(Fixtures.randomBytes(fileSize));
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        RequestTemplate template = new RequestTemplate();
+        template.header("Content-Type", ContentType.MULTIPART.getHeader());
+        encoder.encode(Map.of("params", params, "file", files.stream().map(FileSource::of).toList()),
+                Encoder.MAP_STRING_WILDCARD, template);
+        return template.body();
+    }
+}
@@ -0,0 +1,63 @@
+package ai.fusionbrain.benchmarks;
+
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import ai.fusionbrain.utils.ValidationUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation and JSON conversion of the parameters of every pipeline run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParamsBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Text2ImageParams params;
+
+    @Setup
+    public void setUp() {
+        params = Fixtures.params();
+    }
+
+    @Benchmark
+    public Text2ImageParams validate() {
+        ValidationUtil.validate(params);
+        return params;
+    }
+
+    @Benchmark
+    public Text2ImageParams validateFresh() {
+        Text2ImageParams fresh = Fixtures.params();
+        ValidationUtil.validate(fresh);
+        return fresh;
+    }
+
+    /**
+     * The conversion used by the reactive client to build the {@code params} part.
+     */
+    @Benchmark
+    public JsonNode valueToTree() {
+        return objectMapper.valueToTree(params);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(params);
+    }
+}
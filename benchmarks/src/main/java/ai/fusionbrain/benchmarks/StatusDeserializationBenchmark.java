@@ -0,0 +1,74 @@
+package ai.fusionbrain.benchmarks;
+
+import ai.fusionbrain.dto.ResultSink;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.utils.StatusStreamUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a finished {@link StatusResponse} carrying large base64 images, buffered, decoded, status only and streamed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusDeserializationBenchmark {
+    @Param({"262144", "2097152"})
+    public int imageSize;
+
+    @Param({"1", "4"})
+    public int imageCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectReader statusReader;
+    private ObjectReader statusOnlyReader;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        statusReader = objectMapper.readerFor(StatusResponse.class);
+        statusOnlyReader = objectMapper.readerFor(StatusResponse.class).withView(StatusResponse.StatusOnly.class);
+        body = Fixtures.doneStatus(UUID.randomUUID(), imageCount, imageSize);
+    }
+
+    @Benchmark
+    public StatusResponse readBuffered() throws Exception {
+        return statusReader.readValue(body);
+    }
+
+    @Benchmark
+    public byte[][] readAndDecode() throws Exception {
+        StatusResponse status = statusReader.readValue(body);
+        return status.getResult().getImages().toArray(byte[][]::new);
+    }
+
+    @Benchmark
+    public StatusResponse readStatusOnly() throws Exception {
+        return statusOnlyReader.readValue(body);
+    }
+
+    @Benchmark
+    public StatusResponse readStreaming() throws Exception {
+        return StatusStreamUtil.read(objectMapper, new ByteArrayInputStream(body),
+                ResultSink.to(OutputStream.nullOutputStream()));
+    }
+}
@@ -0,0 +1,51 @@
+package ai.fusionbrain.benchmarks.load;
+
+import ai.fusionbrain.observation.FusionBrainTracing;
+import ai.fusionbrain.observation.TaskTrace;
+import org.HdrHistogram.Histogram;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Tracing hook recording the time from the end of a submission to the response of the first status poll, which is
+ * not visible from outside the client.
+ */
+final class FirstPollTracing implements FusionBrainTracing {
+    private final Histogram histogram;
+
+    FirstPollTracing(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public TaskTrace startTask(UUID pipelineId) {
+        return new FirstPollTrace();
+    }
+
+    private final class FirstPollTrace implements TaskTrace {
+        private final AtomicBoolean polled = new AtomicBoolean();
+        private volatile long submittedAt;
+
+        @Override
+        public void taskId(UUID taskId) {
+            if (submittedAt == 0) {
+                submittedAt = System.nanoTime();
+            }
+        }
+
+        @Override
+        public <T> T within(Supplier<T> call) {
+            try {
+                return call.get();
+            } finally {
+                // Calls before the task id is known belong to the submission
+                if (submittedAt != 0 && polled.compareAndSet(false, true)) {
+                    histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - submittedAt));
+                }
+            }
+        }
+    }
+}
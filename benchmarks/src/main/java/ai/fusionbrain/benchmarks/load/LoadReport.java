@@ -0,0 +1,117 @@
+package ai.fusionbrain.benchmarks.load;
+
+import ai.fusionbrain.FusionBrainApiSimulator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JSON report of a load test run. Latencies are given in milliseconds; every histogram is also included in the
+ * compressed HdrHistogram encoding (values in microseconds), so that runs can be merged or plotted later with
+ * {@code Histogram.decodeFromCompressedByteBuffer}.
+ */
+final class LoadReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Object> root = new LinkedHashMap<>();
+    private final Map<String, Object> settings = new LinkedHashMap<>();
+    private final Map<String, Object> latencies = new LinkedHashMap<>();
+    private final double elapsedSeconds;
+
+    LoadReport(Instant startedAt, long elapsedNanos) {
+        this.elapsedSeconds = elapsedNanos / 1e9;
+        root.put("startedAt", startedAt.toString());
+        root.put("elapsedSeconds", elapsedSeconds);
+        root.put("settings", settings);
+    }
+
+    LoadReport settings(String group, Map<String, Object> values) {
+        settings.put(group, values);
+        return this;
+    }
+
+    LoadReport outcomes(long done, long failed, long rejected, Map<String, Long> errors) {
+        Map<String, Object> tasks = new LinkedHashMap<>();
+        tasks.put("done", done);
+        tasks.put("failed", failed);
+        tasks.put("rejected", rejected);
+        tasks.put("errors", errors);
+        root.put("tasks", tasks);
+
+        Map<String, Object> throughput = new LinkedHashMap<>();
+        throughput.put("completedPerSecond", (done + failed) / elapsedSeconds);
+        throughput.put("donePerSecond", done / elapsedSeconds);
+        root.put("throughput", throughput);
+        root.put("latencyMillis", latencies);
+        return this;
+    }
+
+    LoadReport latency(String name, Histogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getTotalCount());
+        if (histogram.getTotalCount() > 0) {
+            values.put("min", millis(histogram.getMinValue()));
+            values.put("mean", histogram.getMean() / 1000);
+            for (double percentile : PERCENTILES) {
+                values.put("p" + String.valueOf(percentile).replace(".0", "").replace(".", ""),
+                        millis(histogram.getValueAtPercentile(percentile)));
+            }
+            values.put("max", millis(histogram.getMaxValue()));
+        }
+        values.put("histogram", encode(histogram));
+        latencies.put(name, values);
+        return this;
+    }
+
+    LoadReport simulator(FusionBrainApiSimulator api) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("submitted", api.getSubmittedCount());
+        counts.put("rejected", api.getRejectedCount());
+        counts.put("injectedErrors", api.getInjectedErrorCount());
+        counts.put("statusPolls", api.getStatusPollCount());
+        root.put("simulator", counts);
+        return this;
+    }
+
+    void write(Path path) throws IOException {
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), root);
+    }
+
+    @SuppressWarnings("unchecked")
+    void print(PrintStream out) {
+        out.printf("%-12s %8s %10s %10s %10s %10s %10s%n", "latency", "count", "p50 ms", "p90 ms", "p99 ms",
+                "p999 ms", "max ms");
+        latencies.forEach((name, value) -> {
+            Map<String, Object> values = (Map<String, Object>) value;
+            out.printf("%-12s %8d %10s %10s %10s %10s %10s%n", name, values.get("count"), values.get("p50"),
+                    values.get("p90"), values.get("p99"), values.get("p999"), values.get("max"));
+        });
+        out.println("tasks: " + root.get("tasks"));
+        out.printf("throughput: %.2f tasks/s in %.1f s%n",
+                ((Map<String, Object>) root.get("throughput")).get("completedPerSecond"), elapsedSeconds);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
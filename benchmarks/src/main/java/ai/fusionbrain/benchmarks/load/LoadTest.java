@@ -0,0 +1,333 @@
+package ai.fusionbrain.benchmarks.load;
+
+import ai.fusionbrain.FusionBrainApiSimulator;
+import ai.fusionbrain.FusionBrainApiSimulator.Latency;
+import ai.fusionbrain.autoconfigure.FusionBrainAutoConfiguration;
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import ai.fusionbrain.exception.CircuitBreakerOpenException;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.exception.RateLimitExceededException;
+import ai.fusionbrain.exception.SubmissionRejectedException;
+import ai.fusionbrain.observation.FusionBrainTracing;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test driving the auto-configured {@link FusionBrainClient} against a {@link FusionBrainApiSimulator}.
+ * <p>
+ * Every task is submitted with {@code runPipeline} and awaited with {@code waitForCompletion}. Latencies of the
+ * submission, of the first status poll and of the whole task are recorded in HdrHistograms and written to a JSON
+ * report. Options are passed as {@code --name=value} arguments: {@code load.*} shape the load, {@code simulator.*}
+ * the simulated API, and {@code fusionbrain.*} configure the client exactly as in an application.
+ * </p>
+ */
+public final class LoadTest {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final FusionBrainClient client;
+    private final UUID pipelineId;
+    private final Settings settings;
+    private final Histogram submit = histogram();
+    private final Histogram firstPoll;
+    private final Histogram completion = histogram();
+    private final LongAdder done = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    private LoadTest(FusionBrainClient client, UUID pipelineId, Settings settings, Histogram firstPoll) {
+        this.client = client;
+        this.pipelineId = pipelineId;
+        this.settings = settings;
+        this.firstPoll = firstPoll;
+    }
+
+    @ImportAutoConfiguration({
+            JacksonAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            FeignAutoConfiguration.class,
+            FusionBrainAutoConfiguration.class
+    })
+    static class LoadTestConfig {
+        @Bean
+        Histogram firstPollHistogram() {
+            return histogram();
+        }
+
+        @Bean
+        FusionBrainTracing firstPollTracing(Histogram firstPollHistogram) {
+            return new FirstPollTracing(firstPollHistogram);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        StandardEnvironment arguments = new StandardEnvironment();
+        arguments.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        Settings settings = Settings.from(arguments);
+        SimulatorSettings simulatorSettings = SimulatorSettings.from(arguments);
+
+        try (FusionBrainApiSimulator api = simulatorSettings.start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestConfig.class)
+                     .web(WebApplicationType.NONE)
+                     .bannerMode(Banner.Mode.OFF)
+                     .logStartupInfo(false)
+                     .properties(
+                             "fusionbrain.enabled=true",
+                             "fusionbrain.api-key=load-test-key",
+                             "fusionbrain.api-secret=load-test-secret",
+                             "fusionbrain.base-url=" + api.getBaseUrl(),
+                             "logging.level.ai.fusionbrain=WARN")
+                     .run(args)) {
+            LoadTest test = new LoadTest(context.getBean(FusionBrainClient.class), api.getPipelineId(), settings,
+                    context.getBean("firstPollHistogram", Histogram.class));
+
+            if (settings.warmupTasks() > 0) {
+                test.run(settings.warmupTasks());
+                test.reset();
+            }
+            Instant startedAt = Instant.now();
+            long elapsedNanos = test.run(settings.tasks());
+
+            LoadReport report = new LoadReport(startedAt, elapsedNanos)
+                    .settings("load", settings.describe())
+                    .settings("simulator", simulatorSettings.describe())
+                    .settings("fusionbrain", properties(context.getEnvironment(), "fusionbrain."))
+                    .outcomes(test.done.sum(), test.failed.sum(), test.rejected.sum(), test.errorCounts())
+                    .latency("submit", test.submit)
+                    .latency("firstPoll", test.firstPoll)
+                    .latency("completion", test.completion)
+                    .simulator(api);
+            report.write(settings.report());
+            report.print(System.out);
+            System.out.println("Report written to " + settings.report().toAbsolutePath());
+        }
+    }
+
+    /**
+     * Submits the given number of tasks at the configured rate, keeping at most {@code load.concurrency} of them in
+     * flight, and waits for all of them to finish.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    private long run(int tasks) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(settings.concurrency());
+        CountDownLatch finished = new CountDownLatch(tasks);
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService submitters = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "load-submitter-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Random random = new Random(settings.seed());
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < tasks; i++) {
+                if (settings.rate() > 0) {
+                    // Pace by schedule rather than by sleeps, so slow submissions don't lower the rate
+                    long due = start + (long) (i * 1e9 / settings.rate());
+                    for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                inFlight.acquire();
+                Text2ImageParams params = settings.mix().next(random);
+                submitters.execute(() -> runTask(params, () -> {
+                    inFlight.release();
+                    finished.countDown();
+                }));
+            }
+            finished.await();
+            return System.nanoTime() - start;
+        } finally {
+            submitters.shutdownNow();
+        }
+    }
+
+    private void runTask(Text2ImageParams params, Runnable onFinished) {
+        long start = System.nanoTime();
+        RunResponse run;
+        try {
+            run = client.runPipeline(pipelineId, params);
+            record(submit, start);
+        } catch (RuntimeException e) {
+            countError(e);
+            onFinished.run();
+            return;
+        }
+
+        client.waitForCompletion(pipelineId, run).whenComplete((status, error) -> {
+            if (error != null) {
+                countError(error);
+            } else {
+                record(completion, start);
+                (status.getStatus() == EResourceStatus.DONE ? done : failed).increment();
+            }
+            onFinished.run();
+        });
+    }
+
+    private void countError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof PipelineDisabledException || cause instanceof SubmissionRejectedException
+                || cause instanceof RateLimitExceededException || cause instanceof CircuitBreakerOpenException) {
+            rejected.increment();
+        }
+        errors.computeIfAbsent(cause.getClass().getSimpleName(), name -> new LongAdder()).increment();
+    }
+
+    private Map<String, Long> errorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((name, count) -> counts.put(name, count.sum()));
+        return counts;
+    }
+
+    private void reset() {
+        submit.reset();
+        firstPoll.reset();
+        completion.reset();
+        done.reset();
+        failed.reset();
+        rejected.reset();
+        errors.clear();
+    }
+
+    private static void record(Histogram histogram, long startNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos),
+                HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private static Histogram histogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    /**
+     * Returns the properties with the given prefix that were set explicitly, leaving out credentials.
+     */
+    private static Map<String, Object> properties(ConfigurableEnvironment environment, String prefix) {
+        Map<String, Object> properties = new TreeMap<>();
+        environment.getPropertySources().stream()
+                .filter(EnumerablePropertySource.class::isInstance)
+                .flatMap(source -> Arrays.stream(((EnumerablePropertySource<?>) source).getPropertyNames()))
+                .filter(name -> name.startsWith(prefix) && !name.contains("key") && !name.contains("secret")
+                        && !name.contains("password"))
+                .forEach(name -> properties.putIfAbsent(name.substring(prefix.length()), environment.getProperty(name)));
+        return properties;
+    }
+
+    private record Settings(int tasks, int warmupTasks, int concurrency, double rate, ParamsMix mix, long seed,
+                            Path report) {
+        static Settings from(PropertyResolver arguments) {
+            return new Settings(
+                    arguments.getProperty("load.tasks", Integer.class, 200),
+                    arguments.getProperty("load.warmup-tasks", Integer.class, 20),
+                    arguments.getProperty("load.concurrency", Integer.class, 32),
+                    arguments.getProperty("load.rate", Double.class, 0.0),
+                    ParamsMix.parse(arguments.getProperty("load.mix", "1024x1024:1"),
+                            arguments.getProperty("load.prompt-length", Integer.class, 200)),
+                    arguments.getProperty("load.seed", Long.class, 42L),
+                    Path.of(arguments.getProperty("load.report", "target/load-report.json")));
+        }
+
+        Map<String, Object> describe() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("tasks", tasks);
+            values.put("warmupTasks", warmupTasks);
+            values.put("concurrency", concurrency);
+            values.put("rate", rate);
+            values.put("mix", mix.toString());
+            values.put("seed", seed);
+            return values;
+        }
+    }
+
+    private record SimulatorSettings(int workers, int threads, int queueCapacity, long generationMedian,
+                                     double generationSigma, long responseLatencyMax, long statusTime, int imageSize,
+                                     double failureRate, double errorRate, int[] errorStatuses) {
+        static SimulatorSettings from(PropertyResolver arguments) {
+            return new SimulatorSettings(
+                    arguments.getProperty("simulator.workers", Integer.class, 16),
+                    arguments.getProperty("simulator.threads", Integer.class, 32),
+                    arguments.getProperty("simulator.queue-capacity", Integer.class, 500),
+                    arguments.getProperty("simulator.generation-median", Long.class, 2000L),
+                    arguments.getProperty("simulator.generation-sigma", Double.class, 0.3),
+                    arguments.getProperty("simulator.response-latency-max", Long.class, 0L),
+                    arguments.getProperty("simulator.status-time", Long.class, 0L),
+                    arguments.getProperty("simulator.image-size", Integer.class, 64 * 1024),
+                    arguments.getProperty("simulator.failure-rate", Double.class, 0.0),
+                    arguments.getProperty("simulator.error-rate", Double.class, 0.0),
+                    arguments.getProperty("simulator.error-statuses", int[].class, new int[]{503}));
+        }
+
+        FusionBrainApiSimulator start() {
+            return FusionBrainApiSimulator.builder()
+                    .workers(workers)
+                    .threads(threads)
+                    .queueCapacity(queueCapacity)
+                    .generationLatency(generationSigma > 0
+                            ? Latency.logNormal(Duration.ofMillis(generationMedian), generationSigma)
+                            : Latency.fixed(Duration.ofMillis(generationMedian)))
+                    .responseLatency(responseLatencyMax > 0
+                            ? Latency.uniform(Duration.ZERO, Duration.ofMillis(responseLatencyMax))
+                            : Latency.NONE)
+                    .statusTime(statusTime)
+                    .imageSize(imageSize)
+                    .failureRate(failureRate)
+                    .errors(errorRate, errorStatuses)
+                    .start();
+        }
+
+        Map<String, Object> describe() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("workers", workers);
+            values.put("threads", threads);
+            values.put("queueCapacity", queueCapacity);
+            values.put("generationMedianMillis", generationMedian);
+            values.put("generationSigma", generationSigma);
+            values.put("responseLatencyMaxMillis", responseLatencyMax);
+            values.put("statusTime", statusTime);
+            values.put("imageSize", imageSize);
+            values.put("failureRate", failureRate);
+            values.put("errorRate", errorRate);
+            values.put("errorStatuses", errorStatuses);
+            return values;
+        }
+    }
+}
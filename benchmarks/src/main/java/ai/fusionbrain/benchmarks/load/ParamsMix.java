@@ -0,0 +1,81 @@
+package ai.fusionbrain.benchmarks.load;
+
+import ai.fusionbrain.dto.request.GenerateParams;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted mix of image sizes the load test draws its {@link Text2ImageParams} from, e.g. {@code 512x512:3,1024x1024:1}
+ * for three small images per large one.
+ */
+final class ParamsMix {
+    private static final String WORDS = "a red cat sitting on a windowsill at sunset oil painting soft light ";
+
+    private final List<Size> sizes;
+    private final int totalWeight;
+    private final String prompt;
+
+    private ParamsMix(List<Size> sizes, String prompt) {
+        this.sizes = sizes;
+        this.totalWeight = sizes.stream().mapToInt(Size::weight).sum();
+        this.prompt = prompt;
+    }
+
+    /**
+     * Parses a comma-separated list of {@code WIDTHxHEIGHT[:WEIGHT]} entries; the weight defaults to 1.
+     */
+    static ParamsMix parse(String spec, int promptLength) {
+        List<Size> sizes = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] sizeAndWeight = entry.trim().split(":");
+            String[] dimensions = sizeAndWeight[0].split("x");
+            if (dimensions.length != 2 || sizeAndWeight.length > 2) {
+                throw new IllegalArgumentException("Invalid size '" + entry + "', expected WIDTHxHEIGHT[:WEIGHT]");
+            }
+            int weight = sizeAndWeight.length == 2 ? Integer.parseInt(sizeAndWeight[1].trim()) : 1;
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight of '" + entry + "' must be positive");
+            }
+            sizes.add(new Size(Integer.parseInt(dimensions[0].trim()), Integer.parseInt(dimensions[1].trim()), weight));
+        }
+        if (promptLength < 1 || promptLength > 1000) {
+            throw new IllegalArgumentException("Prompt length must be between 1 and 1000");
+        }
+        return new ParamsMix(List.copyOf(sizes), WORDS.repeat(promptLength / WORDS.length() + 1)
+                .substring(0, promptLength));
+    }
+
+    /**
+     * Returns fresh parameters of a size drawn by weight, so the client validates every submission.
+     */
+    Text2ImageParams next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (Size size : sizes) {
+            pick -= size.weight();
+            if (pick < 0) {
+                Text2ImageParams params = new Text2ImageParams();
+                params.setWidth(size.width());
+                params.setHeight(size.height());
+                params.setGenerateParams(new GenerateParams(prompt));
+                params.setStyle("DEFAULT");
+                return params;
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", sizes.stream().map(Size::toString).toList());
+    }
+
+    private record Size(int width, int height, int weight) {
+        @Override
+        public String toString() {
+            return width + "x" + height + ":" + weight;
+        }
+    }
+}
@@ -3,30 +3,60 @@ package ai.fusionbrain.autoconfigure;
 import ai.fusionbrain.client.FusionBrainClient;
 import ai.fusionbrain.client.FusionBrainClientImpl;
 import ai.fusionbrain.client.FusionBrainFeignClient;
+import ai.fusionbrain.config.EAsyncMode;
 import ai.fusionbrain.config.FeignConfig;
+import ai.fusionbrain.config.FusionBrainHttpProperties;
 import ai.fusionbrain.config.FusionBrainProperties;
 import ai.fusionbrain.config.FusionBrainSslProperties;
+import ai.fusionbrain.metrics.FusionBrainMetrics;
+import ai.fusionbrain.observation.FusionBrainTracing;
+import ai.fusionbrain.polling.PollingStrategy;
+import ai.fusionbrain.queue.FusionBrainSubmissionQueue;
+import ai.fusionbrain.resilience.BoundedExecutor;
+import ai.fusionbrain.utils.ValidationUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 
-@Configuration
-@EnableConfigurationProperties({FusionBrainProperties.class, FusionBrainSslProperties.class})
+@Slf4j
+@AutoConfiguration(afterName = {
+        "org.springframework.cloud.openfeign.FeignAutoConfiguration",
+        "org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration"
+})
+@EnableConfigurationProperties({
+        FusionBrainProperties.class,
+        FusionBrainSslProperties.class,
+        FusionBrainHttpProperties.class
+})
 @ConditionalOnProperty(prefix = "fusionbrain", name = "enabled")
 @EnableFeignClients(basePackageClasses = FusionBrainFeignClient.class)
-@Import({FeignConfig.class, FusionBrainSslConfig.class})
-@AutoConfigureAfter(name = {
-        "org.springframework.cloud.openfeign.FeignAutoConfiguration",
-        "org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration"
+@Import({
+        FeignConfig.class,
+        FusionBrainHttpTransportCheck.class,
+        FusionBrainSslConfig.class,
+        FusionBrainHc5Config.class,
+        FusionBrainJdkHttpConfig.class,
+        FusionBrainReactiveConfig.class,
+        FusionBrainMetricsConfig.class,
+        FusionBrainObservationConfig.class
 })
 public class FusionBrainAutoConfiguration {
 
@@ -36,18 +66,73 @@ public class FusionBrainAutoConfiguration {
             FusionBrainFeignClient feignClient,
             ObjectMapper objectMapper,
             FusionBrainProperties fusionBrainProperties,
-            Executor fusionBrainAsyncExecutor
+            Executor fusionBrainAsyncExecutor,
+            ScheduledExecutorService fusionBrainPollingScheduler,
+            PollingStrategy fusionBrainPollingStrategy,
+            ObjectProvider<Validator> validator,
+            ObjectProvider<FusionBrainMetrics> fusionBrainMetrics,
+            ObjectProvider<FusionBrainTracing> fusionBrainTracing
     ) {
-        return new FusionBrainClientImpl(feignClient, objectMapper, fusionBrainProperties, fusionBrainAsyncExecutor);
+        return FusionBrainClientImpl.builder()
+                .feignClient(feignClient)
+                .objectMapper(objectMapper)
+                .properties(fusionBrainProperties)
+                .asyncExecutor(fusionBrainAsyncExecutor)
+                .pollingScheduler(fusionBrainPollingScheduler)
+                .pollingStrategy(fusionBrainPollingStrategy)
+                // Reuse the context's validator instead of bootstrapping a second validator factory
+                .validator(validator.getIfUnique(ValidationUtil::getDefaultValidator))
+                .metrics(fusionBrainMetrics.getIfAvailable(() -> FusionBrainMetrics.NOOP))
+                .tracing(fusionBrainTracing.getIfAvailable(() -> FusionBrainTracing.NOOP))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public FusionBrainSubmissionQueue fusionBrainSubmissionQueue(
+            FusionBrainClient fusionBrainClient,
+            FusionBrainProperties fusionBrainProperties,
+            Executor fusionBrainAsyncExecutor,
+            ObjectProvider<FusionBrainTracing> fusionBrainTracing
+    ) {
+        // Queued submissions run within the span of their caller
+        return new FusionBrainSubmissionQueue(fusionBrainClient, fusionBrainProperties.getQueue(),
+                fusionBrainTracing.getIfAvailable(() -> FusionBrainTracing.NOOP).wrap(fusionBrainAsyncExecutor));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PollingStrategy fusionBrainPollingStrategy(FusionBrainProperties properties) {
+        return PollingStrategy.fromProperties(properties);
     }
 
     @Bean(name = "fusionBrainAsyncExecutor")
     @ConditionalOnMissingBean(name = "fusionBrainAsyncExecutor")
     public Executor fusionBrainAsyncExecutor(FusionBrainProperties properties) {
+        if (properties.getAsync().getMode() == EAsyncMode.VIRTUAL) {
+            if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("FusionBrainAsync-");
+                executor.setVirtualThreads(true);
+                // Queue tasks beyond the limit instead of blocking the submitting thread, e.g. the polling scheduler
+                return new BoundedExecutor(executor, properties.getAsync().getMaxConcurrency());
+            }
+            log.warn("Virtual threads require Java 21 or later, falling back to platform threads");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(properties.getAsyncCorePoolSize());
         executor.setThreadNamePrefix("FusionBrainAsync-");
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "fusionBrainPollingScheduler", destroyMethod = "shutdownNow")
+    @ConditionalOnMissingBean(name = "fusionBrainPollingScheduler")
+    public ScheduledExecutorService fusionBrainPollingScheduler() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("FusionBrainPoller-");
+        threadFactory.setDaemon(true);
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package ai.fusionbrain.autoconfigure;
+
+import ai.fusionbrain.config.FusionBrainHttpProperties;
+import ai.fusionbrain.config.FusionBrainSslProperties;
+import ai.fusionbrain.utils.TrustStoreUtil;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.HttpsSupport;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.http.HeaderElement;
+import org.apache.hc.core5.http.HeaderElements;
+import org.apache.hc.core5.http.message.MessageSupport;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.net.ssl.HostnameVerifier;
+import java.time.Duration;
+import java.util.Iterator;
+
+/**
+ * HTTP/2 transport based on the Apache HttpClient 5 async client, enabled by {@code fusionbrain.http.transport=hc5}.
+ * HTTP/2 is negotiated via ALPN; servers that do not support it are served over pooled HTTP/1.1 connections.
+ * The Feign client wrapping it is defined by {@link ai.fusionbrain.config.FusionBrainFeignClientConfig}.
+ */
+@Configuration
+@ConditionalOnClass(name = "org.apache.hc.client5.http.impl.async.HttpAsyncClients")
+@ConditionalOnProperty(prefix = "fusionbrain.http", name = "transport", havingValue = "hc5")
+public class FusionBrainHc5Config {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient fusionBrainHttpAsyncClient(FusionBrainSslProperties sslProperties,
+                                                               FusionBrainHttpProperties httpProperties)
+            throws Exception {
+
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                        .setSslContext(TrustStoreUtil.createSslContext(sslProperties))
+                        .setHostnameVerifier(getHostnameVerifier(sslProperties))
+                        .build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                        .build())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(httpProperties.getConnectTimeout()))
+                        .setTimeToLive(TimeValue.of(httpProperties.getTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.of(httpProperties.getValidateAfterInactivity()))
+                        .build())
+                .setMaxConnTotal(httpProperties.getMaxConnections())
+                .setMaxConnPerRoute(httpProperties.getMaxConnectionsPerRoute())
+                .build();
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(httpProperties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(httpProperties.getReadTimeout()))
+                        .build())
+                .setKeepAliveStrategy(getKeepAliveStrategy(httpProperties));
+
+        if (httpProperties.getIdleEvictionTimeout().compareTo(Duration.ZERO) > 0) {
+            builder.evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.of(httpProperties.getIdleEvictionTimeout()));
+        }
+
+        CloseableHttpAsyncClient httpClient = builder.build();
+        httpClient.start();
+        return httpClient;
+    }
+
+    /**
+     * Keeps connections alive for the {@code timeout} of the server's {@code Keep-Alive} header,
+     * or for {@code fusionbrain.http.keep-alive} when the response carries none.
+     */
+    public ConnectionKeepAliveStrategy getKeepAliveStrategy(FusionBrainHttpProperties properties) {
+        return (response, context) -> {
+            Iterator<HeaderElement> elements = MessageSupport.iterate(response, HeaderElements.KEEP_ALIVE);
+            while (elements.hasNext()) {
+                HeaderElement element = elements.next();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        long timeout = Long.parseLong(element.getValue());
+                        if (timeout > 0) {
+                            return TimeValue.ofSeconds(timeout);
+                        }
+                    } catch (NumberFormatException ignored) {
+                        // Malformed header, keep the connection for the configured duration
+                    }
+                }
+            }
+            return TimeValue.of(properties.getKeepAlive());
+        };
+    }
+
+    public HostnameVerifier getHostnameVerifier(FusionBrainSslProperties properties) {
+        return properties.isEnabled()
+                ? HttpsSupport.getDefaultHostnameVerifier()
+                : NoopHostnameVerifier.INSTANCE;
+    }
+}
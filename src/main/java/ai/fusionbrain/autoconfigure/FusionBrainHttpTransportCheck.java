@@ -0,0 +1,22 @@
+package ai.fusionbrain.autoconfigure;
+
+import ai.fusionbrain.config.EHttpTransport;
+import ai.fusionbrain.config.FusionBrainHttpProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * Fails startup when the transport selected by {@code fusionbrain.http.transport} is missing from the classpath.
+ * Without this check the transport configuration would be skipped and Feign would silently use its default client.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FusionBrainHttpTransportCheck {
+
+    public FusionBrainHttpTransportCheck(FusionBrainHttpProperties httpProperties, ResourceLoader resourceLoader) {
+        EHttpTransport transport = httpProperties.getTransport();
+        if (!transport.isAvailable(resourceLoader.getClassLoader())) {
+            throw new IllegalStateException("fusionbrain.http.transport=" + transport.name().toLowerCase()
+                    + " requires " + transport.getDependency() + " on the classpath");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ai.fusionbrain.autoconfigure;
+
+import ai.fusionbrain.config.FusionBrainHttpProperties;
+import ai.fusionbrain.config.FusionBrainSslProperties;
+import ai.fusionbrain.utils.TrustStoreUtil;
+import feign.http2client.Http2Client;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+
+/**
+ * HTTP/2 transport based on the JDK {@link HttpClient}, enabled by {@code fusionbrain.http.transport=jdk}.
+ * The Feign client wrapping it is defined by {@link ai.fusionbrain.config.FusionBrainFeignClientConfig}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(name = "feign.http2client.Http2Client")
+@ConditionalOnProperty(prefix = "fusionbrain.http", name = "transport", havingValue = "jdk")
+public class FusionBrainJdkHttpConfig {
+
+    @Bean
+    public HttpClient fusionBrainJdkHttpClient(FusionBrainSslProperties sslProperties,
+                                               FusionBrainHttpProperties httpProperties) throws Exception {
+        return createHttpClient(sslProperties, httpProperties);
+    }
+
+    /**
+     * Builds the shared JDK client.
+     * Redirect policy and connect timeout must match the Feign request options,
+     * otherwise {@link Http2Client} silently replaces this client with one that ignores the SSL settings.
+     */
+    public HttpClient createHttpClient(FusionBrainSslProperties sslProperties,
+                                       FusionBrainHttpProperties httpProperties) throws Exception {
+        if (!sslProperties.isEnabled()) {
+            log.warn("JDK HTTP transport cannot disable hostname verification per client; " +
+                    "set -Djdk.internal.httpclient.disableHostnameVerification=true if required");
+        }
+
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.ALWAYS)
+                .connectTimeout(httpProperties.getConnectTimeout())
+                .sslContext(TrustStoreUtil.createSslContext(sslProperties))
+                .build();
+    }
+}
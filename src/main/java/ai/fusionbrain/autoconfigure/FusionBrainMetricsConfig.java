@@ -0,0 +1,49 @@
+package ai.fusionbrain.autoconfigure;
+
+import ai.fusionbrain.metrics.FusionBrainMetrics;
+import ai.fusionbrain.metrics.MicrometerFusionBrainMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+public class FusionBrainMetricsConfig {
+
+    /**
+     * Records client operations into the context's {@link MeterRegistry} and binds gauges of the async executor
+     * and, with the default transport, of the HTTP connection pool.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FusionBrainMetrics fusionBrainMetrics(
+            MeterRegistry meterRegistry,
+            @Qualifier("fusionBrainAsyncExecutor") Executor fusionBrainAsyncExecutor,
+            ObjectProvider<PoolingHttpClientConnectionManager> fusionBrainConnectionManager
+    ) {
+        MicrometerFusionBrainMetrics metrics = new MicrometerFusionBrainMetrics(meterRegistry);
+
+        if (fusionBrainAsyncExecutor instanceof ThreadPoolTaskExecutor taskExecutor) {
+            metrics.bindExecutor(taskExecutor.getThreadPoolExecutor());
+        } else if (fusionBrainAsyncExecutor instanceof ThreadPoolExecutor threadPool) {
+            metrics.bindExecutor(threadPool);
+        }
+
+        fusionBrainConnectionManager.ifAvailable(connectionManager -> metrics.bindConnectionPool(
+                () -> connectionManager.getTotalStats().getLeased(),
+                () -> connectionManager.getTotalStats().getAvailable(),
+                () -> connectionManager.getTotalStats().getPending()));
+        return metrics;
+    }
+}
@@ -0,0 +1,26 @@
+package ai.fusionbrain.autoconfigure;
+
+import ai.fusionbrain.observation.FusionBrainTracing;
+import ai.fusionbrain.observation.ObservationFusionBrainTracing;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.observation.ObservationRegistry")
+@ConditionalOnBean(type = "io.micrometer.observation.ObservationRegistry")
+public class FusionBrainObservationConfig {
+
+    /**
+     * Observes every task from its submission to its completion, with a child observation per API call, through
+     * the context's {@link ObservationRegistry}.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FusionBrainTracing fusionBrainTracing(ObservationRegistry observationRegistry) {
+        return new ObservationFusionBrainTracing(observationRegistry);
+    }
+}
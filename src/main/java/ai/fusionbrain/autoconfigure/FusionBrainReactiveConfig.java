@@ -0,0 +1,92 @@
+package ai.fusionbrain.autoconfigure;
+
+import ai.fusionbrain.client.ReactiveFusionBrainClient;
+import ai.fusionbrain.client.ReactiveFusionBrainClientImpl;
+import ai.fusionbrain.config.FeignConfig;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.config.FusionBrainSslProperties;
+import ai.fusionbrain.polling.PollingStrategy;
+import ai.fusionbrain.utils.TrustStoreUtil;
+import ai.fusionbrain.utils.ValidationUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManagerFactory;
+import java.security.KeyStore;
+
+@Configuration
+@ConditionalOnClass(name = {
+        "org.springframework.web.reactive.function.client.WebClient",
+        "reactor.netty.http.client.HttpClient"
+})
+@ConditionalOnProperty(prefix = "fusionbrain", name = "enabled", havingValue = "true")
+public class FusionBrainReactiveConfig {
+    private static final String API_PATH = "/key/api/v1";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveFusionBrainClient reactiveFusionBrainClient(
+            ObjectProvider<WebClient.Builder> webClientBuilder,
+            ObjectMapper objectMapper,
+            FusionBrainProperties properties,
+            FusionBrainSslProperties sslProperties,
+            PollingStrategy fusionBrainPollingStrategy,
+            ObjectProvider<Validator> validator
+    ) throws Exception {
+        WebClient webClient = webClientBuilder.getIfAvailable(WebClient::builder).clone()
+                .baseUrl(properties.getBaseUrl() + API_PATH)
+                .defaultHeader(FeignConfig.KEY_HEADER, FeignConfig.KEY_PREFIX + properties.getApiKey())
+                .defaultHeader(FeignConfig.SECRET_HEADER, FeignConfig.SECRET_PREFIX + properties.getApiSecret())
+                .clientConnector(new ReactorClientHttpConnector(createHttpClient(sslProperties)))
+                // Completed status responses carry base64 images that exceed the default buffer limit
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(-1))
+                .build();
+
+        return new ReactiveFusionBrainClientImpl(webClient, objectMapper, properties, fusionBrainPollingStrategy,
+                validator.getIfUnique(ValidationUtil::getDefaultValidator));
+    }
+
+    public HttpClient createHttpClient(FusionBrainSslProperties properties) throws Exception {
+        SslContext sslContext = createSslContext(properties);
+        return HttpClient.create().secure(spec -> spec.sslContext(sslContext)
+                .handlerConfigurator(handler -> {
+                    if (!properties.isEnabled()) {
+                        SSLEngine engine = handler.engine();
+                        SSLParameters parameters = engine.getSSLParameters();
+                        parameters.setEndpointIdentificationAlgorithm(null);
+                        engine.setSSLParameters(parameters);
+                    }
+                }));
+    }
+
+    public SslContext createSslContext(FusionBrainSslProperties properties) throws Exception {
+        SslContextBuilder builder = SslContextBuilder.forClient();
+
+        if (!properties.isEnabled()) {
+            builder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+        } else {
+            KeyStore trustStore = TrustStoreUtil.loadTrustStore(properties);
+            if (trustStore != null) {
+                TrustManagerFactory trustManagerFactory =
+                        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+                trustManagerFactory.init(trustStore);
+                builder.trustManager(trustManagerFactory);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -1,24 +1,33 @@
 package ai.fusionbrain.autoconfigure;
 
+import ai.fusionbrain.config.FusionBrainHttpProperties;
 import ai.fusionbrain.config.FusionBrainSslProperties;
+import ai.fusionbrain.utils.TrustStoreUtil;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.SSLContexts;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.DefaultResourceLoader;
-import org.springframework.core.io.Resource;
-import org.springframework.util.StringUtils;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
-import java.io.InputStream;
 import java.security.KeyStore;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @ConditionalOnClass(name = "feign.httpclient.ApacheHttpClient")
@@ -26,19 +35,48 @@ import java.security.KeyStore;
 public class FusionBrainSslConfig {
 
     @Bean
-    public CloseableHttpClient fusionBrainHttpClient(FusionBrainSslProperties properties)
+    @ConditionalOnProperty(prefix = "fusionbrain.http", name = "transport", havingValue = "apache", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager fusionBrainConnectionManager(FusionBrainSslProperties sslProperties,
+                                                                           FusionBrainHttpProperties httpProperties)
             throws Exception {
 
-        SSLContext sslContext = createSslContext(properties);
-
-        return HttpClients.custom()
-                .setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(
-                                sslContext,
-                                getHostnameVerifier(properties)
-                        )
-                )
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(
+                        createSslContext(sslProperties),
+                        getHostnameVerifier(sslProperties)
+                ))
                 .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                socketFactoryRegistry, null, null, null,
+                httpProperties.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS
+        );
+        connectionManager.setMaxTotal(httpProperties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(httpProperties.getMaxConnectionsPerRoute());
+        connectionManager.setValidateAfterInactivity(Math.toIntExact(httpProperties.getValidateAfterInactivity().toMillis()));
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "fusionbrain.http", name = "transport", havingValue = "apache", matchIfMissing = true)
+    public CloseableHttpClient fusionBrainHttpClient(PoolingHttpClientConnectionManager fusionBrainConnectionManager,
+                                                     FusionBrainHttpProperties httpProperties) {
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(fusionBrainConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(Math.toIntExact(httpProperties.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Math.toIntExact(httpProperties.getReadTimeout().toMillis()))
+                        .setConnectionRequestTimeout(Math.toIntExact(httpProperties.getConnectionRequestTimeout().toMillis()))
+                        .build())
+                .setKeepAliveStrategy(getKeepAliveStrategy(httpProperties));
+
+        if (httpProperties.getIdleEvictionTimeout().compareTo(Duration.ZERO) > 0) {
+            builder.evictExpiredConnections()
+                    .evictIdleConnections(httpProperties.getIdleEvictionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
     }
 
     public SSLContext createSslContext(FusionBrainSslProperties properties) throws Exception {
@@ -46,11 +84,9 @@ public class FusionBrainSslConfig {
 
         if (!properties.isEnabled()) {
             builder.loadTrustMaterial((chain, authType) -> true);
-        } else if (StringUtils.hasText(properties.getTruststore())) {
-            Resource resource = new DefaultResourceLoader().getResource(properties.getTruststore());
-            try (InputStream is = resource.getInputStream()) {
-                KeyStore trustStore = KeyStore.getInstance(properties.getTruststoreType());
-                trustStore.load(is, properties.getTruststorePassword().toCharArray());
+        } else {
+            KeyStore trustStore = TrustStoreUtil.loadTrustStore(properties);
+            if (trustStore != null) {
                 builder.loadTrustMaterial(trustStore, null);
             }
         }
@@ -62,4 +98,11 @@ public class FusionBrainSslConfig {
                 ? SSLConnectionSocketFactory.getDefaultHostnameVerifier()
                 : NoopHostnameVerifier.INSTANCE;
     }
-}
\ No newline at end of file
+
+    public ConnectionKeepAliveStrategy getKeepAliveStrategy(FusionBrainHttpProperties properties) {
+        return (response, context) -> {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? keepAlive : properties.getKeepAlive().toMillis();
+        };
+    }
+}
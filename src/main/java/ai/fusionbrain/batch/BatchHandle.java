@@ -0,0 +1,291 @@
+package ai.fusionbrain.batch;
+
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.exception.SubmissionRejectedException;
+import ai.fusionbrain.queue.ESubmissionPriority;
+import ai.fusionbrain.queue.FusionBrainSubmissionQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Running batch of pipeline runs started by {@link FusionBrainClient#runBatch} or
+ * {@link FusionBrainSubmissionQueue#runBatch}.
+ * <p>
+ * Every item has its own future, completed with the final status of its task or exceptionally if it could not be
+ * submitted or awaited. A failed item does not affect the others, and {@link #getResult()} completes normally once all
+ * items are finished.
+ * </p>
+ */
+@Slf4j
+public final class BatchHandle {
+    private final FusionBrainClient client;
+    private final Executor executor;
+    // Set when items go through the batch lane of the queue instead of the executor
+    private final FusionBrainSubmissionQueue queue;
+    private final Executor dispatcher;
+    private final UUID pipelineId;
+    private final List<PipelineParams> params;
+    private final int parallelism;
+    private final int submitConcurrency;
+    private final List<CompletableFuture<StatusResponse>> items;
+    private final CompletableFuture<BatchResult> result = new CompletableFuture<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    // Guarded by this
+    private int next;
+    private int inFlight;
+    private int submitting;
+    private boolean cancelled;
+
+    BatchHandle(FusionBrainClient client, Executor executor, FusionBrainSubmissionQueue queue, Executor dispatcher,
+                UUID pipelineId, List<PipelineParams> params, int parallelism, int submitConcurrency) {
+        this.client = client;
+        this.executor = executor;
+        this.queue = queue;
+        this.dispatcher = dispatcher;
+        this.pipelineId = pipelineId;
+        this.params = params;
+        this.parallelism = parallelism;
+        this.submitConcurrency = submitConcurrency;
+
+        List<CompletableFuture<StatusResponse>> futures = new ArrayList<>(params.size());
+        for (int i = 0; i < params.size(); i++) {
+            CompletableFuture<StatusResponse> item = new CompletableFuture<>();
+            item.whenComplete(this::onItemCompleted);
+            futures.add(item);
+        }
+        this.items = Collections.unmodifiableList(futures);
+    }
+
+    /**
+     * Returns the future of every item, in the order of the submitted parameters.
+     *
+     * @return Futures completed with the final {@link StatusResponse} of each item.
+     */
+    public List<CompletableFuture<StatusResponse>> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the future completed with the outcome of all items once every item is finished. It never completes
+     * exceptionally; failures of single items are reported by {@link BatchResult#getErrors()}.
+     *
+     * @return Future of the batch result.
+     */
+    public CompletableFuture<BatchResult> getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the number of items.
+     *
+     * @return Number of items.
+     */
+    public int getSize() {
+        return items.size();
+    }
+
+    /**
+     * Returns the number of finished items, whether they succeeded or not.
+     *
+     * @return Number of completed items.
+     */
+    public int getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * Returns the number of items that failed with an exception or finished with any status other than
+     * {@link EResourceStatus#DONE} so far.
+     *
+     * @return Number of failed items.
+     */
+    public int getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Returns the number of items submitted and not yet completed.
+     *
+     * @return Number of in-flight items.
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the share of finished items.
+     *
+     * @return Progress between {@code 0.0} and {@code 1.0}.
+     */
+    public double getProgress() {
+        return items.isEmpty() ? 1.0 : (double) completed.get() / items.size();
+    }
+
+    /**
+     * Stops submitting items. Items not submitted yet complete with a {@link CancellationException}; tasks already
+     * running at the API are still awaited.
+     */
+    public void cancel() {
+        int from;
+        synchronized (this) {
+            cancelled = true;
+            from = next;
+            next = items.size();
+        }
+        for (int i = from; i < items.size(); i++) {
+            items.get(i).completeExceptionally(new CancellationException("Batch was cancelled"));
+        }
+    }
+
+    void start() {
+        if (items.isEmpty()) {
+            result.complete(new BatchResult(List.of(), Map.of()));
+            return;
+        }
+        dispatchReady();
+    }
+
+    /**
+     * Dispatches submissions while the batch has a free in-flight slot and a free submission slot; items going
+     * through the queue need no submission slot, the queue limits them by pipeline.
+     * Called directly only by the thread starting the batch; see {@link #dispatchReadyLater()}.
+     */
+    private void dispatchReady() {
+        while (true) {
+            int index;
+            synchronized (this) {
+                // Items completed by the caller before their turn are skipped
+                while (next < items.size() && items.get(next).isDone()) {
+                    next++;
+                }
+                if (cancelled || next >= items.size() || inFlight >= parallelism
+                        || (queue == null && submitting >= submitConcurrency)) {
+                    return;
+                }
+                index = next++;
+                inFlight++;
+                if (queue == null) {
+                    submitting++;
+                }
+            }
+
+            if (queue != null) {
+                enqueue(index);
+                continue;
+            }
+            try {
+                executor.execute(() -> submit(index));
+            } catch (RejectedExecutionException e) {
+                log.error("Async executor rejected batch item {} for pipeline {}", index, pipelineId);
+                submitted();
+                finish(index, null, new SubmissionRejectedException("Async executor rejected the batch item", e));
+            }
+        }
+    }
+
+    private void submit(int index) {
+        CompletableFuture<StatusResponse> item = items.get(index);
+        RunResponse runResponse;
+        try {
+            runResponse = item.isDone() ? null : client.runPipeline(pipelineId, params.get(index));
+        } catch (Exception e) {
+            log.debug("Batch item {} for pipeline {} failed to submit: {}", index, pipelineId, e.getMessage());
+            submitted();
+            finish(index, null, e);
+            return;
+        }
+
+        submitted();
+        if (runResponse == null) {
+            finish(index, null, null);
+            return;
+        }
+        try {
+            client.waitForCompletion(pipelineId, runResponse)
+                    .whenComplete((status, error) -> finish(index, status, error));
+        } catch (Exception e) {
+            finish(index, null, e);
+        }
+        dispatchReadyLater();
+    }
+
+    private void enqueue(int index) {
+        CompletableFuture<StatusResponse> queued;
+        try {
+            queued = queue.submit(pipelineId, params.get(index), ESubmissionPriority.BATCH);
+        } catch (RuntimeException e) {
+            queued = CompletableFuture.failedFuture(e);
+        }
+        queued.whenComplete((status, error) -> finish(index, status, error));
+    }
+
+    private void submitted() {
+        synchronized (this) {
+            submitting--;
+        }
+    }
+
+    private void finish(int index, StatusResponse status, Throwable error) {
+        synchronized (this) {
+            inFlight--;
+        }
+        if (error != null) {
+            items.get(index).completeExceptionally(unwrap(error));
+        } else if (status != null) {
+            items.get(index).complete(status);
+        }
+        dispatchReadyLater();
+    }
+
+    /**
+     * Hands dispatching over to the dispatcher thread. Submissions and completion callbacks may run on a thread of
+     * the limited executor, where submitting the next item could block on a slot held by the caller itself.
+     */
+    private void dispatchReadyLater() {
+        dispatcher.execute(this::dispatchReady);
+    }
+
+    private void onItemCompleted(StatusResponse status, Throwable error) {
+        if (error != null || status == null || status.getStatus() != EResourceStatus.DONE) {
+            failed.incrementAndGet();
+        }
+        if (completed.incrementAndGet() == items.size()) {
+            result.complete(collectResult());
+        }
+    }
+
+    private BatchResult collectResult() {
+        List<StatusResponse> statuses = new ArrayList<>(items.size());
+        Map<Integer, Throwable> errors = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                statuses.add(items.get(i).join());
+            } catch (CompletionException | CancellationException e) {
+                statuses.add(null);
+                errors.put(i, unwrap(e));
+            }
+        }
+        return new BatchResult(statuses, errors);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
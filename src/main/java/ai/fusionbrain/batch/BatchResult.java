@@ -0,0 +1,80 @@
+package ai.fusionbrain.batch;
+
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.StatusResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of every item of a batch started by {@link ai.fusionbrain.client.FusionBrainClient#runBatch}, in the order
+ * of the submitted parameters.
+ */
+public final class BatchResult {
+    private final List<StatusResponse> statuses;
+    private final Map<Integer, Throwable> errors;
+
+    BatchResult(List<StatusResponse> statuses, Map<Integer, Throwable> errors) {
+        this.statuses = Collections.unmodifiableList(statuses);
+        this.errors = Collections.unmodifiableMap(new TreeMap<>(errors));
+    }
+
+    /**
+     * Returns the final status of every item, {@code null} for items that failed with an exception.
+     *
+     * @return Final statuses by item index.
+     */
+    public List<StatusResponse> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Returns the exceptions of the items that could not be submitted or awaited.
+     *
+     * @return Exceptions by item index.
+     */
+    public Map<Integer, Throwable> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of items.
+     *
+     * @return Number of items.
+     */
+    public int getSize() {
+        return statuses.size();
+    }
+
+    /**
+     * Returns the number of items that finished with status {@link EResourceStatus#DONE}.
+     *
+     * @return Number of generated items.
+     */
+    public int getSucceededCount() {
+        return (int) statuses.stream()
+                .filter(status -> status != null && status.getStatus() == EResourceStatus.DONE)
+                .count();
+    }
+
+    /**
+     * Returns the number of items that failed with an exception or finished with any status other than
+     * {@link EResourceStatus#DONE}.
+     *
+     * @return Number of failed items.
+     */
+    public int getFailedCount() {
+        return getSize() - getSucceededCount();
+    }
+
+    /**
+     * Returns whether every item finished with status {@link EResourceStatus#DONE}.
+     *
+     * @return {@code true} if no item failed.
+     */
+    public boolean isAllSucceeded() {
+        return getFailedCount() == 0;
+    }
+}
@@ -0,0 +1,94 @@
+package ai.fusionbrain.batch;
+
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.queue.FusionBrainSubmissionQueue;
+import ai.fusionbrain.resilience.HandOffExecutor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Starts batches of pipeline runs for {@link FusionBrainClient#runBatch} and {@link FusionBrainSubmissionQueue#runBatch}.
+ * <p>
+ * At most {@code parallelism} items of a batch are in flight, from their submission until their completion has been
+ * awaited. Items of a client batch are submitted on the executor, at most {@code batch.submit-concurrency} at a time;
+ * items of a queue batch are handed to the queue's batch lane, which also applies its per-pipeline limit. Waiting
+ * for completion goes through the client's shared status poller, so a batch of any size holds no thread between
+ * polls and leaves the executor free for other work.
+ * Items freed by a submission or completion are handed on from a shared dispatcher thread.
+ * </p>
+ */
+public class BatchRunner {
+    private final FusionBrainClient client;
+    private final Executor executor;
+    private final FusionBrainSubmissionQueue queue;
+    private final int parallelism;
+    private final int submitConcurrency;
+    private final Executor dispatcher = new HandOffExecutor("FusionBrainBatchDispatcher");
+
+    /**
+     * Creates a runner submitting and awaiting batch items with the given client.
+     *
+     * @param client   The client running and awaiting the tasks.
+     * @param settings The batch settings.
+     * @param executor Executor running the submissions.
+     */
+    public BatchRunner(FusionBrainClient client, FusionBrainProperties.Batch settings, Executor executor) {
+        this.client = client;
+        this.executor = executor;
+        this.queue = null;
+        this.parallelism = settings.getParallelism();
+        this.submitConcurrency = settings.getSubmitConcurrency();
+    }
+
+    /**
+     * Creates a runner handing batch items to the {@link ai.fusionbrain.queue.ESubmissionPriority#BATCH} lane of a
+     * submission queue.
+     *
+     * @param queue       The queue running and awaiting the tasks.
+     * @param parallelism Default maximum number of items submitted and not yet completed.
+     */
+    public BatchRunner(FusionBrainSubmissionQueue queue, int parallelism) {
+        this.client = null;
+        this.executor = null;
+        this.queue = queue;
+        this.parallelism = parallelism;
+        this.submitConcurrency = 0;
+    }
+
+    /**
+     * Starts a batch with the default parallelism, {@code batch.parallelism} for a client batch.
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters of every item.
+     * @return Handle of the started batch.
+     */
+    public BatchHandle run(UUID pipelineId, List<? extends PipelineParams> params) {
+        return run(pipelineId, params, this.parallelism);
+    }
+
+    /**
+     * Starts a batch.
+     *
+     * @param pipelineId  The unique identifier of the pipeline to run.
+     * @param params      The parameters of every item.
+     * @param parallelism Maximum number of items submitted and not yet completed.
+     * @return Handle of the started batch.
+     */
+    public BatchHandle run(UUID pipelineId, List<? extends PipelineParams> params, int parallelism) {
+        Objects.requireNonNull(pipelineId, "pipelineId");
+        Objects.requireNonNull(params, "params");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+
+        BatchHandle handle = new BatchHandle(client, executor, queue, dispatcher, pipelineId, List.copyOf(params),
+                parallelism, submitConcurrency);
+        handle.start();
+        return handle;
+    }
+}
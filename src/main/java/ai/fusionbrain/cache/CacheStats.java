@@ -0,0 +1,49 @@
+package ai.fusionbrain.cache;
+
+import lombok.Value;
+
+/**
+ * Snapshot of the statistics of a {@link RefreshingCache}.
+ */
+@Value
+public class CacheStats {
+    /**
+     * Statistics of a cache that has not served any request.
+     */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0);
+
+    /**
+     * Number of requests served from a cached entry.
+     */
+    long hitCount;
+
+    /**
+     * Number of requests that found no fresh entry and waited for a load.
+     */
+    long missCount;
+
+    /**
+     * Number of loads that stored a new entry, including background refreshes.
+     */
+    long loadSuccessCount;
+
+    /**
+     * Number of loads that failed, including background refreshes.
+     */
+    long loadFailureCount;
+
+    /**
+     * Number of background refreshes started before an entry expired.
+     */
+    long refreshCount;
+
+    /**
+     * Returns the share of requests served from a cached entry.
+     *
+     * @return Hit rate between 0.0 and 1.0, or 1.0 if no request has been served.
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
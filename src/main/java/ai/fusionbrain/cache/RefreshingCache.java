@@ -0,0 +1,201 @@
+package ai.fusionbrain.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache keeping loaded values for a fixed time to live.
+ * <p>
+ * Concurrent requests for a missing or expired key share a single load. Once an entry is older than the
+ * refresh-ahead threshold, the next request still gets the cached value while a reload runs on the executor,
+ * so frequently requested keys never expire in front of a caller. Failed loads are not cached.
+ * </p>
+ *
+ * @param <K> Type of the keys; {@code null} is a valid key.
+ * @param <V> Type of the cached values.
+ */
+@Slf4j
+public class RefreshingCache<K, V> {
+    private static final Object NULL_KEY = new Object();
+
+    private final String name;
+    private final Function<K, V> loader;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<Object, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    /**
+     * Creates a cache timed by {@link System#nanoTime()}.
+     *
+     * @param name         Name used in log messages.
+     * @param loader       Function loading the value of a key.
+     * @param ttl          Time an entry is served after it was loaded.
+     * @param refreshAhead Share of {@code ttl} after which a requested entry is reloaded in the background;
+     *                     {@code 1.0} disables refresh-ahead.
+     * @param executor     Executor running background refreshes.
+     */
+    public RefreshingCache(String name, Function<K, V> loader, Duration ttl, double refreshAhead, Executor executor) {
+        this(name, loader, ttl, refreshAhead, executor, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache timed by the given clock.
+     *
+     * @param name         Name used in log messages.
+     * @param loader       Function loading the value of a key.
+     * @param ttl          Time an entry is served after it was loaded.
+     * @param refreshAhead Share of {@code ttl} after which a requested entry is reloaded in the background;
+     *                     {@code 1.0} disables refresh-ahead.
+     * @param executor     Executor running background refreshes.
+     * @param nanoClock    Monotonic clock in nanoseconds.
+     */
+    public RefreshingCache(String name, Function<K, V> loader, Duration ttl, double refreshAhead, Executor executor,
+                           LongSupplier nanoClock) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        if (refreshAhead < 0.0 || refreshAhead > 1.0) {
+            throw new IllegalArgumentException("Refresh-ahead must be between 0.0 and 1.0");
+        }
+        this.name = name;
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAfterNanos = (long) (ttlNanos * refreshAhead);
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the cached value of a key, loading it if there is no fresh entry.
+     *
+     * @param key The key.
+     * @return The cached or freshly loaded value.
+     * @throws RuntimeException The exception thrown by the loader if the value had to be loaded and loading failed.
+     */
+    public V get(K key) {
+        Object mapKey = key == null ? NULL_KEY : key;
+        Entry<V> entry = entries.get(mapKey);
+        if (entry != null) {
+            long age = nanoClock.getAsLong() - entry.loadedAtNanos;
+            if (age < ttlNanos) {
+                hits.increment();
+                if (age >= refreshAfterNanos) {
+                    refresh(key, mapKey);
+                }
+                return entry.value;
+            }
+        }
+
+        misses.increment();
+        try {
+            return load(key, mapKey, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Discards the entry of a key. A load already running for it may still store its result.
+     *
+     * @param key The key.
+     */
+    public void invalidate(K key) {
+        entries.remove(key == null ? NULL_KEY : key);
+    }
+
+    /**
+     * Discards all entries.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return The current statistics.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(), refreshes.sum());
+    }
+
+    private void refresh(K key, Object mapKey) {
+        if (loads.containsKey(mapKey)) {
+            return;
+        }
+        load(key, mapKey, true).whenComplete((value, e) -> {
+            if (e != null) {
+                log.warn("Background refresh of {} cache entry {} failed: {}", name, key, e.getMessage());
+            }
+        });
+    }
+
+    private CompletableFuture<V> load(K key, Object mapKey, boolean background) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> running = loads.putIfAbsent(mapKey, load);
+        if (running != null) {
+            log.trace("Joining running load of {} cache entry {}", name, key);
+            return running;
+        }
+
+        Runnable task = () -> {
+            try {
+                V value = loader.apply(key);
+                entries.put(mapKey, new Entry<>(value, nanoClock.getAsLong()));
+                loadSuccesses.increment();
+                load.complete(value);
+            } catch (Throwable e) {
+                // Errors must complete the load too, otherwise callers joining it would wait forever
+                loadFailures.increment();
+                load.completeExceptionally(e);
+                if (e instanceof Error error) {
+                    throw error;
+                }
+            } finally {
+                loads.remove(mapKey, load);
+            }
+        };
+
+        if (!background) {
+            task.run();
+            return load;
+        }
+
+        try {
+            log.debug("Refreshing {} cache entry {} ahead of expiry", name, key);
+            refreshes.increment();
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            loads.remove(mapKey, load);
+            load.completeExceptionally(e);
+        }
+        return load;
+    }
+
+    private record Entry<V>(V value, long loadedAtNanos) {
+    }
+}
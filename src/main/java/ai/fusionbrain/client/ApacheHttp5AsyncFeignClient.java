@@ -0,0 +1,110 @@
+package ai.fusionbrain.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Feign {@link Client} on top of the Apache HttpClient 5 async client.
+ * <p>
+ * The async client is the only HttpClient 5 flavour that speaks HTTP/2, so concurrent calls from different
+ * threads share multiplexed streams of one connection instead of leasing a connection each.
+ * The calling thread still blocks until the response has been fully received, as Feign expects.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ApacheHttp5AsyncFeignClient implements Client {
+    /**
+     * Headers computed by the transport itself; HTTP/2 forbids connection-specific headers altogether.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.CONTENT_TYPE.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.HOST.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase()
+    );
+
+    private final CloseableHttpAsyncClient httpClient;
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Future<SimpleHttpResponse> future = httpClient.execute(toHttpRequest(request, options), null);
+        try {
+            return toFeignResponse(future.get(), request);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + request.url());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    SimpleHttpRequest toHttpRequest(Request request, Request.Options options) {
+        SimpleRequestBuilder builder = SimpleRequestBuilder.create(request.httpMethod().name())
+                .setUri(request.url());
+
+        String contentType = null;
+        for (Map.Entry<String, Collection<String>> header : request.headers().entrySet()) {
+            String name = header.getKey().toLowerCase();
+            if (name.equals(HttpHeaders.CONTENT_TYPE.toLowerCase()) && !header.getValue().isEmpty()) {
+                contentType = header.getValue().iterator().next();
+            }
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                header.getValue().forEach(value -> builder.addHeader(header.getKey(), value));
+            }
+        }
+
+        if (request.body() != null) {
+            builder.setBody(request.body(), contentType != null
+                    ? ContentType.parse(contentType)
+                    : ContentType.APPLICATION_OCTET_STREAM);
+        }
+
+        builder.setRequestConfig(RequestConfig.custom()
+                .setResponseTimeout(Timeout.of(options.readTimeout(), options.readTimeoutUnit()))
+                .setRedirectsEnabled(options.isFollowRedirects())
+                .build());
+        return builder.build();
+    }
+
+    Response toFeignResponse(SimpleHttpResponse response, Request request) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Header header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+
+        return Response.builder()
+                .status(response.getCode())
+                .reason(response.getReasonPhrase())
+                .headers(headers)
+                .request(request)
+                .body(response.getBodyBytes())
+                .build();
+    }
+}
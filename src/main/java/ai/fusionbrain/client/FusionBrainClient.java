@@ -1,13 +1,20 @@
 package ai.fusionbrain.client;
 
+import ai.fusionbrain.batch.BatchHandle;
+import ai.fusionbrain.batch.BatchRunner;
+import ai.fusionbrain.completion.CompletionPublisher;
+import ai.fusionbrain.config.FusionBrainProperties;
 import ai.fusionbrain.dto.*;
+import ai.fusionbrain.dto.request.FileSource;
 import ai.fusionbrain.dto.request.PipelineParams;
 import ai.fusionbrain.exception.FusionBrainException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Interface defining methods for interacting with FusionBrain API.
@@ -50,6 +57,20 @@ public interface FusionBrainClient {
      */
     RunResponse runPipeline(UUID pipelineId, PipelineParams params, List<byte[]> files) throws FusionBrainException;
 
+    /**
+     * Runs a specified pipeline with given parameters and files read from disk, streams, buffers or resources.
+     * Files are written into the request body directly instead of being loaded into intermediate byte arrays.
+     * Empty files are rejected with a {@link ai.fusionbrain.exception.ValidationException}; for stream sources
+     * this reads one byte ahead, which is still uploaded.
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters for the pipeline execution.
+     * @param files      The input files for the pipeline, see {@link FileSource#of}.
+     * @return {@link RunResponse} containing information about the initiated pipeline run.
+     * @throws FusionBrainException if an error occurs during the request.
+     */
+    RunResponse runPipeline(UUID pipelineId, PipelineParams params, FileSource... files) throws FusionBrainException;
+
     /**
      * Runs a specified pipeline with given parameters (without files).
      *
@@ -59,7 +80,7 @@ public interface FusionBrainClient {
      * @throws FusionBrainException if an error occurs during the request.
      */
     default RunResponse runPipeline(UUID pipelineId, PipelineParams params) throws FusionBrainException {
-        return runPipeline(pipelineId, params, null);
+        return runPipeline(pipelineId, params, (List<byte[]>) null);
     }
 
     /**
@@ -71,6 +92,28 @@ public interface FusionBrainClient {
      */
     StatusResponse getStatus(UUID taskId) throws FusionBrainException;
 
+    /**
+     * Retrieves the current status of a task without its result. The {@code result} subtree of the response
+     * is skipped while reading, so checking on a finished task does not pay for parsing its images.
+     *
+     * @param taskId The unique identifier of the task.
+     * @return {@link StatusResponse} object containing the status information, with no result.
+     * @throws FusionBrainException if an error occurs during the request.
+     */
+    StatusResponse getStatusOnly(UUID taskId) throws FusionBrainException;
+
+    /**
+     * Retrieves the current status of a running task, decoding the generated images into {@code sink}
+     * while the response is read, without holding the base64 payload in memory.
+     * The result of the returned {@link StatusResponse} carries every field except {@code files}.
+     *
+     * @param taskId The unique identifier of the task.
+     * @param sink   Destination of the decoded images, see {@link ResultSink#to}.
+     * @return {@link StatusResponse} object containing the status information.
+     * @throws FusionBrainException if an error occurs during the request or while writing an image.
+     */
+    StatusResponse getStatus(UUID taskId, ResultSink sink) throws FusionBrainException;
+
     /**
      * Asynchronously waits for a specified task to complete, polling at regular intervals.
      *
@@ -81,6 +124,79 @@ public interface FusionBrainClient {
      */
     CompletableFuture<StatusResponse> waitForCompletion(UUID taskId, long initialDelay) throws FusionBrainException;
 
+    /**
+     * Asynchronously waits for a task started by {@link #runPipeline} to complete.
+     * Knowing the pipeline lets adaptive polling strategies schedule polls from its typical generation time.
+     *
+     * @param pipelineId  The unique identifier of the pipeline that runs the task.
+     * @param runResponse The response returned when the task was started.
+     * @return {@link StatusResponse} object containing the final status after completion.
+     * @throws FusionBrainException if an error occurs during the request.
+     */
+    default CompletableFuture<StatusResponse> waitForCompletion(UUID pipelineId, RunResponse runResponse)
+            throws FusionBrainException {
+        return waitForCompletion(runResponse.getId(), runResponse.getStatusTime());
+    }
+
+    /**
+     * Asynchronously waits for a task started by {@link #runPipeline} to complete, streaming the generated images
+     * into {@code sink} as the final status is read. The sink is written on the thread running the status poll.
+     *
+     * @param pipelineId  The unique identifier of the pipeline that runs the task.
+     * @param runResponse The response returned when the task was started.
+     * @param sink        Destination of the decoded images, see {@link ResultSink#to}.
+     * @return {@link StatusResponse} object containing the final status after completion.
+     * @throws FusionBrainException if an error occurs during the request.
+     */
+    CompletableFuture<StatusResponse> waitForCompletion(UUID pipelineId, RunResponse runResponse, ResultSink sink)
+            throws FusionBrainException;
+
+    /**
+     * Awaits a set of tasks and publishes their final statuses in the order the tasks complete, so that a slow task
+     * does not hold up handling of the others. Statuses are emitted only as requested by the subscriber; use
+     * {@link CompletionPublisher#stream()} to consume them as a blocking {@link java.util.stream.Stream}.
+     *
+     * @param taskIds The unique identifiers of the tasks.
+     * @return {@link CompletionPublisher} awaiting the tasks anew for every subscriber.
+     */
+    default CompletionPublisher completions(Collection<UUID> taskIds) {
+        return new CompletionPublisher(taskIds, taskId -> waitForCompletion(taskId, 0));
+    }
+
+    /**
+     * Runs a pipeline once per item of {@code params} and awaits every task, with at most
+     * {@code fusionbrain.batch.parallelism} items in flight at a time. Items fail independently of each other.
+     * <p>
+     * Items are submitted directly, not through the {@link ai.fusionbrain.queue.FusionBrainSubmissionQueue}; use
+     * its {@code runBatch} to share the queue's per-pipeline limit with other queued work.
+     * </p>
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters of every item.
+     * @return {@link BatchHandle} with the future of every item, the progress and the aggregate result.
+     */
+    default BatchHandle runBatch(UUID pipelineId, List<? extends PipelineParams> params) {
+        return runBatch(pipelineId, params, new FusionBrainProperties.Batch().getParallelism());
+    }
+
+    /**
+     * Runs a pipeline once per item of {@code params} and awaits every task, with at most {@code parallelism} items
+     * in flight at a time. Items fail independently of each other.
+     * <p>
+     * The default implementation submits the items on the common {@link ForkJoinPool} with the default batch
+     * settings; the auto-configured client uses the configured ones and its async executor.
+     * </p>
+     *
+     * @param pipelineId  The unique identifier of the pipeline to run.
+     * @param params      The parameters of every item.
+     * @param parallelism Maximum number of items submitted and not yet completed.
+     * @return {@link BatchHandle} with the future of every item, the progress and the aggregate result.
+     */
+    default BatchHandle runBatch(UUID pipelineId, List<? extends PipelineParams> params, int parallelism) {
+        return new BatchRunner(this, new FusionBrainProperties.Batch(), ForkJoinPool.commonPool())
+                .run(pipelineId, params, parallelism);
+    }
+
     /**
      * Synchronously waits for a specified task to complete, polling at regular intervals.
      * This method blocks until the task is completed or an error occurs.
@@ -1,58 +1,298 @@
 package ai.fusionbrain.client;
 
+import ai.fusionbrain.batch.BatchHandle;
+import ai.fusionbrain.batch.BatchRunner;
+import ai.fusionbrain.cache.CacheStats;
+import ai.fusionbrain.cache.RefreshingCache;
 import ai.fusionbrain.config.FusionBrainProperties;
 import ai.fusionbrain.dto.*;
+import ai.fusionbrain.dto.request.FileSource;
 import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.exception.CircuitBreakerOpenException;
+import ai.fusionbrain.exception.FusionBrainErrorDecoder;
 import ai.fusionbrain.exception.FusionBrainException;
 import ai.fusionbrain.exception.FusionBrainServerException;
 import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.exception.RateLimitExceededException;
 import ai.fusionbrain.exception.ValidationException;
+import ai.fusionbrain.metrics.FusionBrainMetrics;
+import ai.fusionbrain.observation.FusionBrainTracing;
+import ai.fusionbrain.observation.TaskTrace;
+import ai.fusionbrain.polling.EPollingMode;
+import ai.fusionbrain.polling.PollDeferredException;
+import ai.fusionbrain.polling.PollingStrategy;
+import ai.fusionbrain.polling.ScheduledStatusPoller;
+import ai.fusionbrain.polling.StatusPoller;
+import ai.fusionbrain.polling.SweepingStatusPoller;
+import ai.fusionbrain.resilience.AdmissionController;
+import ai.fusionbrain.resilience.CircuitBreaker;
+import ai.fusionbrain.resilience.ECircuitState;
+import ai.fusionbrain.resilience.FusionBrainRetryer;
+import ai.fusionbrain.resilience.RateLimiterStats;
+import ai.fusionbrain.resilience.TokenBucket;
+import ai.fusionbrain.utils.StatusStreamUtil;
 import ai.fusionbrain.utils.ValidationUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
-@Component
-@RequiredArgsConstructor
 public class FusionBrainClientImpl implements FusionBrainClient {
+    private static final String STATUS_STREAM_METHOD = "FusionBrainFeignClient#getStatusStream(UUID)";
+    private static final int MAX_UNAWAITED_TRACES = 1024;
+
+    private final FusionBrainErrorDecoder errorDecoder = new FusionBrainErrorDecoder();
+    private final Retryer statusStreamRetryer;
+    private final long pollIntervalMillis;
+    private final long unawaitedTraceMillis;
+    private final ScheduledExecutorService pollingScheduler;
     private final FusionBrainFeignClient feignClient;
     private final ObjectMapper objectMapper;
-    private final FusionBrainProperties fusionBrainProperties;
-    private final Executor asyncExecutor;
+    private final Validator validator;
+    private final StatusPoller statusPoller;
+    private final RefreshingCache<EPipelineType, List<PipelineDTO>> pipelinesCache;
+    private final RefreshingCache<UUID, AvailabilityStatus> availabilityCache;
+    private final AdmissionController admissionController;
+    private final TokenBucket runRateLimiter;
+    private final TokenBucket statusRateLimiter;
+    private final Duration rateLimitMaxWait;
+    private final CircuitBreaker runCircuitBreaker;
+    private final CircuitBreaker statusCircuitBreaker;
+    private final CircuitBreaker pipelinesCircuitBreaker;
+    private final FusionBrainMetrics metrics;
+    private final FusionBrainTracing tracing;
+    private final BatchRunner batchRunner;
+    private final AtomicInteger inFlightSubmissions = new AtomicInteger();
+    // Tasks whose completion is awaited, shared by all callers awaiting the same task
+    private final Map<UUID, AwaitedTask> awaitedTasks = new ConcurrentHashMap<>();
+    // Spans of submitted tasks until waitForCompletion is called or they expire, guarded by itself
+    private final Map<UUID, UnawaitedTrace> unawaitedTraces = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, UnawaitedTrace> eldest) {
+            if (size() <= MAX_UNAWAITED_TRACES) {
+                return false;
+            }
+            eldest.getValue().stop();
+            return true;
+        }
+    };
+
+    private FusionBrainClientImpl(Builder builder) {
+        FusionBrainProperties fusionBrainProperties = Objects.requireNonNull(builder.properties, "properties");
+        ScheduledExecutorService pollingScheduler = Objects.requireNonNull(builder.pollingScheduler, "pollingScheduler");
+        PollingStrategy pollingStrategy = builder.pollingStrategy != null
+                ? builder.pollingStrategy : PollingStrategy.fromProperties(fusionBrainProperties);
+        Executor asyncExecutor = builder.tracing.wrap(Objects.requireNonNull(builder.asyncExecutor, "asyncExecutor"));
+
+        this.feignClient = Objects.requireNonNull(builder.feignClient, "feignClient");
+        this.objectMapper = Objects.requireNonNull(builder.objectMapper, "objectMapper");
+        this.validator = builder.validator;
+        this.metrics = builder.metrics;
+        this.tracing = builder.tracing;
+        this.statusPoller = fusionBrainProperties.getPolling().getMode() == EPollingMode.SWEEP
+                ? new SweepingStatusPoller(this::pollStatus, pollingScheduler, asyncExecutor,
+                fusionBrainProperties, pollingStrategy)
+                : new ScheduledStatusPoller(this::pollStatus, pollingScheduler, asyncExecutor,
+                fusionBrainProperties, pollingStrategy);
+
+        FusionBrainProperties.Cache cache = fusionBrainProperties.getCache();
+        if (cache.isEnabled()) {
+            this.pipelinesCache = new RefreshingCache<>("pipelines", this::fetchPipelines,
+                    cache.getPipelinesTtl(), cache.getRefreshAhead(), asyncExecutor);
+            this.availabilityCache = new RefreshingCache<>("availability", this::fetchPipelineAvailability,
+                    cache.getAvailabilityTtl(), cache.getRefreshAhead(), asyncExecutor);
+        } else {
+            this.pipelinesCache = null;
+            this.availabilityCache = null;
+        }
+
+        this.admissionController = fusionBrainProperties.getAdmission().isEnabled()
+                ? new AdmissionController(fusionBrainProperties.getAdmission(), feignClient::getPipelineAvailability,
+                pollingScheduler, asyncExecutor)
+                : null;
+
+        FusionBrainProperties.RateLimit rateLimit = fusionBrainProperties.getRateLimit();
+        if (rateLimit.isEnabled()) {
+            this.runRateLimiter = new TokenBucket(rateLimit.getRun().getPermitsPerSecond(),
+                    rateLimit.getRun().getBurst());
+            this.statusRateLimiter = new TokenBucket(rateLimit.getStatus().getPermitsPerSecond(),
+                    rateLimit.getStatus().getBurst());
+        } else {
+            this.runRateLimiter = null;
+            this.statusRateLimiter = null;
+        }
+        this.rateLimitMaxWait = rateLimit.getMaxWait();
+        this.statusStreamRetryer = new FusionBrainRetryer(fusionBrainProperties.getRetry());
+        this.pollIntervalMillis = TimeUnit.SECONDS.toMillis(fusionBrainProperties.getPollInterval());
+        // A task nobody awaited within the time an await may poll it is assumed to be abandoned
+        this.unawaitedTraceMillis = Math.max(1, fusionBrainProperties.getMaxRetries()) * pollIntervalMillis;
+        this.pollingScheduler = pollingScheduler;
+
+        FusionBrainProperties.CircuitBreaker circuitBreaker = fusionBrainProperties.getCircuitBreaker();
+        if (circuitBreaker.isEnabled()) {
+            this.runCircuitBreaker = new CircuitBreaker("run", circuitBreaker);
+            this.statusCircuitBreaker = new CircuitBreaker("status", circuitBreaker);
+            this.pipelinesCircuitBreaker = new CircuitBreaker("pipelines", circuitBreaker);
+        } else {
+            this.runCircuitBreaker = null;
+            this.statusCircuitBreaker = null;
+            this.pipelinesCircuitBreaker = null;
+        }
+
+        this.batchRunner = new BatchRunner(this, fusionBrainProperties.getBatch(), asyncExecutor);
+
+        metrics.bindClient(builder.name, statusPoller::getPendingCount, inFlightSubmissions::get);
+    }
 
     @Override
     public List<PipelineDTO> getPipelines() throws FusionBrainException {
-        log.debug("Fetching all pipelines");
-        try {
-            List<PipelineDTO> pipelines = feignClient.getPipelines(null);
-            log.debug("Successfully fetched {} pipelines", pipelines.size());
-            log.trace("Pipeline details: {}", pipelines);
-            return pipelines;
-        } catch (FusionBrainServerException e) {
-            log.error("Feign client error while getting pipelines", e);
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to get pipelines", e);
-            throw new FusionBrainException("Failed to get pipelines", e);
-        }
+        return getPipelines(null);
     }
 
     @Override
     public List<PipelineDTO> getPipelines(EPipelineType type) throws FusionBrainException {
+        return measure("pipelines", null,
+                () -> pipelinesCache != null ? pipelinesCache.get(type) : fetchPipelines(type));
+    }
+
+    @Override
+    public AvailabilityStatus getPipelineAvailability(UUID pipelineId) throws FusionBrainException {
+        return measure("availability", pipelineId, () -> availabilityCache != null
+                ? availabilityCache.get(pipelineId) : fetchPipelineAvailability(pipelineId));
+    }
+
+    /**
+     * Returns the number of tasks whose completion is currently awaited.
+     *
+     * @return Number of pending tasks.
+     */
+    public int getPendingTaskCount() {
+        return statusPoller.getPendingCount();
+    }
+
+    /**
+     * Returns the number of pipeline runs currently being submitted.
+     *
+     * @return Number of in-flight submissions.
+     */
+    public int getInFlightSubmissionCount() {
+        return inFlightSubmissions.get();
+    }
+
+    /**
+     * Returns the statistics of the pipeline list cache.
+     *
+     * @return Cache statistics, or {@link CacheStats#EMPTY} if caching is disabled.
+     */
+    public CacheStats getPipelinesCacheStats() {
+        return pipelinesCache != null ? pipelinesCache.stats() : CacheStats.EMPTY;
+    }
+
+    /**
+     * Returns the statistics of the pipeline availability cache.
+     *
+     * @return Cache statistics, or {@link CacheStats#EMPTY} if caching is disabled.
+     */
+    public CacheStats getAvailabilityCacheStats() {
+        return availabilityCache != null ? availabilityCache.stats() : CacheStats.EMPTY;
+    }
+
+    /**
+     * Returns the number of submissions held back because their pipeline was reported as disabled.
+     *
+     * @return Number of locally rejected submissions, {@code 0} if admission control is disabled.
+     */
+    public long getAdmissionRejectedCount() {
+        return admissionController != null ? admissionController.getRejectedCount() : 0;
+    }
+
+    /**
+     * Returns the statistics of the rate limiter for pipeline run submissions.
+     *
+     * @return Rate limiter statistics, or {@link RateLimiterStats#EMPTY} if rate limiting is disabled.
+     */
+    public RateLimiterStats getRunRateLimiterStats() {
+        return runRateLimiter != null ? runRateLimiter.stats() : RateLimiterStats.EMPTY;
+    }
+
+    /**
+     * Returns the statistics of the rate limiter for task status polls.
+     *
+     * @return Rate limiter statistics, or {@link RateLimiterStats#EMPTY} if rate limiting is disabled.
+     */
+    public RateLimiterStats getStatusRateLimiterStats() {
+        return statusRateLimiter != null ? statusRateLimiter.stats() : RateLimiterStats.EMPTY;
+    }
+
+    /**
+     * Returns the state of the circuit breaker for pipeline run submissions.
+     *
+     * @return Circuit state, always {@link ECircuitState#CLOSED} if circuit breakers are disabled.
+     */
+    public ECircuitState getRunCircuitState() {
+        return runCircuitBreaker != null ? runCircuitBreaker.getState() : ECircuitState.CLOSED;
+    }
+
+    /**
+     * Returns the state of the circuit breaker for task status polls.
+     *
+     * @return Circuit state, always {@link ECircuitState#CLOSED} if circuit breakers are disabled.
+     */
+    public ECircuitState getStatusCircuitState() {
+        return statusCircuitBreaker != null ? statusCircuitBreaker.getState() : ECircuitState.CLOSED;
+    }
+
+    /**
+     * Returns the state of the circuit breaker for pipeline lists and availability checks.
+     *
+     * @return Circuit state, always {@link ECircuitState#CLOSED} if circuit breakers are disabled.
+     */
+    public ECircuitState getPipelinesCircuitState() {
+        return pipelinesCircuitBreaker != null ? pipelinesCircuitBreaker.getState() : ECircuitState.CLOSED;
+    }
+
+    /**
+     * Discards all cached pipeline lists and availability statuses.
+     */
+    public void invalidateCaches() {
+        if (pipelinesCache != null) {
+            pipelinesCache.invalidateAll();
+            availabilityCache.invalidateAll();
+        }
+    }
+
+    private List<PipelineDTO> fetchPipelines(EPipelineType type) {
         log.debug("Fetching pipelines of type: {}", type);
         try {
-            List<PipelineDTO> pipelines = feignClient.getPipelines(type);
+            List<PipelineDTO> pipelines = call(pipelinesCircuitBreaker, () -> feignClient.getPipelines(type));
             log.debug("Found {} pipelines of type {}", pipelines.size(), type);
             log.trace("Pipeline details for type {}: {}", type, pipelines);
-            return pipelines;
+            // Cached lists are shared between callers
+            return pipelinesCache != null ? List.copyOf(pipelines) : pipelines;
         } catch (FusionBrainServerException e) {
             log.error("Feign client error while getting pipelines", e);
             throw e;
@@ -62,12 +302,15 @@ public class FusionBrainClientImpl implements FusionBrainClient {
         }
     }
 
-    @Override
-    public AvailabilityStatus getPipelineAvailability(UUID pipelineId) throws FusionBrainException {
+    private AvailabilityStatus fetchPipelineAvailability(UUID pipelineId) {
         log.debug("Checking availability for pipeline: {}", pipelineId);
         try {
-            AvailabilityStatus status = feignClient.getPipelineAvailability(pipelineId);
+            AvailabilityStatus status = call(pipelinesCircuitBreaker,
+                    () -> feignClient.getPipelineAvailability(pipelineId));
             log.debug("Pipeline {} availability status: {}", pipelineId, status);
+            if (admissionController != null) {
+                admissionController.onStatus(pipelineId, status != null ? status.getStatus() : null);
+            }
             return status;
         } catch (FusionBrainServerException e) {
             log.error("Feign client error while checking pipeline {} availability: {}", pipelineId, e.getMessage());
@@ -80,34 +323,100 @@ public class FusionBrainClientImpl implements FusionBrainClient {
 
     @Override
     public RunResponse runPipeline(UUID pipelineId, PipelineParams params, List<byte[]> files) throws FusionBrainException {
+        log.trace("Files count: {}", files != null ? files.size() : 0);
+
+        return submit(pipelineId, params, () -> {
+            if (files == null) {
+                return null;
+            }
+            files.forEach(file -> {
+                if (file == null || file.length == 0) {
+                    log.error("Validation failed: File content is null or empty");
+                    throw new ValidationException("File content cannot be null or empty");
+                }
+            });
+            log.debug("All {} files passed validation", files.size());
+            return files.stream().map(FileSource::of).toList();
+        });
+    }
+
+    @Override
+    public RunResponse runPipeline(UUID pipelineId, PipelineParams params, FileSource... files) throws FusionBrainException {
+        log.trace("Files count: {}", files != null ? files.length : 0);
+
+        return submit(pipelineId, params, () -> {
+            if (files == null) {
+                return null;
+            }
+            for (FileSource file : files) {
+                if (file == null || file.isEmpty()) {
+                    log.error("Validation failed: File content is null or empty");
+                    throw new ValidationException("File content cannot be null or empty");
+                }
+            }
+            log.debug("All {} files passed validation", files.length);
+            return List.of(files);
+        });
+    }
+
+    private RunResponse submit(UUID pipelineId, PipelineParams params, Callable<List<FileSource>> files) {
+        inFlightSubmissions.incrementAndGet();
+        TaskTrace trace = tracing.startTask(pipelineId);
+        try {
+            RunResponse response = trace.within(
+                    () -> measure("run", pipelineId, () -> doSubmit(pipelineId, params, files, trace)));
+            trace.taskId(response.getId());
+            if (trace != TaskTrace.NOOP) {
+                keepTrace(response.getId(), trace);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            trace.stop(0, e);
+            throw e;
+        } finally {
+            inFlightSubmissions.decrementAndGet();
+        }
+    }
+
+    private RunResponse doSubmit(UUID pipelineId, PipelineParams params, Callable<List<FileSource>> files,
+                                 TaskTrace trace) {
         log.debug("Starting pipeline execution for pipeline: {}", pipelineId);
         log.trace("Pipeline parameters: {}", params);
-        log.trace("Files count: {}", files != null ? files.size() : 0);
 
+        long start = System.nanoTime();
         try {
             if (Objects.nonNull(params)) {
-                ValidationUtil.validate(params);
+                ValidationUtil.validate(params, validator);
             }
 
             log.debug("Pipeline parameters validation successful");
 
-            if (files != null) {
-                files.forEach(file -> {
-                    if (file == null || file.length == 0) {
-                        log.error("Validation failed: File content is null or empty");
-                        throw new ValidationException("File content cannot be null or empty");
-                    }
-                });
-                log.debug("All {} files passed validation", files.size());
+            if (admissionController != null) {
+                admissionController.admit(pipelineId);
             }
 
-            var paramsNode = objectMapper.valueToTree(params);
-            log.trace("Converted params to JSON node: {}", paramsNode);
+            acquirePermit(runRateLimiter, "pipeline run");
+            long admitted = System.nanoTime();
+            trace.event("queued", admitted - start);
 
-            var response = feignClient.runPipeline(paramsNode, pipelineId, files);
+            List<FileSource> fileSources = files.call();
+            if (fileSources != null && !fileSources.isEmpty()) {
+                long uploadSize = 0;
+                for (FileSource fileSource : fileSources) {
+                    uploadSize += Math.max(0, fileSource.contentLength());
+                }
+                metrics.recordUpload(pipelineId, uploadSize);
+            }
+            var response = call(runCircuitBreaker, () -> feignClient.runPipeline(params, pipelineId,
+                    fileSources == null || fileSources.isEmpty() ? null : fileSources));
+            trace.event("uploaded", System.nanoTime() - admitted);
             log.debug("Pipeline execution started successfully for pipeline: {}", pipelineId);
             log.trace("Initial response: {}", response);
 
+            if (admissionController != null) {
+                admissionController.onStatus(pipelineId, response.getModelStatus());
+            }
+
             if (Objects.nonNull(response.getModelStatus()) && response.getModelStatus().isDisabled()) {
                 log.debug("Attempted to use disabled model in pipeline: {}", pipelineId);
                 throw new PipelineDisabledException("Pipeline is currently disabled and cannot process requests");
@@ -120,6 +429,9 @@ public class FusionBrainClientImpl implements FusionBrainClient {
         } catch (PipelineDisabledException e) {
             log.error("Pipeline disabled error: {}", e.getMessage());
             throw e;
+        } catch (RateLimitExceededException e) {
+            log.error("Rate limit exceeded for pipeline {}: {}", pipelineId, e.getMessage());
+            throw e;
         } catch (FusionBrainServerException e) {
             log.error("Feign client error while executing pipeline {}: {}", pipelineId, e.getMessage());
             throw e;
@@ -131,9 +443,16 @@ public class FusionBrainClientImpl implements FusionBrainClient {
 
     @Override
     public StatusResponse getStatus(UUID taskId) throws FusionBrainException {
+        return measure("status", null, () -> {
+            acquirePermit(statusRateLimiter, "status poll");
+            return fetchStatus(taskId);
+        });
+    }
+
+    private StatusResponse fetchStatus(UUID taskId) {
         log.debug("Fetching status for task: {}", taskId);
         try {
-            StatusResponse status = feignClient.getStatus(taskId);
+            StatusResponse status = call(statusCircuitBreaker, () -> feignClient.getStatus(taskId));
             log.debug("Task {} status: {}", taskId, status.getStatus());
             log.trace("Full status response: {}", status);
             return status;
@@ -146,76 +465,444 @@ public class FusionBrainClientImpl implements FusionBrainClient {
         }
     }
 
+    @Override
+    public StatusResponse getStatusOnly(UUID taskId) throws FusionBrainException {
+        log.debug("Fetching status for task: {} (without result)", taskId);
+        return measure("status-only", null, () -> {
+            acquirePermit(statusRateLimiter, "status poll");
+            return readStatus(taskId, in -> objectMapper.readerFor(StatusResponse.class)
+                    .withView(StatusResponse.StatusOnly.class)
+                    .readValue(in));
+        });
+    }
+
+    @Override
+    public StatusResponse getStatus(UUID taskId, ResultSink sink) throws FusionBrainException {
+        log.debug("Fetching status for task: {} (streaming result)", taskId);
+        return measure("status-stream", null, () -> {
+            acquirePermit(statusRateLimiter, "status poll");
+            return readStatus(taskId, in -> StatusStreamUtil.read(objectMapper, in, sink));
+        });
+    }
+
+    private StatusResponse readStatus(UUID taskId, StatusReader reader) {
+        try {
+            StatusResponse status = call(statusCircuitBreaker, () -> readStatusStream(taskId, reader));
+            log.debug("Task {} status: {}", taskId, status.getStatus());
+            log.trace("Status response: {}", status);
+            return status;
+        } catch (FusionBrainServerException e) {
+            log.error("Feign client error while getting status for task {}: {}", taskId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to get status for task {}: {}", taskId, e.getMessage());
+            throw new FusionBrainException("Failed to get task status", e);
+        }
+    }
+
+    /**
+     * Reads the raw status response. Raw responses bypass the Feign error decoder and retryer, so transient error
+     * statuses are decoded and retried here, before the reader sees, and possibly streams out, any byte of a body.
+     */
+    private StatusResponse readStatusStream(UUID taskId, StatusReader reader) throws Exception {
+        Retryer retryer = statusStreamRetryer.clone();
+        while (true) {
+            RetryableException retryable;
+            try (Response response = feignClient.getStatusStream(taskId)) {
+                if (response.status() / 100 == 2) {
+                    return reader.read(response.body().asInputStream());
+                }
+                Exception error = errorDecoder.decode(STATUS_STREAM_METHOD, response);
+                if (!(error instanceof RetryableException e)) {
+                    throw error;
+                }
+                retryable = e;
+            }
+            retryer.continueOrPropagate(retryable);
+        }
+    }
+
+    /**
+     * Makes an API call through the given circuit breaker, or directly if circuit breakers are disabled.
+     */
+    private static <T> T call(CircuitBreaker circuitBreaker, Callable<T> call) throws Exception {
+        return circuitBreaker != null ? circuitBreaker.call(call) : call.call();
+    }
+
+    /**
+     * Takes a permit from the given rate limiter, waiting at most {@code fusionbrain.rate-limit.max-wait}.
+     */
+    private void acquirePermit(TokenBucket rateLimiter, String call) {
+        if (rateLimiter == null) {
+            return;
+        }
+
+        try {
+            if (!rateLimiter.tryAcquire(rateLimitMaxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new RateLimitExceededException(
+                        "Client-side rate limit for " + call + " not granted within " + rateLimitMaxWait.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RateLimitExceededException("Interrupted while waiting for the " + call + " rate limit", e);
+        }
+    }
+
+    /**
+     * Takes a status permit for a poll without waiting for it. A denied poll is deferred until the next permit is
+     * due, so a busy rate limiter delays waits for completion instead of failing them.
+     */
+    private void acquirePollPermit() {
+        if (statusRateLimiter != null && !statusRateLimiter.tryAcquire()) {
+            long delayMillis = TimeUnit.NANOSECONDS.toMillis(statusRateLimiter.nanosUntilNextPermit()) + 1;
+            throw new PollDeferredException(
+                    "Client-side rate limit for status poll denied, retrying in " + delayMillis + " ms", delayMillis);
+        }
+    }
+
+    private StatusResponse pollStatus(UUID taskId) {
+        acquirePollPermit();
+        try {
+            return measure("status", null, () -> fetchStatus(taskId));
+        } catch (CircuitBreakerOpenException e) {
+            throw deferPoll(e);
+        }
+    }
+
+    private StatusResponse pollStatus(UUID taskId, ResultSink sink) {
+        log.debug("Fetching status for task: {} (streaming result)", taskId);
+        acquirePollPermit();
+        try {
+            return measure("status-stream", null,
+                    () -> readStatus(taskId, in -> StatusStreamUtil.read(objectMapper, in, sink)));
+        } catch (CircuitBreakerOpenException e) {
+            throw deferPoll(e);
+        }
+    }
+
+    /**
+     * Defers a poll short-circuited by the status circuit breaker until the circuit lets calls through again, or by
+     * one poll interval while half-open probes are in progress, so an outage delays waits instead of failing them.
+     */
+    private PollDeferredException deferPoll(CircuitBreakerOpenException e) {
+        long delayMillis = e.getRetryAfterMillis() > 0 ? e.getRetryAfterMillis() : pollIntervalMillis;
+        return new PollDeferredException(e.getMessage() + ", retrying in " + delayMillis + " ms", delayMillis);
+    }
+
     @Override
     public CompletableFuture<StatusResponse> waitForCompletion(UUID taskId, long initialDelay) {
-        CompletableFuture<StatusResponse> future = new CompletableFuture<>();
+        return awaitTask(taskId, null, initialDelay, this::pollStatus, false);
+    }
+
+    @Override
+    public CompletableFuture<StatusResponse> waitForCompletion(UUID pipelineId, RunResponse runResponse) {
+        return awaitTask(runResponse.getId(), pipelineId, runResponse.getStatusTime(), this::pollStatus, false);
+    }
+
+    @Override
+    public CompletableFuture<StatusResponse> waitForCompletion(UUID pipelineId, RunResponse runResponse,
+                                                               ResultSink sink) {
+        return awaitTask(runResponse.getId(), pipelineId, runResponse.getStatusTime(),
+                taskId -> pollStatus(taskId, sink), true);
+    }
+
+    @Override
+    public BatchHandle runBatch(UUID pipelineId, List<? extends PipelineParams> params) {
+        return batchRunner.run(pipelineId, params);
+    }
+
+    @Override
+    public BatchHandle runBatch(UUID pipelineId, List<? extends PipelineParams> params, int parallelism) {
+        return batchRunner.run(pipelineId, params, parallelism);
+    }
 
-        asyncExecutor.execute(() -> {
+    /**
+     * Registers a task for polling, counting its polls for {@link FusionBrainMetrics#recordTaskCompleted}.
+     * Every poll runs within the span of the task. Callers awaiting the same task share its poll count and span,
+     * which are reported once, when the last of them completes.
+     * An exclusive fetcher, such as one streaming into a sink, is never replaced by the polls of another caller.
+     */
+    private CompletableFuture<StatusResponse> awaitTask(UUID taskId, UUID pipelineId, long initialDelay,
+                                                        Function<UUID, StatusResponse> statusFetcher,
+                                                        boolean exclusive) {
+        AwaitedTask awaited = awaitedTasks.compute(taskId, (id, current) -> {
+            AwaitedTask task = current != null ? current : new AwaitedTask(claimTrace(taskId, pipelineId), pipelineId);
+            if (task.pipelineId == null) {
+                task.pipelineId = pipelineId;
+            }
+            task.callers++;
+            return task;
+        });
+        Function<UUID, StatusResponse> tracedFetcher = id -> {
+            awaited.polls.incrementAndGet();
+            long start = System.nanoTime();
             try {
-                StatusResponse result = waitForCompletionInternal(taskId, initialDelay);
-                future.complete(result);
-            } catch (Exception e) {
-                future.completeExceptionally(e);
+                return awaited.trace.within(() -> statusFetcher.apply(id));
+            } catch (PollDeferredException e) {
+                // Deferred polls never reached the API
+                awaited.polls.decrementAndGet();
+                throw e;
+            } finally {
+                awaited.pollNanos.addAndGet(System.nanoTime() - start);
+            }
+        };
+        CompletableFuture<StatusResponse> future = exclusive
+                ? statusPoller.pollExclusive(taskId, pipelineId, initialDelay, tracedFetcher)
+                : statusPoller.poll(taskId, pipelineId, initialDelay, tracedFetcher);
+        future.whenComplete((status, e) -> {
+            if (release(taskId)) {
+                awaited.complete(metrics, status, e);
             }
         });
-
         return future;
     }
 
-    private StatusResponse waitForCompletionInternal(UUID taskId, long initialDelay) throws FusionBrainException {
-        log.debug("Starting wait for task completion: {}", taskId);
-        log.debug("Initial delay: {} seconds, max retries: {}, poll interval: {} seconds",
-                initialDelay, fusionBrainProperties.getMaxRetries(), fusionBrainProperties.getPollInterval());
+    /**
+     * Detaches a caller from an awaited task.
+     *
+     * @return Whether it was the last caller, which reports the task.
+     */
+    private boolean release(UUID taskId) {
+        // The entry stays mapped while it has callers, so it is only removed here, by its last caller
+        return awaitedTasks.computeIfPresent(taskId, (id, current) -> --current.callers > 0 ? current : null) == null;
+    }
 
-        if (initialDelay < 0) {
-            log.error("Invalid initial delay: {} seconds", initialDelay);
-            throw new IllegalArgumentException("Initial delay cannot be negative");
+    /**
+     * Keeps the span of a submitted task for {@link #claimTrace}, ending it if the task is not awaited in time.
+     */
+    private void keepTrace(UUID taskId, TaskTrace trace) {
+        synchronized (unawaitedTraces) {
+            ScheduledFuture<?> expiry;
+            try {
+                expiry = pollingScheduler.schedule(() -> expireTrace(taskId), unawaitedTraceMillis,
+                        TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the span is still ended once the map is full
+                expiry = null;
+            }
+            UnawaitedTrace previous = unawaitedTraces.put(taskId, new UnawaitedTrace(trace, expiry));
+            if (previous != null) {
+                previous.stop();
+            }
         }
+    }
 
-        if (initialDelay > 0) {
-            log.debug("Waiting initial delay of {} seconds", initialDelay);
-            sleepInterruption(initialDelay * 1000L);
+    private void expireTrace(UUID taskId) {
+        UnawaitedTrace expired;
+        synchronized (unawaitedTraces) {
+            expired = unawaitedTraces.remove(taskId);
+        }
+        if (expired != null) {
+            log.debug("Ending span of task {} not awaited within {} ms", taskId, unawaitedTraceMillis);
+            expired.trace().event("unawaited", TimeUnit.MILLISECONDS.toNanos(unawaitedTraceMillis));
+            expired.trace().stop(0, null);
         }
+    }
 
-        StatusResponse initialStatus = getStatus(taskId);
-        log.debug("Initial status after delay: {}", initialStatus.getStatus());
+    /**
+     * Takes the span started when the task was submitted, or starts one for a task submitted elsewhere.
+     */
+    private TaskTrace claimTrace(UUID taskId, UUID pipelineId) {
+        UnawaitedTrace unawaited;
+        synchronized (unawaitedTraces) {
+            unawaited = unawaitedTraces.remove(taskId);
+        }
+        if (unawaited != null) {
+            unawaited.cancelExpiry();
+            return unawaited.trace();
+        }
+        TaskTrace trace = tracing.startTask(pipelineId);
+        trace.taskId(taskId);
+        return trace;
+    }
 
-        if (initialStatus.getStatus().isFinal()) {
-            log.debug("Task {} completed with initial delay", taskId);
-            return initialStatus;
+    /**
+     * Runs a client operation in its own span, reporting its duration and outcome to the metrics.
+     */
+    private <T> T measure(String operation, UUID pipelineId, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = tracing.traceCall(operation, pipelineId, call);
+            metrics.recordCall(operation, pipelineId, null, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.recordCall(operation, pipelineId, e, System.nanoTime() - start);
+            throw e;
         }
+    }
 
-        int retryCount = 0;
-        while (retryCount < fusionBrainProperties.getMaxRetries()) {
-            log.debug("Polling attempt {}/{} for task {}",
-                    retryCount + 1, fusionBrainProperties.getMaxRetries(), taskId);
+    /**
+     * Span of a submitted task together with the timer ending it if the task is never awaited.
+     */
+    private record UnawaitedTrace(TaskTrace trace, ScheduledFuture<?> expiry) {
+        void cancelExpiry() {
+            if (expiry != null) {
+                expiry.cancel(false);
+            }
+        }
 
-            StatusResponse status = getStatus(taskId);
-            log.trace("Current task status: {}", status);
+        void stop() {
+            cancelExpiry();
+            trace.stop(0, null);
+        }
+    }
 
-            if (status.getStatus().isFinal()) {
-                return status;
-            }
+    /**
+     * Span and poll count of a task, guarded by {@link #awaitedTasks} except for the atomic counters.
+     */
+    private static final class AwaitedTask {
+        final TaskTrace trace;
+        final AtomicInteger polls = new AtomicInteger();
+        final AtomicLong pollNanos = new AtomicLong();
+        UUID pipelineId;
+        int callers;
 
-            long nextPollDelay = fusionBrainProperties.getPollInterval() * 1000L;
-            log.trace("Sleeping for {} ms before next poll", nextPollDelay);
-            sleepInterruption(nextPollDelay);
+        AwaitedTask(TaskTrace trace, UUID pipelineId) {
+            this.trace = trace;
+            this.pipelineId = pipelineId;
+        }
 
-            retryCount++;
+        void complete(FusionBrainMetrics metrics, StatusResponse status, Throwable error) {
+            metrics.recordTaskCompleted(pipelineId, status, polls.get());
+            if (status != null && status.getGenerationTime() != null) {
+                trace.event("generated", TimeUnit.SECONDS.toNanos(status.getGenerationTime()));
+            }
+            trace.event("polled", pollNanos.get());
+            trace.stop(polls.get(), error);
         }
+    }
 
-        log.error("Timeout waiting for task {} completion after {} attempts",
-                taskId, fusionBrainProperties.getMaxRetries());
-        throw new FusionBrainException("Timeout waiting for task completion after " +
-                fusionBrainProperties.getMaxRetries() + " attempts");
+    /**
+     * Returns a builder of a client. The Feign client, object mapper, properties, async executor and polling
+     * scheduler are required; the polling strategy defaults to the one selected by {@code fusionbrain.polling.strategy},
+     * the validator to a shared default one, metrics and tracing default to no-ops and the name to {@code default}.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
-    private void sleepInterruption(long millis) throws FusionBrainException {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FusionBrainException("Polling was interrupted", e);
+    /**
+     * Builder of {@link FusionBrainClientImpl}.
+     */
+    public static final class Builder {
+        private FusionBrainFeignClient feignClient;
+        private ObjectMapper objectMapper;
+        private FusionBrainProperties properties;
+        private Executor asyncExecutor;
+        private ScheduledExecutorService pollingScheduler;
+        private PollingStrategy pollingStrategy;
+        private Validator validator = ValidationUtil.getDefaultValidator();
+        private FusionBrainMetrics metrics = FusionBrainMetrics.NOOP;
+        private FusionBrainTracing tracing = FusionBrainTracing.NOOP;
+        private String name = "default";
+
+        private Builder() {
         }
+
+        /**
+         * @param name Name of the client, tagging its gauges as {@code client}; defaults to {@code default}.
+         * @return This builder.
+         */
+        public Builder name(String name) {
+            this.name = Objects.requireNonNull(name, "name");
+            return this;
+        }
+
+        /**
+         * @param feignClient The underlying Feign client.
+         * @return This builder.
+         */
+        public Builder feignClient(FusionBrainFeignClient feignClient) {
+            this.feignClient = feignClient;
+            return this;
+        }
+
+        /**
+         * @param objectMapper Mapper used for JSON processing.
+         * @return This builder.
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * @param properties The FusionBrain configuration properties.
+         * @return This builder.
+         */
+        public Builder properties(FusionBrainProperties properties) {
+            this.properties = properties;
+            return this;
+        }
+
+        /**
+         * @param asyncExecutor Executor running the status requests.
+         * @return This builder.
+         */
+        public Builder asyncExecutor(Executor asyncExecutor) {
+            this.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
+        /**
+         * @param pollingScheduler Scheduler holding the timers of pending tasks.
+         * @return This builder.
+         */
+        public Builder pollingScheduler(ScheduledExecutorService pollingScheduler) {
+            this.pollingScheduler = pollingScheduler;
+            return this;
+        }
+
+        /**
+         * @param pollingStrategy Strategy deciding when tasks are polled.
+         * @return This builder.
+         */
+        public Builder pollingStrategy(PollingStrategy pollingStrategy) {
+            this.pollingStrategy = pollingStrategy;
+            return this;
+        }
+
+        /**
+         * @param validator Validator of pipeline parameters, e.g. the one of the application context.
+         * @return This builder.
+         */
+        public Builder validator(Validator validator) {
+            this.validator = Objects.requireNonNull(validator, "validator");
+            return this;
+        }
+
+        /**
+         * @param metrics Receiver of the measurements of client operations.
+         * @return This builder.
+         */
+        public Builder metrics(FusionBrainMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "metrics");
+            return this;
+        }
+
+        /**
+         * @param tracing Tracer of tasks and API calls.
+         * @return This builder.
+         */
+        public Builder tracing(FusionBrainTracing tracing) {
+            this.tracing = Objects.requireNonNull(tracing, "tracing");
+            return this;
+        }
+
+        /**
+         * Creates the client.
+         *
+         * @return The client.
+         */
+        public FusionBrainClientImpl build() {
+            return new FusionBrainClientImpl(this);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatusReader {
+        StatusResponse read(InputStream in) throws IOException;
     }
-}
\ No newline at end of file
+}
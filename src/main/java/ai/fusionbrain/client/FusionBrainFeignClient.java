@@ -1,8 +1,11 @@
 package ai.fusionbrain.client;
 
 import ai.fusionbrain.config.FeignConfig;
+import ai.fusionbrain.config.FusionBrainFeignClientConfig;
 import ai.fusionbrain.dto.*;
-import com.fasterxml.jackson.databind.JsonNode;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.PipelineParams;
+import feign.Response;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
@@ -15,7 +18,7 @@ import java.util.UUID;
         name = "fusionBrainClient",
         url = "${fusionbrain.base-url}",
         path = "/key/api/v1",
-        configuration = FeignConfig.class
+        configuration = {FeignConfig.class, FusionBrainFeignClientConfig.class}
 )
 @ConditionalOnProperty(prefix = "fusionbrain", name = "enabled", havingValue = "true")
 public interface FusionBrainFeignClient {
@@ -27,11 +30,14 @@ public interface FusionBrainFeignClient {
 
     @PostMapping(value = "/pipeline/run", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     RunResponse runPipeline(
-            @RequestPart(value = "params", required = false) JsonNode params,
+            @RequestPart(value = "params", required = false) PipelineParams params,
             @RequestParam("pipeline_id") UUID pipelineId,
-            @RequestPart(value = "file", required = false) List<byte[]> files
+            @RequestPart(value = "file", required = false) List<FileSource> files
     );
 
     @GetMapping("/pipeline/status/{uuid}")
     StatusResponse getStatus(@PathVariable UUID uuid);
+
+    @GetMapping("/pipeline/status/{uuid}")
+    Response getStatusStream(@PathVariable("uuid") UUID uuid);
 }
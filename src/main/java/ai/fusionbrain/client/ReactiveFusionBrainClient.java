@@ -0,0 +1,101 @@
+package ai.fusionbrain.client;
+
+import ai.fusionbrain.dto.*;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.exception.FusionBrainException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link FusionBrainClient}.
+ * <p>
+ * Errors are signalled as {@link FusionBrainException} instances through the returned publishers.
+ * No method blocks the calling thread, so the client is safe to use on event-loop threads.
+ * </p>
+ */
+public interface ReactiveFusionBrainClient {
+    /**
+     * Retrieves all available pipelines.
+     *
+     * @return {@link Flux} of {@link PipelineDTO} objects representing the pipelines.
+     */
+    Flux<PipelineDTO> getPipelines();
+
+    /**
+     * Retrieves the pipelines of the specified type.
+     *
+     * @param type The type of pipelines to retrieve.
+     * @return {@link Flux} of {@link PipelineDTO} objects representing the pipelines of the specified type.
+     */
+    Flux<PipelineDTO> getPipelines(EPipelineType type);
+
+    /**
+     * Retrieves the availability status of a specific pipeline.
+     *
+     * @param pipelineId The unique identifier of the pipeline.
+     * @return {@link Mono} of {@link AvailabilityStatus} indicating whether the pipeline is available.
+     */
+    Mono<AvailabilityStatus> getPipelineAvailability(UUID pipelineId);
+
+    /**
+     * Runs a specified pipeline with given parameters and files.
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters for the pipeline execution.
+     * @param files      List of byte arrays representing the input files for the pipeline.
+     * @return {@link Mono} of {@link RunResponse} containing information about the initiated pipeline run.
+     */
+    Mono<RunResponse> runPipeline(UUID pipelineId, PipelineParams params, List<byte[]> files);
+
+    /**
+     * Runs a specified pipeline with given parameters and files read from disk, streams, buffers or resources.
+     * Files are streamed into the request body in small chunks, so memory use does not grow with the file size.
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters for the pipeline execution.
+     * @param files      The input files for the pipeline, see {@link FileSource#of}.
+     * @return {@link Mono} of {@link RunResponse} containing information about the initiated pipeline run.
+     */
+    Mono<RunResponse> runPipeline(UUID pipelineId, PipelineParams params, FileSource... files);
+
+    /**
+     * Runs a specified pipeline with given parameters (without files).
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters for the pipeline execution.
+     * @return {@link Mono} of {@link RunResponse} containing information about the initiated pipeline run.
+     */
+    default Mono<RunResponse> runPipeline(UUID pipelineId, PipelineParams params) {
+        return runPipeline(pipelineId, params, (List<byte[]>) null);
+    }
+
+    /**
+     * Retrieves the current status of a running task.
+     *
+     * @param taskId The unique identifier of the task.
+     * @return {@link Mono} of {@link StatusResponse} containing the status information.
+     */
+    Mono<StatusResponse> getStatus(UUID taskId);
+
+    /**
+     * Waits for a specified task to complete, polling according to the configured polling strategy.
+     *
+     * @param taskId       The unique identifier of the task.
+     * @param initialDelay The time in seconds to wait before starting to poll.
+     * @return {@link Mono} of the final {@link StatusResponse}.
+     */
+    Mono<StatusResponse> waitForCompletion(UUID taskId, long initialDelay);
+
+    /**
+     * Waits for a task started by {@link #runPipeline} to complete.
+     *
+     * @param pipelineId  The unique identifier of the pipeline that runs the task.
+     * @param runResponse The response returned when the task was started.
+     * @return {@link Mono} of the final {@link StatusResponse}.
+     */
+    Mono<StatusResponse> waitForCompletion(UUID pipelineId, RunResponse runResponse);
+}
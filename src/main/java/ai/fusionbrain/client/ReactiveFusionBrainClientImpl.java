@@ -0,0 +1,236 @@
+package ai.fusionbrain.client;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.*;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.exception.FusionBrainException;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.exception.ValidationException;
+import ai.fusionbrain.polling.PollingStrategy;
+import ai.fusionbrain.utils.PipelineParamsWriter;
+import ai.fusionbrain.utils.ValidationUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * {@link ReactiveFusionBrainClient} implementation on top of {@link WebClient}.
+ * <p>
+ * Status polling waits on Reactor timers, so pending tasks hold no threads between polls.
+ * </p>
+ */
+@Slf4j
+public class ReactiveFusionBrainClientImpl implements ReactiveFusionBrainClient {
+    private final WebClient webClient;
+    private final PipelineParamsWriter paramsWriter;
+    private final FusionBrainProperties fusionBrainProperties;
+    private final PollingStrategy pollingStrategy;
+    private final Validator validator;
+
+    public ReactiveFusionBrainClientImpl(WebClient webClient, ObjectMapper objectMapper,
+                                         FusionBrainProperties fusionBrainProperties, PollingStrategy pollingStrategy) {
+        this(webClient, objectMapper, fusionBrainProperties, pollingStrategy, ValidationUtil.getDefaultValidator());
+    }
+
+    /**
+     * Creates a client validating pipeline parameters with the given validator, e.g. the one of the application context.
+     */
+    public ReactiveFusionBrainClientImpl(WebClient webClient, ObjectMapper objectMapper,
+                                         FusionBrainProperties fusionBrainProperties, PollingStrategy pollingStrategy,
+                                         Validator validator) {
+        this.webClient = webClient;
+        this.paramsWriter = new PipelineParamsWriter(objectMapper);
+        this.fusionBrainProperties = fusionBrainProperties;
+        this.pollingStrategy = pollingStrategy;
+        this.validator = validator;
+    }
+
+    @Override
+    public Flux<PipelineDTO> getPipelines() {
+        return getPipelines(null);
+    }
+
+    @Override
+    public Flux<PipelineDTO> getPipelines(EPipelineType type) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/pipelines")
+                        .queryParamIfPresent("type", Optional.ofNullable(type))
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> serverError(response, "getPipelines"))
+                .bodyToFlux(PipelineDTO.class)
+                .doOnSubscribe(s -> log.debug("Fetching pipelines of type: {}", type))
+                .onErrorMap(e -> !(e instanceof FusionBrainException),
+                        e -> new FusionBrainException("Failed to get pipelines", e))
+                .doOnError(e -> log.error("Failed to get pipelines: {}", e.getMessage()));
+    }
+
+    @Override
+    public Mono<AvailabilityStatus> getPipelineAvailability(UUID pipelineId) {
+        return webClient.get()
+                .uri("/pipeline/{pipeline_id}/availability", pipelineId)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> serverError(response, "getPipelineAvailability"))
+                .bodyToMono(AvailabilityStatus.class)
+                .doOnNext(status -> log.debug("Pipeline {} availability status: {}", pipelineId, status))
+                .onErrorMap(e -> !(e instanceof FusionBrainException),
+                        e -> new FusionBrainException("Failed to get pipeline availability", e))
+                .doOnError(e -> log.error("Failed to check availability for pipeline {}: {}", pipelineId, e.getMessage()));
+    }
+
+    @Override
+    public Mono<RunResponse> runPipeline(UUID pipelineId, PipelineParams params, List<byte[]> files) {
+        return submit(pipelineId, () -> {
+            if (files == null) {
+                return buildRunBody(params, List.of());
+            }
+            for (byte[] file : files) {
+                if (file == null || file.length == 0) {
+                    log.error("Validation failed: File content is null or empty");
+                    throw new ValidationException("File content cannot be null or empty");
+                }
+            }
+            return buildRunBody(params, files.stream().map(FileSource::of).toList());
+        });
+    }
+
+    @Override
+    public Mono<RunResponse> runPipeline(UUID pipelineId, PipelineParams params, FileSource... files) {
+        return submit(pipelineId, () -> {
+            if (files == null) {
+                return buildRunBody(params, List.of());
+            }
+            for (FileSource file : files) {
+                if (file == null || file.isEmpty()) {
+                    log.error("Validation failed: File content is null or empty");
+                    throw new ValidationException("File content cannot be null or empty");
+                }
+            }
+            return buildRunBody(params, List.of(files));
+        });
+    }
+
+    private Mono<RunResponse> submit(UUID pipelineId, Callable<MultipartBodyBuilder> runBody) {
+        return Mono.fromCallable(runBody)
+                .flatMap(body -> webClient.post()
+                        .uri(uriBuilder -> uriBuilder.path("/pipeline/run")
+                                .queryParam("pipeline_id", pipelineId)
+                                .build())
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .body(BodyInserters.fromMultipartData(body.build()))
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, response -> serverError(response, "runPipeline"))
+                        .bodyToMono(RunResponse.class))
+                .flatMap(response -> {
+                    log.debug("Pipeline execution started successfully for pipeline: {}", pipelineId);
+                    if (Objects.nonNull(response.getModelStatus()) && response.getModelStatus().isDisabled()) {
+                        log.debug("Attempted to use disabled model in pipeline: {}", pipelineId);
+                        return Mono.<RunResponse>error(new PipelineDisabledException(
+                                "Pipeline is currently disabled and cannot process requests"));
+                    }
+                    return Mono.just(response);
+                })
+                .onErrorMap(e -> !(e instanceof FusionBrainException),
+                        e -> new FusionBrainException("Failed to run pipeline", e))
+                .doOnError(e -> log.error("Failed to run pipeline {}: {}", pipelineId, e.getMessage()));
+    }
+
+    @Override
+    public Mono<StatusResponse> getStatus(UUID taskId) {
+        return webClient.get()
+                .uri("/pipeline/status/{uuid}", taskId)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> serverError(response, "getStatus"))
+                .bodyToMono(StatusResponse.class)
+                .doOnNext(status -> log.debug("Task {} status: {}", taskId, status.getStatus()))
+                .onErrorMap(e -> !(e instanceof FusionBrainException),
+                        e -> new FusionBrainException("Failed to get task status", e))
+                .doOnError(e -> log.error("Failed to get status for task {}: {}", taskId, e.getMessage()));
+    }
+
+    @Override
+    public Mono<StatusResponse> waitForCompletion(UUID taskId, long initialDelay) {
+        return waitForCompletion(taskId, null, initialDelay);
+    }
+
+    @Override
+    public Mono<StatusResponse> waitForCompletion(UUID pipelineId, RunResponse runResponse) {
+        return waitForCompletion(runResponse.getId(), pipelineId, runResponse.getStatusTime());
+    }
+
+    private Mono<StatusResponse> waitForCompletion(UUID taskId, UUID pipelineId, long initialDelay) {
+        if (initialDelay < 0) {
+            log.error("Invalid initial delay: {} seconds", initialDelay);
+            return Mono.error(new IllegalArgumentException("Initial delay cannot be negative"));
+        }
+
+        return Mono.defer(() -> {
+            long startedAtMillis = System.currentTimeMillis();
+            return Mono.delay(Duration.ofMillis(pollingStrategy.initialDelayMillis(pipelineId, initialDelay)))
+                    .then(pollUntilFinal(taskId, pipelineId, 0, startedAtMillis));
+        });
+    }
+
+    private Mono<StatusResponse> pollUntilFinal(UUID taskId, UUID pipelineId, int attempt, long startedAtMillis) {
+        return getStatus(taskId).flatMap(status -> {
+            if (status.getStatus().isFinal()) {
+                log.debug("Task {} completed after {} polling attempts", taskId, attempt);
+                pollingStrategy.onCompleted(pipelineId, status, System.currentTimeMillis() - startedAtMillis);
+                return Mono.just(status);
+            }
+
+            if (attempt >= fusionBrainProperties.getMaxRetries()) {
+                log.error("Timeout waiting for task {} completion after {} attempts",
+                        taskId, fusionBrainProperties.getMaxRetries());
+                return Mono.error(new FusionBrainException("Timeout waiting for task completion after " +
+                        fusionBrainProperties.getMaxRetries() + " attempts"));
+            }
+
+            Duration nextPollDelay = Duration.ofMillis(pollingStrategy.nextDelayMillis(pipelineId, attempt + 1));
+            return Mono.delay(nextPollDelay)
+                    .then(Mono.defer(() -> pollUntilFinal(taskId, pipelineId, attempt + 1, startedAtMillis)));
+        });
+    }
+
+    private MultipartBodyBuilder buildRunBody(PipelineParams params, List<FileSource> files) throws IOException {
+        if (Objects.nonNull(params)) {
+            ValidationUtil.validate(params, validator);
+        }
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        if (Objects.nonNull(params)) {
+            // Serialized like the blocking client does, without the polymorphic type id
+            builder.part("params", paramsWriter.writeAsBytes(params), MediaType.APPLICATION_JSON);
+        }
+        for (FileSource file : files) {
+            // Resources are written in small chunks as the connection accepts them
+            builder.part("file", file.getResource(), MediaType.APPLICATION_OCTET_STREAM)
+                    .filename(file.getFilename());
+        }
+        return builder;
+    }
+
+    private static Mono<Throwable> serverError(ClientResponse response, String method) {
+        String message = String.format("Failed request to FusionBrain API. Status: %d, Method: %s",
+                response.statusCode().value(), method);
+        return response.releaseBody().then(Mono.error(new FusionBrainServerException(message, response.statusCode().value())));
+    }
+}
@@ -0,0 +1,87 @@
+package ai.fusionbrain.completion;
+
+import ai.fusionbrain.exception.FusionBrainException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * {@link Flow.Subscriber} consumed as a blocking {@link Iterator}, requesting a new item for every item taken.
+ */
+final class BlockingSubscriber<T> implements Flow.Subscriber<T>, Iterator<T> {
+    private static final Object COMPLETE = new Object();
+
+    private final int prefetch;
+    // Items, the COMPLETE marker or a Throwable
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+    private volatile Flow.Subscription subscription;
+    private Object next;
+
+    BlockingSubscriber(int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch must be positive");
+        }
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(T item) {
+        signals.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        signals.add(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        signals.add(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new FusionBrainException("Interrupted while waiting for a task to complete", e);
+            }
+        }
+        if (next instanceof Throwable error) {
+            throw error instanceof FusionBrainException fusionBrainException ? fusionBrainException
+                    : new FusionBrainException("Failed to await task completion", error);
+        }
+        return next != COMPLETE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = (T) next;
+        next = null;
+        subscription.request(1);
+        return item;
+    }
+
+    void cancel() {
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+}
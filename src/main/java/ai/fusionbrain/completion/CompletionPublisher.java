@@ -0,0 +1,259 @@
+package ai.fusionbrain.completion;
+
+import ai.fusionbrain.dto.StatusResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Flow.Publisher} of the final statuses of a set of tasks, in the order the tasks complete.
+ * <p>
+ * Every subscription awaits the tasks through the client's shared status poller and emits each final status as soon
+ * as it is known, but never more than the subscriber has requested; statuses completed ahead of demand are held until
+ * requested. At most the outstanding demand plus {@code prefetch} tasks are awaited or held at a time; the next
+ * tasks are awaited as statuses are delivered, so a slow subscriber bounds both polling and buffering.
+ * A task that cannot be awaited does not hold up the others: its exception is signalled by
+ * {@code onError} once every other status has been delivered. Cancelling the subscription stops polling the tasks
+ * that are still pending.
+ * </p>
+ */
+@Slf4j
+public final class CompletionPublisher implements Flow.Publisher<StatusResponse> {
+    /**
+     * Number of statuses requested ahead by {@link #stream()}, and of tasks awaited beyond the outstanding demand
+     * by default.
+     */
+    public static final int DEFAULT_PREFETCH = 16;
+
+    private final Set<UUID> taskIds;
+    private final Function<UUID, CompletableFuture<StatusResponse>> awaiter;
+    private final int prefetch;
+
+    /**
+     * Creates a publisher of the final statuses of the given tasks, awaiting up to {@value #DEFAULT_PREFETCH} tasks
+     * beyond the outstanding demand.
+     *
+     * @param taskIds The unique identifiers of the tasks; duplicates are awaited once.
+     * @param awaiter Function registering a task with the status poller.
+     */
+    public CompletionPublisher(Collection<UUID> taskIds, Function<UUID, CompletableFuture<StatusResponse>> awaiter) {
+        this(taskIds, awaiter, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Creates a publisher of the final statuses of the given tasks.
+     *
+     * @param taskIds  The unique identifiers of the tasks; duplicates are awaited once.
+     * @param awaiter  Function registering a task with the status poller.
+     * @param prefetch Maximum number of tasks awaited beyond the outstanding demand of a subscriber.
+     */
+    public CompletionPublisher(Collection<UUID> taskIds, Function<UUID, CompletableFuture<StatusResponse>> awaiter,
+                               int prefetch) {
+        Objects.requireNonNull(taskIds, "taskIds");
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("prefetch must be at least 0");
+        }
+        this.taskIds = new LinkedHashSet<>(taskIds);
+        this.awaiter = Objects.requireNonNull(awaiter, "awaiter");
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super StatusResponse> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        CompletionSubscription subscription = new CompletionSubscription(subscriber, taskIds.size());
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    /**
+     * Returns a blocking stream of the final statuses in completion order, requesting up to
+     * {@value #DEFAULT_PREFETCH} statuses ahead of the consumer.
+     *
+     * @return Stream of the final statuses; closing it cancels the subscription.
+     */
+    public Stream<StatusResponse> stream() {
+        return stream(DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Returns a blocking stream of the final statuses in completion order.
+     * {@link ai.fusionbrain.exception.FusionBrainException} is thrown from the stream when a task cannot be awaited or
+     * the consuming thread is interrupted.
+     *
+     * @param prefetch Maximum number of statuses requested ahead of the consumer.
+     * @return Stream of the final statuses; closing it cancels the subscription.
+     */
+    public Stream<StatusResponse> stream(int prefetch) {
+        BlockingSubscriber<StatusResponse> subscriber = new BlockingSubscriber<>(prefetch);
+        subscribe(subscriber);
+        return StreamSupport.stream(Spliterators.spliterator(subscriber, taskIds.size(),
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(subscriber::cancel);
+    }
+
+    private final class CompletionSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super StatusResponse> subscriber;
+        private final Queue<StatusResponse> ready = new ConcurrentLinkedQueue<>();
+        private final Set<CompletableFuture<StatusResponse>> pending = ConcurrentHashMap.newKeySet();
+        private final Iterator<UUID> unstarted = taskIds.iterator();
+        private final AtomicLong requested = new AtomicLong();
+        // Tasks awaited or held in ready
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Throwable error;
+        private volatile IllegalArgumentException invalidRequest;
+        private volatile boolean cancelled;
+        private boolean done;
+
+        CompletionSubscription(Flow.Subscriber<? super StatusResponse> subscriber, int tasks) {
+            this.subscriber = subscriber;
+            this.remaining = new AtomicInteger(tasks);
+        }
+
+        void start() {
+            drain();
+        }
+
+        /**
+         * Awaits the next tasks while fewer than the outstanding demand plus {@code prefetch} are awaited or held.
+         * Only called from {@link #drain()}.
+         */
+        private void awaitNext() {
+            long demand = requested.get();
+            long window = demand + prefetch < demand ? Long.MAX_VALUE : demand + prefetch;
+            while (active.get() < window && unstarted.hasNext() && !cancelled && invalidRequest == null) {
+                UUID taskId = unstarted.next();
+                CompletableFuture<StatusResponse> future;
+                try {
+                    future = awaiter.apply(taskId);
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                active.incrementAndGet();
+                pending.add(future);
+                if (cancelled || invalidRequest != null) {
+                    future.cancel(false);
+                }
+                CompletableFuture<StatusResponse> awaited = future;
+                future.whenComplete((status, e) -> {
+                    pending.remove(awaited);
+                    onTaskCompleted(status, e);
+                });
+            }
+        }
+
+        private void onTaskCompleted(StatusResponse status, Throwable e) {
+            if (e != null) {
+                // Failed tasks are not emitted, so they free their slot right away
+                active.decrementAndGet();
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (!(cause instanceof CancellationException && (cancelled || invalidRequest != null))) {
+                    synchronized (this) {
+                        if (error == null) {
+                            error = cause;
+                        } else if (error != cause) {
+                            error.addSuppressed(cause);
+                        }
+                    }
+                }
+            } else {
+                ready.add(status);
+            }
+            remaining.decrementAndGet();
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Request must be positive, was " + n);
+                cancelPending();
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            cancelPending();
+            drain();
+        }
+
+        private void cancelPending() {
+            // The status poller drops tasks whose future is done
+            List.copyOf(pending).forEach(future -> future.cancel(false));
+        }
+
+        /**
+         * Emits ready statuses up to the demand and the terminal signal, from one thread at a time.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled || done) {
+                    ready.clear();
+                } else if (invalidRequest != null) {
+                    // Rule 3.9 of the Reactive Streams specification
+                    done = true;
+                    ready.clear();
+                    subscriber.onError(invalidRequest);
+                } else {
+                    long demand = requested.get();
+                    long emitted = 0;
+                    StatusResponse status;
+                    while (emitted < demand && !cancelled && (status = ready.poll()) != null) {
+                        active.decrementAndGet();
+                        subscriber.onNext(status);
+                        emitted++;
+                    }
+                    if (emitted > 0) {
+                        requested.addAndGet(-emitted);
+                    }
+                    awaitNext();
+                    if (!cancelled && remaining.get() == 0 && ready.isEmpty()) {
+                        done = true;
+                        if (error != null) {
+                            log.debug("Completion feed of {} tasks ended with error: {}", taskIds.size(),
+                                    error.getMessage());
+                            subscriber.onError(error);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
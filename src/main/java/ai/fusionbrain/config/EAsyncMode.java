@@ -0,0 +1,16 @@
+package ai.fusionbrain.config;
+
+/**
+ * Enumeration of the thread models used by the FusionBrain async executor.
+ */
+public enum EAsyncMode {
+    /**
+     * Pool of {@code asyncCorePoolSize} platform threads.
+     */
+    PLATFORM,
+    /**
+     * A new virtual thread per task, limited to {@code async.max-concurrency} concurrent tasks.
+     * Requires Java 21 or later; older runtimes fall back to {@link #PLATFORM}.
+     */
+    VIRTUAL
+}
@@ -0,0 +1,51 @@
+package ai.fusionbrain.config;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Enumeration of the HTTP transports used by the Feign-based FusionBrain client.
+ */
+public enum EHttpTransport {
+    /**
+     * Apache HttpClient 4 with a pooled HTTP/1.1 connection manager.
+     * Without {@code io.github.openfeign:feign-httpclient} on the classpath Feign's default client is used.
+     */
+    APACHE(null, null),
+    /**
+     * Apache HttpClient 5 async client speaking HTTP/2, which multiplexes all requests over a single connection.
+     * Requires {@code org.apache.httpcomponents.client5:httpclient5} on the classpath.
+     */
+    HC5("org.apache.hc.client5.http.impl.async.HttpAsyncClients", "org.apache.httpcomponents.client5:httpclient5"),
+    /**
+     * JDK {@link java.net.http.HttpClient} preferring HTTP/2 and falling back to HTTP/1.1.
+     * Requires {@code io.github.openfeign:feign-java11} on the classpath.
+     */
+    JDK("feign.http2client.Http2Client", "io.github.openfeign:feign-java11");
+
+    private final String requiredClass;
+    private final String dependency;
+
+    EHttpTransport(String requiredClass, String dependency) {
+        this.requiredClass = requiredClass;
+        this.dependency = dependency;
+    }
+
+    /**
+     * Checks whether the library of this transport is on the classpath.
+     *
+     * @param classLoader Class loader to look the library up with.
+     * @return {@code true} if the transport can be used.
+     */
+    public boolean isAvailable(ClassLoader classLoader) {
+        return requiredClass == null || ClassUtils.isPresent(requiredClass, classLoader);
+    }
+
+    /**
+     * Returns the Maven coordinates of the library this transport requires.
+     *
+     * @return {@code groupId:artifactId}, or {@code null} if no extra library is required.
+     */
+    public String getDependency() {
+        return dependency;
+    }
+}
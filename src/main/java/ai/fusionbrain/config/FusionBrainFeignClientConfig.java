@@ -0,0 +1,86 @@
+package ai.fusionbrain.config;
+
+import ai.fusionbrain.client.ApacheHttp5AsyncFeignClient;
+import ai.fusionbrain.resilience.FusionBrainRetryer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Request;
+import feign.Retryer;
+import feign.http2client.Http2Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.openfeign.support.AbstractFormWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Beans of the Feign context of {@link ai.fusionbrain.client.FusionBrainFeignClient} only.
+ * <p>
+ * Referenced from {@code @FeignClient(configuration = ...)} and never imported into the application context,
+ * so other Feign clients of the application keep their own timeouts, retries, form encoding and HTTP client.
+ * The HTTP clients themselves are application beans built by the transport configurations.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class FusionBrainFeignClientConfig {
+
+    /**
+     * Picked up by Spring Cloud OpenFeign's multipart encoder to write the parts of a pipeline run.
+     */
+    @Bean
+    public AbstractFormWriter fusionBrainFormWriter(ObjectMapper objectMapper) {
+        return new FusionBrainFormWriter(objectMapper);
+    }
+
+    /**
+     * Retries transient failures as configured under {@code fusionbrain.retry}. Registered even when retries are
+     * disabled, so that transient errors still surface as {@link ai.fusionbrain.exception.FusionBrainServerException}.
+     */
+    @Bean
+    public Retryer retryer(FusionBrainProperties properties) {
+        return new FusionBrainRetryer(properties.getRetry());
+    }
+
+    @Bean
+    public Request.Options requestOptions(FusionBrainHttpProperties httpProperties) {
+        return new Request.Options(
+                httpProperties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                httpProperties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                true
+        );
+    }
+
+    @Bean
+    @ConditionalOnBean(CloseableHttpClient.class)
+    public Client feignClient(CloseableHttpClient httpClient) {
+        return new ApacheHttpClient(httpClient);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.apache.hc.client5.http.impl.async.HttpAsyncClients")
+    @ConditionalOnBean(name = "fusionBrainHttpAsyncClient")
+    static class Hc5ClientConfig {
+        @Bean
+        public Client fusionBrainHc5FeignClient(
+                @Qualifier("fusionBrainHttpAsyncClient") CloseableHttpAsyncClient httpClient) {
+            return new ApacheHttp5AsyncFeignClient(httpClient);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "feign.http2client.Http2Client")
+    @ConditionalOnBean(name = "fusionBrainJdkHttpClient")
+    static class JdkClientConfig {
+        @Bean
+        public Client fusionBrainJdkFeignClient(@Qualifier("fusionBrainJdkHttpClient") HttpClient httpClient) {
+            return new Http2Client(httpClient);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package ai.fusionbrain.config;
+
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.utils.PipelineParamsWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.EncodeException;
+import feign.form.multipart.Output;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.openfeign.support.AbstractFormWriter;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+import static feign.form.ContentProcessor.CRLF;
+
+/**
+ * Writes the parts of a pipeline run straight into the multipart body.
+ * <p>
+ * {@link PipelineParams} are serialized by a {@link PipelineParamsWriter} straight into the body, so no intermediate
+ * {@code JsonNode} or {@code String} is built per submission.
+ * {@link FileSource FileSources} are copied into the body directly, without an intermediate {@code byte[]}.
+ * </p>
+ */
+public class FusionBrainFormWriter extends AbstractFormWriter {
+    private static final String PARAMS_HEADER = "Content-Disposition: form-data; name=\"%s\"" + CRLF +
+            "Content-Type: " + MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8" + CRLF + CRLF;
+
+    private final PipelineParamsWriter paramsWriter;
+
+    public FusionBrainFormWriter(ObjectMapper objectMapper) {
+        this.paramsWriter = new PipelineParamsWriter(objectMapper);
+    }
+
+    @Override
+    public boolean isApplicable(Object object) {
+        return object instanceof PipelineParams
+                || object instanceof FileSource
+                || (object instanceof Collection<?> collection && !collection.isEmpty()
+                && collection.stream().allMatch(FileSource.class::isInstance));
+    }
+
+    @Override
+    public void write(Output output, String boundary, String key, Object value) throws EncodeException {
+        if (value instanceof Collection<?> files) {
+            // Every file becomes a separate part with the same name
+            for (Object file : files) {
+                super.write(output, boundary, key, file);
+            }
+        } else {
+            super.write(output, boundary, key, value);
+        }
+    }
+
+    @Override
+    public void write(Output output, String key, Object object) throws EncodeException {
+        if (object instanceof FileSource file) {
+            writeFile(output, key, file);
+            return;
+        }
+
+        output.write(PARAMS_HEADER.formatted(key));
+        try {
+            // Jackson always encodes to UTF-8 when writing to a stream
+            paramsWriter.write(object, new PartOutputStream(output));
+        } catch (IOException e) {
+            throw new EncodeException("Failed to serialize pipeline parameters", e);
+        }
+    }
+
+    @Override
+    protected MediaType getContentType() {
+        return MediaType.APPLICATION_JSON;
+    }
+
+    @Override
+    protected String writeAsString(Object object) throws IOException {
+        return paramsWriter.writeAsString(object);
+    }
+
+    private void writeFile(Output output, String key, FileSource file) throws EncodeException {
+        writeFileMetadata(output, key, file.getFilename(), MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        try {
+            file.writeTo(new PartOutputStream(output));
+        } catch (IOException e) {
+            throw new EncodeException("Failed to read file " + file, e);
+        }
+    }
+
+    /**
+     * Adapts the multipart {@link Output} to an {@link OutputStream} without closing it when the writer is done.
+     */
+    @RequiredArgsConstructor
+    private static class PartOutputStream extends OutputStream {
+        private final Output output;
+
+        @Override
+        public void write(int b) {
+            output.write(new byte[]{(byte) b});
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            output.write(b, off, len);
+        }
+    }
+}
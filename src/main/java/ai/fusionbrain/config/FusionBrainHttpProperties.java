@@ -0,0 +1,111 @@
+package ai.fusionbrain.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fusionbrain.http")
+@Validated
+public class FusionBrainHttpProperties {
+    /**
+     * HTTP transport used by the Feign client.
+     * {@code hc5} and {@code jdk} negotiate HTTP/2 and multiplex concurrent requests over one connection,
+     * in which case the pool limits below do not apply.
+     * <p>Default: APACHE</p>
+     */
+    @NotNull(message = "http.transport must not be null")
+    private EHttpTransport transport = EHttpTransport.APACHE;
+
+    /**
+     * Maximum number of pooled connections.
+     * <p>Default: 50</p>
+     */
+    @Positive(message = "http.maxConnections must be positive")
+    private int maxConnections = 50;
+
+    /**
+     * Maximum number of pooled connections per route.
+     * All requests go to the same host, so this is the effective pool limit unless it exceeds {@link #maxConnections}.
+     * <p>Default: 50</p>
+     */
+    @Positive(message = "http.maxConnectionsPerRoute must be positive")
+    private int maxConnectionsPerRoute = 50;
+
+    /**
+     * Timeout for establishing a connection.
+     * <p>Units: milliseconds if no unit is given</p>
+     * <p>Default: 10s</p>
+     */
+    @NotNull(message = "http.connectTimeout must not be null")
+    @DurationMin(message = "http.connectTimeout must be at least 0")
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Timeout for waiting for data, i.e. the maximum inactivity between two data packets.
+     * <p>Units: milliseconds if no unit is given</p>
+     * <p>Default: 60s</p>
+     */
+    @NotNull(message = "http.readTimeout must not be null")
+    @DurationMin(message = "http.readTimeout must be at least 0")
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration readTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Timeout for leasing a connection from the pool.
+     * <p>Units: milliseconds if no unit is given</p>
+     * <p>Default: 5s</p>
+     */
+    @NotNull(message = "http.connectionRequestTimeout must not be null")
+    @DurationMin(message = "http.connectionRequestTimeout must be at least 0")
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Total time to live of a pooled connection. Zero or negative values mean no limit.
+     * <p>Units: milliseconds if no unit is given</p>
+     * <p>Default: 300s</p>
+     */
+    @NotNull(message = "http.timeToLive must not be null")
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration timeToLive = Duration.ofSeconds(300);
+
+    /**
+     * Time after which idle pooled connections are closed in the background. Zero or negative values disable eviction.
+     * <p>Units: milliseconds if no unit is given</p>
+     * <p>Default: 30s</p>
+     */
+    @NotNull(message = "http.idleEvictionTimeout must not be null")
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Inactivity period after which a pooled connection is validated before being leased.
+     * <p>Units: milliseconds if no unit is given</p>
+     * <p>Default: 2s</p>
+     */
+    @NotNull(message = "http.validateAfterInactivity must not be null")
+    @DurationMin(message = "http.validateAfterInactivity must be at least 0")
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Keep-alive duration of connections whose responses carry no {@code Keep-Alive} header.
+     * <p>Units: milliseconds if no unit is given</p>
+     * <p>Default: 30s</p>
+     */
+    @NotNull(message = "http.keepAlive must not be null")
+    @DurationMin(message = "http.keepAlive must be at least 0")
+    @DurationUnit(ChronoUnit.MILLIS)
+    private Duration keepAlive = Duration.ofSeconds(30);
+}
@@ -1,12 +1,27 @@
 package ai.fusionbrain.config;
 
+import ai.fusionbrain.polling.EPollingMode;
+import ai.fusionbrain.polling.EPollingStrategy;
+import ai.fusionbrain.queue.EOverflowPolicy;
+import ai.fusionbrain.resilience.EAdmissionMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
 /**
  * Configuration properties for FusionBrain API integration.
  */
@@ -44,7 +59,8 @@ public class FusionBrainProperties {
     private String apiSecret;
 
     /**
-     * Maximum number of retries for failed requests.
+     * Maximum number of status polls of a task before waiting for it fails.
+     * Failed HTTP requests are retried according to {@link #retry}.
      * <p>Default: 5</p>
      */
     @Min(value = 0, message = "maxRetries must be at least 0.")
@@ -65,4 +81,478 @@ public class FusionBrainProperties {
      */
     @Positive(message = "asyncCorePoolSize must be positive")
     private int asyncCorePoolSize = 1;
-}
\ No newline at end of file
+
+    /**
+     * Settings of the async executor.
+     */
+    @Valid
+    private Async async = new Async();
+
+    /**
+     * Settings of the task status polling.
+     */
+    @Valid
+    private Polling polling = new Polling();
+
+    /**
+     * Settings of the pipeline and availability caches.
+     */
+    @Valid
+    private Cache cache = new Cache();
+
+    /**
+     * Settings of the client-side admission control.
+     */
+    @Valid
+    private Admission admission = new Admission();
+
+    /**
+     * Settings of the local submission queue.
+     */
+    @Valid
+    private Queue queue = new Queue();
+
+    /**
+     * Settings of batches started by {@link ai.fusionbrain.client.FusionBrainClient#runBatch}.
+     */
+    @Valid
+    private Batch batch = new Batch();
+
+    /**
+     * Settings of the client-side rate limiter.
+     */
+    @Valid
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * Settings of the retries of failed API requests.
+     */
+    @Valid
+    private Retry retry = new Retry();
+
+    /**
+     * Settings of the circuit breakers guarding the API endpoints.
+     */
+    @Valid
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Configuration properties for the async executor running API calls and status polls.
+     */
+    @Data
+    public static class Async {
+        /**
+         * Thread model of the async executor.
+         * <p>Default: {@link EAsyncMode#PLATFORM}</p>
+         */
+        @NotNull(message = "async.mode must not be null")
+        private EAsyncMode mode = EAsyncMode.PLATFORM;
+
+        /**
+         * Maximum number of tasks running at the same time in {@link EAsyncMode#VIRTUAL} mode.
+         * Further tasks are queued until a running task finishes; submitting never blocks.
+         * <p>Units: tasks</p>
+         * <p>Default: 100</p>
+         */
+        @Positive(message = "async.maxConcurrency must be positive")
+        private int maxConcurrency = 100;
+    }
+
+    /**
+     * Configuration properties for task status polling.
+     */
+    @Data
+    public static class Polling {
+        /**
+         * How pending tasks are polled.
+         * <p>Default: {@link EPollingMode#PER_TASK}</p>
+         */
+        @NotNull(message = "polling.mode must not be null")
+        private EPollingMode mode = EPollingMode.PER_TASK;
+
+        /**
+         * Maximum number of status requests running in parallel during a sweep.
+         * Used only in {@link EPollingMode#SWEEP} mode.
+         * <p>Default: 4</p>
+         */
+        @Positive(message = "polling.sweepConcurrency must be positive")
+        private int sweepConcurrency = 4;
+
+        /**
+         * Built-in strategy deciding when tasks are polled.
+         * Ignored when a {@link ai.fusionbrain.polling.PollingStrategy} bean is defined.
+         * <p>Default: {@link EPollingStrategy#FIXED}</p>
+         */
+        @NotNull(message = "polling.strategy must not be null")
+        private EPollingStrategy strategy = EPollingStrategy.FIXED;
+
+        /**
+         * Factor applied to the retry delay after every unfinished poll by the exponential strategies.
+         * <p>Default: 2.0</p>
+         */
+        @DecimalMin(value = "1.0", message = "polling.multiplier must be at least 1.0")
+        private double multiplier = 2.0;
+
+        /**
+         * Upper bound of the retry delay of the exponential strategies.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 30s</p>
+         */
+        @NotNull(message = "polling.maxInterval must not be null")
+        @DurationMin(nanos = 1, message = "polling.maxInterval must be positive")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration maxInterval = Duration.ofSeconds(30);
+
+        /**
+         * Maximum share of a retry delay removed at random by the jittered strategy.
+         * <p>Default: 0.5</p>
+         */
+        @DecimalMin(value = "0.0", message = "polling.jitter must be between 0.0 and 1.0")
+        @DecimalMax(value = "1.0", message = "polling.jitter must be between 0.0 and 1.0")
+        private double jitter = 0.5;
+    }
+
+    /**
+     * Configuration properties for the caches of {@code getPipelines} and {@code getPipelineAvailability}.
+     */
+    @Data
+    public static class Cache {
+        /**
+         * Whether pipeline lists and availability statuses are cached.
+         * <p>Default: false</p>
+         */
+        private boolean enabled = false;
+
+        /**
+         * Time a pipeline list is served from the cache.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 300s</p>
+         */
+        @NotNull(message = "cache.pipelinesTtl must not be null")
+        @DurationMin(nanos = 1, message = "cache.pipelinesTtl must be positive")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration pipelinesTtl = Duration.ofSeconds(300);
+
+        /**
+         * Time an availability status is served from the cache.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 10s</p>
+         */
+        @NotNull(message = "cache.availabilityTtl must not be null")
+        @DurationMin(nanos = 1, message = "cache.availabilityTtl must be positive")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration availabilityTtl = Duration.ofSeconds(10);
+
+        /**
+         * Share of the TTL after which a requested entry is reloaded in the background while the cached value
+         * is still served. {@code 1.0} disables refresh-ahead.
+         * <p>Default: 0.8</p>
+         */
+        @DecimalMin(value = "0.0", message = "cache.refreshAhead must be between 0.0 and 1.0")
+        @DecimalMax(value = "1.0", message = "cache.refreshAhead must be between 0.0 and 1.0")
+        private double refreshAhead = 0.8;
+    }
+
+    /**
+     * Configuration properties for holding back submissions to pipelines reported as disabled.
+     */
+    @Data
+    public static class Admission {
+        /**
+         * Whether submissions to pipelines reported as disabled are held back locally.
+         * <p>Default: false</p>
+         */
+        private boolean enabled = false;
+
+        /**
+         * How submissions to a closed pipeline are handled.
+         * <p>Default: {@link EAdmissionMode#REJECT}</p>
+         */
+        @NotNull(message = "admission.mode must not be null")
+        private EAdmissionMode mode = EAdmissionMode.REJECT;
+
+        /**
+         * Time a pipeline stays closed after it was last reported as disabled.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 30s</p>
+         */
+        @NotNull(message = "admission.coolDown must not be null")
+        @DurationMin(nanos = 1, message = "admission.coolDown must be positive")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration coolDown = Duration.ofSeconds(30);
+
+        /**
+         * Interval between availability probes of a closed pipeline. {@code 0} disables probes.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 10s</p>
+         */
+        @NotNull(message = "admission.probeInterval must not be null")
+        @DurationMin(message = "admission.probeInterval must be at least 0")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration probeInterval = Duration.ofSeconds(10);
+
+        /**
+         * Maximum time a submission waits for a closed pipeline to reopen in {@link EAdmissionMode#WAIT} mode.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 30s</p>
+         */
+        @NotNull(message = "admission.maxWait must not be null")
+        @DurationMin(message = "admission.maxWait must be at least 0")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration maxWait = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Configuration properties for the {@link ai.fusionbrain.queue.FusionBrainSubmissionQueue}.
+     */
+    @Data
+    public static class Queue {
+        /**
+         * Maximum number of submissions waiting in all lanes together.
+         * <p>Default: 100</p>
+         */
+        @Positive(message = "queue.capacity must be positive")
+        private int capacity = 100;
+
+        /**
+         * Maximum number of tasks per pipeline that are submitted and not yet completed.
+         * <p>Default: 4</p>
+         */
+        @Positive(message = "queue.maxInFlightPerPipeline must be positive")
+        private int maxInFlightPerPipeline = 4;
+
+        /**
+         * How submissions are handled while the queue is full.
+         * <p>Default: {@link EOverflowPolicy#BLOCK}</p>
+         */
+        @NotNull(message = "queue.overflowPolicy must not be null")
+        private EOverflowPolicy overflowPolicy = EOverflowPolicy.BLOCK;
+
+        /**
+         * Maximum time a submission blocks for space in {@link EOverflowPolicy#BLOCK} mode.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 30s</p>
+         */
+        @NotNull(message = "queue.blockTimeout must not be null")
+        @DurationMin(message = "queue.blockTimeout must be at least 0")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration blockTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Configuration properties for the {@link ai.fusionbrain.batch.BatchRunner}.
+     */
+    @Data
+    public static class Batch {
+        /**
+         * Maximum number of items of a batch that are submitted and not yet completed.
+         * <p>Default: 16</p>
+         */
+        @Positive(message = "batch.parallelism must be positive")
+        private int parallelism = 16;
+
+        /**
+         * Maximum number of items of a batch being submitted on the async executor at the same time.
+         * <p>Default: 2</p>
+         */
+        @Positive(message = "batch.submitConcurrency must be positive")
+        private int submitConcurrency = 2;
+    }
+
+    /**
+     * Configuration properties for the client-side rate limiter keeping calls within the API key quota.
+     */
+    @Data
+    public static class RateLimit {
+        /**
+         * Whether run submissions and status polls are rate limited locally.
+         * <p>Default: false</p>
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum time a call waits for a permit before failing. {@code 0} fails immediately when no permit is free.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 10s</p>
+         */
+        @NotNull(message = "rateLimit.maxWait must not be null")
+        @DurationMin(message = "rateLimit.maxWait must be at least 0")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration maxWait = Duration.ofSeconds(10);
+
+        /**
+         * Bucket limiting pipeline run submissions.
+         * <p>Default: 1 permit per second, burst of 2</p>
+         */
+        @Valid
+        @NotNull(message = "rateLimit.run must not be null")
+        private Bucket run = new Bucket(1.0, 2);
+
+        /**
+         * Bucket limiting task status polls.
+         * <p>Default: 5 permits per second, burst of 10</p>
+         */
+        @Valid
+        @NotNull(message = "rateLimit.status must not be null")
+        private Bucket status = new Bucket(5.0, 10);
+    }
+
+    /**
+     * Configuration properties for a single token bucket.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        /**
+         * Rate at which permits are refilled.
+         * <p>Units: permits per second</p>
+         */
+        @Positive(message = "rateLimit.permitsPerSecond must be positive")
+        private double permitsPerSecond = 1.0;
+
+        /**
+         * Number of permits available at once after a quiet period.
+         */
+        @Positive(message = "rateLimit.burst must be positive")
+        private int burst = 1;
+    }
+
+    /**
+     * Configuration properties for retrying API requests that failed with a transient error.
+     */
+    @Data
+    public static class Retry {
+        /**
+         * Whether failed API requests are retried.
+         * <p>Default: false</p>
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of attempts of a request, including the first one.
+         * <p>Default: 3</p>
+         */
+        @Positive(message = "retry.maxAttempts must be positive")
+        private int maxAttempts = 3;
+
+        /**
+         * Delay before the first retry.
+         * <p>Units: milliseconds if no unit is given</p>
+         * <p>Default: 200ms</p>
+         */
+        @NotNull(message = "retry.initialInterval must not be null")
+        @DurationMin(nanos = 1, message = "retry.initialInterval must be positive")
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration initialInterval = Duration.ofMillis(200);
+
+        /**
+         * Factor applied to the delay after every retry.
+         * <p>Default: 2.0</p>
+         */
+        @DecimalMin(value = "1.0", message = "retry.multiplier must be at least 1.0")
+        private double multiplier = 2.0;
+
+        /**
+         * Upper bound of the delay between retries, also applied to delays requested by {@code Retry-After}.
+         * <p>Units: milliseconds if no unit is given</p>
+         * <p>Default: 5s</p>
+         */
+        @NotNull(message = "retry.maxInterval must not be null")
+        @DurationMin(nanos = 1, message = "retry.maxInterval must be positive")
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration maxInterval = Duration.ofMillis(5000);
+
+        /**
+         * Maximum share of a delay removed at random.
+         * <p>Default: 0.5</p>
+         */
+        @DecimalMin(value = "0.0", message = "retry.jitter must be between 0.0 and 1.0")
+        @DecimalMax(value = "1.0", message = "retry.jitter must be between 0.0 and 1.0")
+        private double jitter = 0.5;
+
+        /**
+         * Share of requests that may be retried while failures persist.
+         * <p>Default: 0.2</p>
+         */
+        @DecimalMin(value = "0.0", message = "retry.budgetRatio must be between 0.0 and 1.0")
+        @DecimalMax(value = "1.0", message = "retry.budgetRatio must be between 0.0 and 1.0")
+        private double budgetRatio = 0.2;
+
+        /**
+         * Maximum number of retries saved up by the budget, available at once after a quiet period.
+         * <p>Default: 10</p>
+         */
+        @Positive(message = "retry.budgetReserve must be positive")
+        private int budgetReserve = 10;
+    }
+
+    /**
+     * Configuration properties for the circuit breakers of the run, status and pipelines endpoints.
+     */
+    @Data
+    public static class CircuitBreaker {
+        /**
+         * Whether calls to the API are guarded by circuit breakers.
+         * <p>Default: false</p>
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of most recent calls whose outcomes decide whether a circuit opens.
+         * <p>Default: 20</p>
+         */
+        @Positive(message = "circuitBreaker.windowSize must be positive")
+        private int windowSize = 20;
+
+        /**
+         * Number of calls recorded before the failure and slow-call rates are evaluated.
+         * <p>Default: 10</p>
+         */
+        @Positive(message = "circuitBreaker.minimumCalls must be positive")
+        private int minimumCalls = 10;
+
+        /**
+         * Share of failed calls in the window at which a circuit opens.
+         * <p>Default: 0.5</p>
+         */
+        @DecimalMin(value = "0.0", inclusive = false, message = "circuitBreaker.failureRateThreshold must be between 0.0 and 1.0")
+        @DecimalMax(value = "1.0", message = "circuitBreaker.failureRateThreshold must be between 0.0 and 1.0")
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * Duration above which a call counts as slow.
+         * <p>Units: milliseconds if no unit is given</p>
+         * <p>Default: 10s</p>
+         */
+        @NotNull(message = "circuitBreaker.slowCallDuration must not be null")
+        @DurationMin(nanos = 1, message = "circuitBreaker.slowCallDuration must be positive")
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration slowCallDuration = Duration.ofMillis(10000);
+
+        /**
+         * Share of slow calls in the window at which a circuit opens.
+         * <p>Default: 0.8</p>
+         */
+        @DecimalMin(value = "0.0", inclusive = false, message = "circuitBreaker.slowCallRateThreshold must be between 0.0 and 1.0")
+        @DecimalMax(value = "1.0", message = "circuitBreaker.slowCallRateThreshold must be between 0.0 and 1.0")
+        private double slowCallRateThreshold = 0.8;
+
+        /**
+         * Time an open circuit rejects calls before letting probes through.
+         * <p>Units: seconds if no unit is given</p>
+         * <p>Default: 30s</p>
+         */
+        @NotNull(message = "circuitBreaker.openDuration must not be null")
+        @DurationMin(nanos = 1, message = "circuitBreaker.openDuration must be positive")
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * Number of probe calls let through while half-open.
+         * <p>Default: 3</p>
+         */
+        @Positive(message = "circuitBreaker.halfOpenCalls must be positive")
+        private int halfOpenCalls = 3;
+    }
+}
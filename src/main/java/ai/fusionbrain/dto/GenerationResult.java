@@ -0,0 +1,115 @@
+package ai.fusionbrain.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DTO class representing the result of a finished generation task.
+ * <p>
+ * Images are kept as received and decoded from base64 only when first accessed through {@link #getImage(int)}
+ * or {@link #getImages()}; every image is decoded at most once.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GenerationResult {
+    /**
+     * Generated images as base64 strings, in the order returned by the API.
+     */
+    @ToString.Exclude
+    private List<String> files;
+
+    /**
+     * Whether the content filter censored the generated images.
+     */
+    private Boolean censored;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient byte[][] decoded;
+
+    /**
+     * Creates a result holding the given base64 images.
+     *
+     * @param files    Generated images as base64 strings.
+     * @param censored Whether the content filter censored the generated images.
+     */
+    public GenerationResult(List<String> files, Boolean censored) {
+        this.files = files;
+        this.censored = censored;
+    }
+
+    /**
+     * Replaces the images of this result and discards any already decoded ones.
+     *
+     * @param files Generated images as base64 strings.
+     */
+    public synchronized void setFiles(List<String> files) {
+        this.files = files;
+        this.decoded = null;
+    }
+
+    /**
+     * Returns the number of images in this result.
+     *
+     * @return Number of images.
+     */
+    @JsonIgnore
+    public int getImageCount() {
+        return files == null ? 0 : files.size();
+    }
+
+    /**
+     * Returns the decoded bytes of an image, decoding it on first access.
+     * The returned array is shared by all callers and must not be modified.
+     *
+     * @param index Zero-based position of the image.
+     * @return The decoded image.
+     * @throws IndexOutOfBoundsException If there is no image at {@code index}.
+     */
+    public synchronized byte[] getImage(int index) {
+        if (index < 0 || index >= getImageCount()) {
+            throw new IndexOutOfBoundsException("No image at index " + index + ", result holds " + getImageCount());
+        }
+        if (decoded == null) {
+            decoded = new byte[files.size()][];
+        }
+        if (decoded[index] == null) {
+            decoded[index] = Base64.getMimeDecoder().decode(files.get(index));
+        }
+        return decoded[index];
+    }
+
+    /**
+     * Returns the decoded bytes of all images, decoding those not accessed before.
+     * The returned arrays are shared by all callers and must not be modified.
+     *
+     * @return The decoded images, empty if the result holds none.
+     */
+    @JsonIgnore
+    public List<byte[]> getImages() {
+        List<byte[]> images = new ArrayList<>(getImageCount());
+        for (int i = 0; i < getImageCount(); i++) {
+            images.add(getImage(i));
+        }
+        return Collections.unmodifiableList(images);
+    }
+}
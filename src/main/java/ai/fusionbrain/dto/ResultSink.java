@@ -0,0 +1,98 @@
+package ai.fusionbrain.dto;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Destination for the images of a finished task, decoded from base64 while the status response is read.
+ * <p>
+ * The sink is asked for one stream per entry of {@code result.files}, in response order.
+ * Each returned stream is closed as soon as its image has been written.
+ * </p>
+ */
+@FunctionalInterface
+public interface ResultSink {
+    /**
+     * Opens the stream that receives the decoded bytes of an image.
+     *
+     * @param index Zero-based position of the image in {@code result.files}.
+     * @return The stream to write the image to.
+     * @throws IOException If the destination cannot be opened.
+     */
+    OutputStream open(int index) throws IOException;
+
+    /**
+     * Writes every image to the given stream, one after another. The stream itself is never closed.
+     *
+     * @param out The destination stream.
+     * @return Sink writing to {@code out}.
+     */
+    static ResultSink to(OutputStream out) {
+        Objects.requireNonNull(out, "out");
+        return index -> new NonClosingOutputStream(out);
+    }
+
+    /**
+     * Writes every image to the given channel, one after another. The channel itself is never closed.
+     *
+     * @param channel The destination channel.
+     * @return Sink writing to {@code channel}.
+     */
+    static ResultSink to(WritableByteChannel channel) {
+        Objects.requireNonNull(channel, "channel");
+        return index -> new NonClosingOutputStream(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Writes the image of a single-image task to a file, replacing any existing content.
+     *
+     * @param file The destination file.
+     * @return Sink writing to {@code file}; fails if the result holds more than one image.
+     */
+    static ResultSink toFile(Path file) {
+        Objects.requireNonNull(file, "file");
+        return index -> {
+            if (index > 0) {
+                throw new IOException("Result holds more than one image, use ResultSink.toFiles instead");
+            }
+            return Files.newOutputStream(file);
+        };
+    }
+
+    /**
+     * Writes each image to its own file, replacing any existing content.
+     *
+     * @param files Function resolving the destination file from the image index.
+     * @return Sink writing to the resolved files.
+     */
+    static ResultSink toFiles(IntFunction<Path> files) {
+        Objects.requireNonNull(files, "files");
+        return index -> Files.newOutputStream(files.apply(index));
+    }
+
+    /**
+     * Flushes instead of closing, so that a caller-owned destination outlives the sink.
+     */
+    final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -2,7 +2,7 @@ package ai.fusionbrain.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +12,9 @@ import java.util.UUID;
 
 /**
  * DTO class representing the response status of a request.
+ * <p>
+ * Reading it with the {@link StatusOnly} view skips the {@code result} subtree without parsing it.
+ * </p>
  */
 @Data
 @AllArgsConstructor
@@ -22,26 +25,43 @@ public class StatusResponse {
     /**
      * Unique identifier associated with the request.
      */
+    @JsonView(StatusOnly.class)
     @JsonProperty("uuid")
     private UUID id;
 
     /**
      * Current status of the request.
      */
+    @JsonView(StatusOnly.class)
     private EResourceStatus status;
 
     /**
      * Description providing more details about the current status.
      */
+    @JsonView(StatusOnly.class)
     private String statusDescription;
 
     /**
-     * Result data associated with the request, represented as a JSON node.
+     * Result of the generation, present once the task is done.
      */
-    private JsonNode result;
+    @JsonView(WithResult.class)
+    private GenerationResult result;
 
     /**
      * Time taken (in seconds) to generate the resource.
      */
+    @JsonView(StatusOnly.class)
     private Long generationTime;
+
+    /**
+     * JSON view holding the status fields only.
+     */
+    public interface StatusOnly {
+    }
+
+    /**
+     * JSON view holding the status fields and the result.
+     */
+    public interface WithResult extends StatusOnly {
+    }
 }
@@ -0,0 +1,194 @@
+package ai.fusionbrain.dto.request;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Input file of a pipeline run, uploaded without first being loaded into a {@code byte[]}.
+ * <p>
+ * Files on disk are transferred through a {@link FileChannel}, buffers are written as they are and streams are
+ * copied in small chunks. Sources created from an {@link InputStream} can be uploaded only once and are closed
+ * after the upload.
+ * </p>
+ */
+public final class FileSource {
+    private static final String DEFAULT_FILENAME = "file";
+
+    private final Resource resource;
+    // Set for sources created from a stream, so that one byte can be read ahead by isEmpty()
+    private final PushbackInputStream stream;
+
+    private FileSource(Resource resource) {
+        this.resource = resource;
+        this.stream = null;
+    }
+
+    private FileSource(PushbackInputStream stream) {
+        this.resource = new InputStreamResource(stream);
+        this.stream = stream;
+    }
+
+    public static FileSource of(byte[] content) {
+        Assert.notNull(content, "File content must not be null");
+        return new FileSource(new ByteArrayResource(content));
+    }
+
+    public static FileSource of(Path path) {
+        Assert.notNull(path, "File path must not be null");
+        return new FileSource(new FileSystemResource(path));
+    }
+
+    public static FileSource of(ByteBuffer buffer) {
+        Assert.notNull(buffer, "File buffer must not be null");
+        return new FileSource(new ByteBufferResource(buffer));
+    }
+
+    public static FileSource of(InputStream inputStream) {
+        Assert.notNull(inputStream, "File stream must not be null");
+        return new FileSource(new PushbackInputStream(inputStream, 1));
+    }
+
+    public static FileSource of(Resource resource) {
+        Assert.notNull(resource, "File resource must not be null");
+        return new FileSource(resource);
+    }
+
+    /**
+     * The underlying resource, e.g. for clients that stream it themselves.
+     */
+    public Resource getResource() {
+        return resource;
+    }
+
+    /**
+     * The name of the file, or {@code "file"} if the source has none.
+     */
+    public String getFilename() {
+        String filename = resource.getFilename();
+        return filename != null ? filename : DEFAULT_FILENAME;
+    }
+
+    /**
+     * The size of the file in bytes, or {@code -1} if it cannot be determined without consuming a stream.
+     */
+    public long contentLength() throws IOException {
+        return resource instanceof InputStreamResource ? -1 : resource.contentLength();
+    }
+
+    /**
+     * Whether the file has no content. Sources created from an {@link InputStream} are checked by reading one byte
+     * ahead, which is kept for the upload; a {@link Resource} of unknown length is never reported as empty.
+     */
+    public boolean isEmpty() throws IOException {
+        if (stream != null) {
+            int next = stream.read();
+            if (next == -1) {
+                return true;
+            }
+            stream.unread(next);
+            return false;
+        }
+        return !(resource instanceof InputStreamResource) && resource.contentLength() == 0;
+    }
+
+    /**
+     * Writes the content of the file to the given stream, which is left open.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (resource instanceof ByteBufferResource bufferResource) {
+            bufferResource.writeTo(out);
+        } else if (resource instanceof ByteArrayResource arrayResource) {
+            out.write(arrayResource.getByteArray());
+        } else if (resource.isFile()) {
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long size = channel.size();
+                long position = 0;
+                long transferred;
+                // Stops early if the file is truncated while being uploaded
+                while (position < size && (transferred = channel.transferTo(position, size - position, target)) > 0) {
+                    position += transferred;
+                }
+            }
+        } else {
+            try (InputStream in = resource.getInputStream()) {
+                in.transferTo(out);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileSource[" + resource.getDescription() + "]";
+    }
+
+    /**
+     * Exposes the remaining bytes of a buffer without copying heap buffers; the buffer's position is not changed.
+     */
+    private static class ByteBufferResource extends AbstractResource {
+        private final ByteBuffer buffer;
+
+        ByteBufferResource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            ByteBuffer content = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return content.hasRemaining() ? content.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (!content.hasRemaining()) {
+                        return len == 0 ? 0 : -1;
+                    }
+                    int count = Math.min(len, content.remaining());
+                    content.get(b, off, count);
+                    return count;
+                }
+
+                @Override
+                public int available() {
+                    return content.remaining();
+                }
+            };
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public String getDescription() {
+            return "ByteBuffer [" + buffer.remaining() + " bytes]";
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            if (buffer.hasArray()) {
+                out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            } else {
+                Channels.newChannel(out).write(buffer.duplicate());
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ai.fusionbrain.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a call is not made because the circuit breaker of its endpoint is open.
+ */
+@Getter
+public class CircuitBreakerOpenException extends FusionBrainServerException {
+    /**
+     * Time until the circuit lets calls through again in milliseconds, or {@code 0} if it is unknown.
+     */
+    private final long retryAfterMillis;
+
+    /**
+     * Constructs a new exception with the specified message.
+     *
+     * @param message The detail message.
+     */
+    public CircuitBreakerOpenException(String message) {
+        this(message, 0);
+    }
+
+    /**
+     * Constructs a new exception with the specified message and time until the circuit lets calls through again.
+     *
+     * @param message          The detail message.
+     * @param retryAfterMillis Time until the circuit becomes half-open in milliseconds, or {@code 0} if unknown.
+     */
+    public CircuitBreakerOpenException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -1,17 +1,73 @@
 package ai.fusionbrain.exception;
 
+import feign.Request;
 import feign.Response;
+import feign.RetryableException;
 import feign.codec.ErrorDecoder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 public class FusionBrainErrorDecoder implements ErrorDecoder {
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(429, 502, 503, 504);
+
+    /**
+     * Decodes an error response. Transient statuses are wrapped into a {@link RetryableException} whose cause is
+     * the {@link FusionBrainServerException}, so that the configured {@link feign.Retryer} may retry the request.
+     */
     @Override
     public Exception decode(String methodKey, Response response) {
+        FusionBrainServerException exception = decodeServerError(methodKey, response);
+        if (!TRANSIENT_STATUSES.contains(response.status())) {
+            return exception;
+        }
+
+        Request request = response.request();
+        return new RetryableException(response.status(), exception.getMessage(),
+                request != null ? request.httpMethod() : null, exception, retryAfter(response), request);
+    }
+
+    /**
+     * Decodes an error response into a {@link FusionBrainServerException} regardless of its status.
+     *
+     * @param methodKey The Feign method key of the failed call.
+     * @param response  The error response.
+     * @return The exception describing the failure.
+     */
+    public FusionBrainServerException decodeServerError(String methodKey, Response response) {
         String message = String.format("Failed request to FusionBrain API. Status: %d, Method: %s",
                 response.status(), methodKey);
 
         log.error(message);
-        return new FusionBrainServerException(message);
+        return new FusionBrainServerException(message, response.status());
+    }
+
+    /**
+     * Reads the {@code Retry-After} header as epoch milliseconds, accepting delay seconds and HTTP dates.
+     */
+    private static Long retryAfter(Response response) {
+        Collection<String> values = response.headers().get(RETRY_AFTER);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        String value = values.iterator().next().trim();
+        try {
+            return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            try {
+                return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            } catch (DateTimeParseException ignored) {
+                log.debug("Ignoring malformed {} header: {}", RETRY_AFTER, value);
+                return null;
+            }
+        }
     }
-}
\ No newline at end of file
+}
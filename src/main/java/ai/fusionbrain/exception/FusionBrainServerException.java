@@ -1,17 +1,36 @@
 package ai.fusionbrain.exception;
 
+import lombok.Getter;
+
 /**
  * This class represents exceptions that occur on the server side within the FusionBrain application.
  * It extends the base FusionBrainException class to provide specific handling for server-related errors.
  */
+@Getter
 public class FusionBrainServerException extends FusionBrainException {
+    /**
+     * HTTP status of the failed response, or {@code -1} if no response was received or the status is unknown.
+     */
+    private final int status;
+
     /**
      * Constructs a new FusionBrainServerException with the specified message.
      *
      * @param message The detail message explaining the exception.
      */
     public FusionBrainServerException(String message) {
+        this(message, -1);
+    }
+
+    /**
+     * Constructs a new FusionBrainServerException with the specified message and HTTP status.
+     *
+     * @param message The detail message explaining the exception.
+     * @param status  The HTTP status of the failed response.
+     */
+    public FusionBrainServerException(String message, int status) {
         super(message);
+        this.status = status;
     }
 
     /**
@@ -22,5 +41,6 @@ public class FusionBrainServerException extends FusionBrainException {
      */
     public FusionBrainServerException(String message, Throwable cause) {
         super(message, cause);
+        this.status = -1;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package ai.fusionbrain.exception;
+
+/**
+ * Exception thrown when the client-side rate limit does not grant a request in time.
+ */
+public class RateLimitExceededException extends FusionBrainException {
+    /**
+     * Constructs a new exception with the specified message.
+     *
+     * @param message The detail message.
+     */
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception with the specified message and cause.
+     *
+     * @param message The detail message.
+     * @param cause   The cause of this exception.
+     */
+    public RateLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
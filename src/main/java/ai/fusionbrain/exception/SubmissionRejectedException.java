@@ -0,0 +1,25 @@
+package ai.fusionbrain.exception;
+
+/**
+ * Exception thrown when a submission is rejected or dropped by the local submission queue.
+ */
+public class SubmissionRejectedException extends FusionBrainException {
+    /**
+     * Constructs a new exception with the specified message.
+     *
+     * @param message The detail message.
+     */
+    public SubmissionRejectedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception with the specified message and cause.
+     *
+     * @param message The detail message.
+     * @param cause   The cause of this exception.
+     */
+    public SubmissionRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
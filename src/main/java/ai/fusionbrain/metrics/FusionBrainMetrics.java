@@ -0,0 +1,61 @@
+package ai.fusionbrain.metrics;
+
+import ai.fusionbrain.dto.StatusResponse;
+
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Receives measurements of the operations of a {@link ai.fusionbrain.client.FusionBrainClientImpl}.
+ * <p>
+ * The client depends only on this interface, so it works without Micrometer on the classpath; see
+ * {@link MicrometerFusionBrainMetrics} for the implementation registered when a {@code MeterRegistry} bean exists.
+ * </p>
+ */
+public interface FusionBrainMetrics {
+    /**
+     * Implementation discarding all measurements.
+     */
+    FusionBrainMetrics NOOP = new FusionBrainMetrics() {
+    };
+
+    /**
+     * Records a call of a client operation.
+     *
+     * @param operation     Name of the operation, e.g. {@code run} or {@code status}.
+     * @param pipelineId    The pipeline the call was for, or {@code null} if unknown.
+     * @param error         The exception the call failed with, or {@code null} if it succeeded.
+     * @param durationNanos Duration of the call.
+     */
+    default void recordCall(String operation, UUID pipelineId, Throwable error, long durationNanos) {
+    }
+
+    /**
+     * Records the size of the files uploaded with a pipeline run.
+     *
+     * @param pipelineId The pipeline.
+     * @param bytes      Total size of the files of known length.
+     */
+    default void recordUpload(UUID pipelineId, long bytes) {
+    }
+
+    /**
+     * Records a task whose completion was awaited.
+     *
+     * @param pipelineId The pipeline that ran the task, or {@code null} if unknown.
+     * @param status     The final status, or {@code null} if waiting failed.
+     * @param polls      Number of status polls made for the task.
+     */
+    default void recordTaskCompleted(UUID pipelineId, StatusResponse status, int polls) {
+    }
+
+    /**
+     * Binds gauges reporting the load of a client.
+     *
+     * @param client              Name of the client, distinguishing the gauges of several clients.
+     * @param pendingTasks        Number of tasks waiting for completion.
+     * @param inFlightSubmissions Number of pipeline runs being submitted.
+     */
+    default void bindClient(String client, IntSupplier pendingTasks, IntSupplier inFlightSubmissions) {
+    }
+}
@@ -0,0 +1,203 @@
+package ai.fusionbrain.metrics;
+
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.exception.CircuitBreakerOpenException;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.exception.RateLimitExceededException;
+import ai.fusionbrain.exception.SubmissionRejectedException;
+import ai.fusionbrain.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * {@link FusionBrainMetrics} recording into a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Calls are timed by {@value #CALLS} tagged with {@code operation}, {@code pipeline}, {@code status} and
+ * {@code outcome}. Awaited tasks are counted by {@value #TASKS} and described by the {@value #GENERATION_TIME} and
+ * {@value #POLLS} summaries; uploads by the {@value #UPLOAD_SIZE} summary. Gauges report pending tasks and
+ * in-flight submissions per {@code client}, the executor queue and the HTTP connection pool.
+ * </p>
+ * <p>
+ * Meters are registered once per tag combination and then looked up in local maps, so recording a call does not
+ * build a meter ID or go through the registry.
+ * </p>
+ */
+public class MicrometerFusionBrainMetrics implements FusionBrainMetrics {
+    public static final String CALLS = "fusionbrain.client.calls";
+    public static final String UPLOAD_SIZE = "fusionbrain.client.upload.size";
+    public static final String TASKS = "fusionbrain.tasks.completed";
+    public static final String GENERATION_TIME = "fusionbrain.tasks.generation.time";
+    public static final String POLLS = "fusionbrain.tasks.polls";
+    public static final String PENDING_TASKS = "fusionbrain.tasks.pending";
+    public static final String IN_FLIGHT_SUBMISSIONS = "fusionbrain.submissions.in.flight";
+    public static final String EXECUTOR_QUEUED = "fusionbrain.executor.queued";
+    public static final String EXECUTOR_ACTIVE = "fusionbrain.executor.active";
+    public static final String CONNECTIONS = "fusionbrain.http.connections";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final Map<CallKey, Timer> calls = new ConcurrentHashMap<>();
+    private final Map<TaskKey, Counter> tasks = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> uploadSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> taskPolls = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> generationTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates metrics recording into the given registry.
+     *
+     * @param registry The meter registry.
+     */
+    public MicrometerFusionBrainMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordCall(String operation, UUID pipelineId, Throwable error, long durationNanos) {
+        FusionBrainServerException serverError = findServerError(error);
+        String status = error == null ? "2xx"
+                : serverError != null && serverError.getStatus() >= 0 ? String.valueOf(serverError.getStatus()) : NONE;
+
+        calls.computeIfAbsent(new CallKey(operation, tag(pipelineId), status, outcome(error, serverError)),
+                key -> Timer.builder(CALLS)
+                        .description("Calls of FusionBrain client operations")
+                        .tags(Tags.of("operation", key.operation(), "pipeline", key.pipeline(),
+                                "status", key.status(), "outcome", key.outcome()))
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordUpload(UUID pipelineId, long bytes) {
+        uploadSizes.computeIfAbsent(tag(pipelineId), pipeline -> DistributionSummary.builder(UPLOAD_SIZE)
+                        .description("Size of the files uploaded with a pipeline run")
+                        .baseUnit(BaseUnits.BYTES)
+                        .tag("pipeline", pipeline)
+                        .register(registry))
+                .record(bytes);
+    }
+
+    @Override
+    public void recordTaskCompleted(UUID pipelineId, StatusResponse status, int polls) {
+        String pipeline = tag(pipelineId);
+        String taskStatus = status != null && status.getStatus() != null ? status.getStatus().name() : NONE;
+
+        tasks.computeIfAbsent(new TaskKey(pipeline, taskStatus), key -> Counter.builder(TASKS)
+                        .description("Tasks whose completion was awaited")
+                        .tags("pipeline", key.pipeline(), "status", key.status())
+                        .register(registry))
+                .increment();
+        taskPolls.computeIfAbsent(pipeline, key -> DistributionSummary.builder(POLLS)
+                        .description("Status polls needed per task")
+                        .tag("pipeline", key)
+                        .register(registry))
+                .record(polls);
+
+        if (status != null && status.getGenerationTime() != null) {
+            generationTimes.computeIfAbsent(pipeline, key -> DistributionSummary.builder(GENERATION_TIME)
+                            .description("Generation time reported by the API")
+                            .baseUnit("seconds")
+                            .tag("pipeline", key)
+                            .register(registry))
+                    .record(status.getGenerationTime());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The registry keeps the first gauge registered for a name and tags, so every client needs its own name.
+     * </p>
+     */
+    @Override
+    public void bindClient(String client, IntSupplier pendingTasks, IntSupplier inFlightSubmissions) {
+        Gauge.builder(PENDING_TASKS, pendingTasks::getAsInt)
+                .description("Tasks waiting for completion")
+                .tag("client", client)
+                .register(registry);
+        Gauge.builder(IN_FLIGHT_SUBMISSIONS, inFlightSubmissions::getAsInt)
+                .description("Pipeline runs being submitted")
+                .tag("client", client)
+                .register(registry);
+    }
+
+    /**
+     * Binds gauges reporting the queue depth and active threads of a thread pool.
+     *
+     * @param executor The thread pool running API calls and status polls.
+     */
+    public void bindExecutor(ThreadPoolExecutor executor) {
+        Gauge.builder(EXECUTOR_QUEUED, executor, pool -> pool.getQueue().size())
+                .description("Tasks waiting in the queue of the async executor")
+                .register(registry);
+        Gauge.builder(EXECUTOR_ACTIVE, executor, ThreadPoolExecutor::getActiveCount)
+                .description("Threads of the async executor running a task")
+                .register(registry);
+    }
+
+    /**
+     * Binds gauges reporting the state of an HTTP connection pool.
+     *
+     * @param leased    Number of connections in use.
+     * @param available Number of idle connections.
+     * @param pending   Number of requests waiting for a connection.
+     */
+    public void bindConnectionPool(IntSupplier leased, IntSupplier available, IntSupplier pending) {
+        Gauge.builder(CONNECTIONS, leased::getAsInt).tag("state", "leased")
+                .description("HTTP connections leased from the pool")
+                .register(registry);
+        Gauge.builder(CONNECTIONS, available::getAsInt).tag("state", "available")
+                .description("Idle HTTP connections in the pool")
+                .register(registry);
+        Gauge.builder(CONNECTIONS, pending::getAsInt).tag("state", "pending")
+                .description("Requests waiting for an HTTP connection")
+                .register(registry);
+    }
+
+    private static String outcome(Throwable error, FusionBrainServerException serverError) {
+        if (error == null) {
+            return "SUCCESS";
+        }
+        if (error instanceof CircuitBreakerOpenException || error instanceof RateLimitExceededException
+                || error instanceof PipelineDisabledException || error instanceof SubmissionRejectedException
+                || error instanceof ValidationException) {
+            return "REJECTED";
+        }
+        if (serverError != null && serverError.getStatus() >= 400) {
+            return serverError.getStatus() < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+        }
+        return "ERROR";
+    }
+
+    private static FusionBrainServerException findServerError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FusionBrainServerException serverError) {
+                return serverError;
+            }
+        }
+        return null;
+    }
+
+    private static String tag(UUID pipelineId) {
+        return pipelineId != null ? pipelineId.toString() : NONE;
+    }
+
+    private record CallKey(String operation, String pipeline, String status, String outcome) {
+    }
+
+    private record TaskKey(String pipeline, String status) {
+    }
+}
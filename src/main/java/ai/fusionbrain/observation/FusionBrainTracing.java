@@ -0,0 +1,55 @@
+package ai.fusionbrain.observation;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Traces the operations of a {@link ai.fusionbrain.client.FusionBrainClientImpl}.
+ * <p>
+ * A generation is traced as one task span from the submission to the final status, with a child span per API call.
+ * The client depends only on this interface, so it works without Micrometer on the classpath; see
+ * {@link ObservationFusionBrainTracing} for the implementation registered when an {@code ObservationRegistry} bean
+ * exists.
+ * </p>
+ */
+public interface FusionBrainTracing {
+    /**
+     * Implementation tracing nothing.
+     */
+    FusionBrainTracing NOOP = new FusionBrainTracing() {
+    };
+
+    /**
+     * Starts the span of a task as a child of the current span, without making it current.
+     *
+     * @param pipelineId The pipeline running the task, or {@code null} if unknown.
+     * @return The started task span.
+     */
+    default TaskTrace startTask(UUID pipelineId) {
+        return TaskTrace.NOOP;
+    }
+
+    /**
+     * Runs an API call in a span that is a child of the current span.
+     *
+     * @param operation  Name of the operation, e.g. {@code run} or {@code status}.
+     * @param pipelineId The pipeline the call is for, or {@code null} if unknown.
+     * @param call       The call.
+     * @param <T>        Type of the call result.
+     * @return The result of the call.
+     */
+    default <T> T traceCall(String operation, UUID pipelineId, Supplier<T> call) {
+        return call.get();
+    }
+
+    /**
+     * Wraps an executor so that tasks run in the span that was current when they were submitted.
+     *
+     * @param executor The executor.
+     * @return The wrapping executor.
+     */
+    default Executor wrap(Executor executor) {
+        return executor;
+    }
+}
@@ -0,0 +1,96 @@
+package ai.fusionbrain.observation;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link FusionBrainTracing} creating Micrometer {@link Observation}s, which a tracing bridge turns into spans.
+ * <p>
+ * A task is observed as {@value #TASK} from the submission to the final status. The {@code run} call and every
+ * status poll are observed as {@value #CALL} children of the task, also when the poll runs on the async executor.
+ * Phase ends are recorded as events on the task: {@code queued} after client-side admission and rate limiting,
+ * {@code uploaded} when the run request with its files has been answered, {@code generated} with the generation time
+ * reported by the API and {@code polled} with the time spent in status polls, or {@code unawaited} when the task was
+ * not awaited in time. The durations are added as high cardinality key values in milliseconds.
+ * </p>
+ */
+public class ObservationFusionBrainTracing implements FusionBrainTracing {
+    public static final String TASK = "fusionbrain.task";
+    public static final String CALL = "fusionbrain.client.call";
+
+    private static final String NONE = "none";
+
+    private final ObservationRegistry registry;
+
+    /**
+     * Creates tracing observed by the given registry.
+     *
+     * @param registry The observation registry.
+     */
+    public ObservationFusionBrainTracing(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public TaskTrace startTask(UUID pipelineId) {
+        Observation observation = Observation.createNotStarted(TASK, registry)
+                .contextualName("fusionbrain task")
+                .lowCardinalityKeyValue("pipeline", tag(pipelineId))
+                .start();
+        return new ObservedTask(observation);
+    }
+
+    @Override
+    public <T> T traceCall(String operation, UUID pipelineId, Supplier<T> call) {
+        return Observation.createNotStarted(CALL, registry)
+                .contextualName("fusionbrain " + operation)
+                .lowCardinalityKeyValues(KeyValues.of("operation", operation, "pipeline", tag(pipelineId)))
+                .observe(call);
+    }
+
+    @Override
+    public Executor wrap(Executor executor) {
+        return command -> {
+            Observation current = registry.getCurrentObservation();
+            executor.execute(current != null ? () -> current.scoped(command) : command);
+        };
+    }
+
+    private static String tag(UUID pipelineId) {
+        return pipelineId != null ? pipelineId.toString() : NONE;
+    }
+
+    private record ObservedTask(Observation observation) implements TaskTrace {
+        @Override
+        public <T> T within(Supplier<T> call) {
+            return observation.scoped(call);
+        }
+
+        @Override
+        public void taskId(UUID taskId) {
+            observation.highCardinalityKeyValue("task", taskId.toString());
+        }
+
+        @Override
+        public void event(String name, long durationNanos) {
+            observation.highCardinalityKeyValue("fusionbrain." + name + ".time",
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(durationNanos)));
+            observation.event(Observation.Event.of(name));
+        }
+
+        @Override
+        public void stop(int polls, Throwable error) {
+            observation.highCardinalityKeyValue("polls", String.valueOf(polls));
+            if (error != null) {
+                observation.error(error);
+            }
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ai.fusionbrain.observation;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Span of a single task, open from its submission until its completion has been awaited.
+ */
+public interface TaskTrace {
+    /**
+     * Span discarding everything.
+     */
+    TaskTrace NOOP = new TaskTrace() {
+    };
+
+    /**
+     * Runs a call with this span as the current span, so that spans started by the call become its children.
+     *
+     * @param call The call.
+     * @param <T>  Type of the call result.
+     * @return The result of the call.
+     */
+    default <T> T within(Supplier<T> call) {
+        return call.get();
+    }
+
+    /**
+     * Records the UUID assigned to the task by the API.
+     *
+     * @param taskId The task UUID.
+     */
+    default void taskId(UUID taskId) {
+    }
+
+    /**
+     * Records an event that ended a phase of the task, together with the duration of the phase.
+     *
+     * @param name          Name of the event, e.g. {@code uploaded}.
+     * @param durationNanos Duration of the phase.
+     */
+    default void event(String name, long durationNanos) {
+    }
+
+    /**
+     * Ends the span.
+     *
+     * @param polls Number of status polls made for the task.
+     * @param error The exception the task failed with, or {@code null}.
+     */
+    default void stop(int polls, Throwable error) {
+    }
+}
@@ -0,0 +1,90 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.StatusResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Learns the typical generation time ({@link StatusResponse} {@code generationTime}) of every pipeline and
+ * schedules the first poll near the expected finish time instead of polling from the start.
+ * <p>
+ * Estimates are exponentially weighted moving averages of the generation times of completed tasks.
+ * Tasks waited for without a pipeline id share one estimate. Until a pipeline has an estimate,
+ * the requested initial delay is used. After a poll misses the completion, up to ten polls follow
+ * at a tenth of the expected generation time, bounded by {@code pollInterval}, but never more than half of
+ * {@code maxRetries}. The remaining polls are spaced so that the whole wait still lasts at least
+ * {@code maxRetries * pollInterval} after the first poll, as long as with a fixed schedule.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdaptivePollingStrategy implements PollingStrategy {
+    private static final UUID UNKNOWN_PIPELINE = new UUID(0, 0);
+    private static final double SMOOTHING = 0.2;
+    private static final long MIN_RETRY_DELAY_MILLIS = 500;
+    private static final int MAX_FAST_RETRIES = 10;
+
+    private final FusionBrainProperties properties;
+    private final Map<UUID, Double> expectedMillis = new ConcurrentHashMap<>();
+
+    @Override
+    public long initialDelayMillis(UUID pipelineId, long initialDelay) {
+        long requested = TimeUnit.SECONDS.toMillis(initialDelay);
+        Double expected = expectedMillis.get(key(pipelineId));
+        return expected == null ? requested : Math.max(requested, expected.longValue());
+    }
+
+    @Override
+    public long nextDelayMillis(UUID pipelineId, int attempt) {
+        long pollInterval = TimeUnit.SECONDS.toMillis(properties.getPollInterval());
+        Double expected = expectedMillis.get(key(pipelineId));
+        if (expected == null) {
+            return pollInterval;
+        }
+        long fastDelay = Math.min(pollInterval, Math.max(MIN_RETRY_DELAY_MILLIS, (long) (expected / 10)));
+
+        int maxRetries = properties.getMaxRetries();
+        int fastRetries = Math.min(MAX_FAST_RETRIES, maxRetries / 2);
+        if (attempt <= fastRetries) {
+            return fastDelay;
+        }
+        // Makes up for the time saved by the fast retries, so fewer polls never mean a shorter wait
+        long remainingWindow = maxRetries * pollInterval - fastRetries * fastDelay;
+        int remainingRetries = Math.max(1, maxRetries - fastRetries);
+        return (remainingWindow + remainingRetries - 1) / remainingRetries;
+    }
+
+    @Override
+    public void onCompleted(UUID pipelineId, StatusResponse status, long elapsedMillis) {
+        if (status.getStatus() != EResourceStatus.DONE || status.getGenerationTime() == null) {
+            return;
+        }
+
+        double sample = TimeUnit.SECONDS.toMillis(status.getGenerationTime());
+        Double estimate = expectedMillis.merge(key(pipelineId), sample,
+                (previous, current) -> previous + SMOOTHING * (current - previous));
+        log.trace("Expected generation time of pipeline {} is now {} ms", pipelineId, estimate.longValue());
+    }
+
+    /**
+     * Returns the learned generation time of a pipeline.
+     *
+     * @param pipelineId The pipeline identifier, or {@code null} for tasks without a known pipeline.
+     * @return Expected generation time in milliseconds, or {@code -1} if nothing was learned yet.
+     */
+    public long getExpectedMillis(UUID pipelineId) {
+        Double expected = expectedMillis.get(key(pipelineId));
+        return expected == null ? -1 : expected.longValue();
+    }
+
+    private static UUID key(UUID pipelineId) {
+        return pipelineId == null ? UNKNOWN_PIPELINE : pipelineId;
+    }
+}
@@ -0,0 +1,15 @@
+package ai.fusionbrain.polling;
+
+/**
+ * Enumeration of the strategies used to poll the status of pending tasks.
+ */
+public enum EPollingMode {
+    /**
+     * Every task is polled on its own timer.
+     */
+    PER_TASK,
+    /**
+     * Pending tasks are kept in a registry and polled together in periodic sweeps.
+     */
+    SWEEP
+}
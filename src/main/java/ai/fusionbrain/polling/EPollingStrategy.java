@@ -0,0 +1,23 @@
+package ai.fusionbrain.polling;
+
+/**
+ * Enumeration of the built-in {@link PollingStrategy} implementations.
+ */
+public enum EPollingStrategy {
+    /**
+     * Polls every {@code pollInterval} seconds.
+     */
+    FIXED,
+    /**
+     * Starts at {@code pollInterval} seconds and multiplies the delay after every unfinished poll.
+     */
+    EXPONENTIAL,
+    /**
+     * Exponential backoff with random jitter, spreading polls of tasks submitted together.
+     */
+    JITTERED,
+    /**
+     * Learns the typical generation time of each pipeline and polls first near the expected finish time.
+     */
+    ADAPTIVE
+}
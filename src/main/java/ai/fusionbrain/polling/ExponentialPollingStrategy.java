@@ -0,0 +1,29 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls after the requested initial delay, then after {@code pollInterval} seconds multiplied by
+ * {@code polling.multiplier} for every further unfinished poll, capped at {@code polling.max-interval}.
+ */
+@RequiredArgsConstructor
+public class ExponentialPollingStrategy implements PollingStrategy {
+    private final FusionBrainProperties properties;
+
+    @Override
+    public long initialDelayMillis(UUID pipelineId, long initialDelay) {
+        return TimeUnit.SECONDS.toMillis(initialDelay);
+    }
+
+    @Override
+    public long nextDelayMillis(UUID pipelineId, int attempt) {
+        FusionBrainProperties.Polling polling = properties.getPolling();
+        double delay = TimeUnit.SECONDS.toMillis(properties.getPollInterval())
+                * Math.pow(polling.getMultiplier(), Math.max(0, attempt - 1));
+        return (long) Math.min(delay, polling.getMaxInterval().toMillis());
+    }
+}
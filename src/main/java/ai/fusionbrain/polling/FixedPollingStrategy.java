@@ -0,0 +1,26 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls after the requested initial delay and then every {@code pollInterval} seconds.
+ * The first re-check follows the initial poll immediately.
+ */
+@RequiredArgsConstructor
+public class FixedPollingStrategy implements PollingStrategy {
+    private final FusionBrainProperties properties;
+
+    @Override
+    public long initialDelayMillis(UUID pipelineId, long initialDelay) {
+        return TimeUnit.SECONDS.toMillis(initialDelay);
+    }
+
+    @Override
+    public long nextDelayMillis(UUID pipelineId, int attempt) {
+        return attempt <= 1 ? 0 : TimeUnit.SECONDS.toMillis(properties.getPollInterval());
+    }
+}
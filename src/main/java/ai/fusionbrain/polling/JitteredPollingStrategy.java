@@ -0,0 +1,34 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.dto.StatusResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decorator that shortens every retry delay of another strategy by a random share of up to {@code jitter},
+ * so that tasks submitted together do not keep polling in lockstep.
+ * The initial delay is passed through unchanged.
+ */
+@RequiredArgsConstructor
+public class JitteredPollingStrategy implements PollingStrategy {
+    private final PollingStrategy delegate;
+    private final double jitter;
+
+    @Override
+    public long initialDelayMillis(UUID pipelineId, long initialDelay) {
+        return delegate.initialDelayMillis(pipelineId, initialDelay);
+    }
+
+    @Override
+    public long nextDelayMillis(UUID pipelineId, int attempt) {
+        long delay = delegate.nextDelayMillis(pipelineId, attempt);
+        return delay - (long) (delay * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    @Override
+    public void onCompleted(UUID pipelineId, StatusResponse status, long elapsedMillis) {
+        delegate.onCompleted(pipelineId, status, elapsedMillis);
+    }
+}
@@ -0,0 +1,30 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.dto.StatusResponse;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Lightweight entry describing a task awaiting completion.
+ */
+class PendingTask {
+    final UUID taskId;
+    final UUID pipelineId;
+    final CompletableFuture<StatusResponse> future;
+    final long startedAtMillis = System.currentTimeMillis();
+    volatile Function<UUID, StatusResponse> statusFetcher;
+    boolean exclusive;
+    int callers = 1;
+    int attempts;
+    long dueAtMillis;
+
+    PendingTask(UUID taskId, UUID pipelineId, CompletableFuture<StatusResponse> future,
+                Function<UUID, StatusResponse> statusFetcher) {
+        this.taskId = taskId;
+        this.pipelineId = pipelineId;
+        this.future = future;
+        this.statusFetcher = statusFetcher;
+    }
+}
@@ -0,0 +1,24 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.exception.FusionBrainException;
+import lombok.Getter;
+
+/**
+ * Exception thrown by a status fetcher when a poll cannot be made right now, e.g. because the client-side rate
+ * limit denied it. The pollers retry the task after {@link #getDelayMillis()} without counting the attempt.
+ */
+@Getter
+public class PollDeferredException extends FusionBrainException {
+    private final long delayMillis;
+
+    /**
+     * Constructs a new exception with the specified message and delay.
+     *
+     * @param message     The detail message.
+     * @param delayMillis Time after which the poll should be retried, in milliseconds.
+     */
+    public PollDeferredException(String message, long delayMillis) {
+        super(message);
+        this.delayMillis = delayMillis;
+    }
+}
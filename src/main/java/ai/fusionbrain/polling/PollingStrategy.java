@@ -0,0 +1,58 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.StatusResponse;
+
+import java.util.UUID;
+
+/**
+ * Strategy deciding when the status of a pending task is polled.
+ * <p>
+ * Implementations must be thread-safe: one instance serves all pending tasks of a client.
+ * </p>
+ */
+public interface PollingStrategy {
+    /**
+     * Returns the delay before the first status poll of a task.
+     *
+     * @param pipelineId   The pipeline that runs the task, or {@code null} if unknown.
+     * @param initialDelay The delay in seconds requested by the caller, usually {@code RunResponse.statusTime}.
+     * @return Delay in milliseconds.
+     */
+    long initialDelayMillis(UUID pipelineId, long initialDelay);
+
+    /**
+     * Returns the delay before the next status poll of a task that is not finished yet.
+     *
+     * @param pipelineId The pipeline that runs the task, or {@code null} if unknown.
+     * @param attempt    The number of polls made so far beyond the first one, starting at 1.
+     * @return Delay in milliseconds.
+     */
+    long nextDelayMillis(UUID pipelineId, int attempt);
+
+    /**
+     * Called when a task reaches a final status.
+     *
+     * @param pipelineId    The pipeline that ran the task, or {@code null} if unknown.
+     * @param status        The final status of the task.
+     * @param elapsedMillis Time between the start of waiting and the completion being observed.
+     */
+    default void onCompleted(UUID pipelineId, StatusResponse status, long elapsedMillis) {
+    }
+
+    /**
+     * Creates the built-in strategy configured by {@code fusionbrain.polling.strategy}.
+     *
+     * @param properties The FusionBrain configuration properties.
+     * @return The configured strategy.
+     */
+    static PollingStrategy fromProperties(FusionBrainProperties properties) {
+        return switch (properties.getPolling().getStrategy()) {
+            case FIXED -> new FixedPollingStrategy(properties);
+            case EXPONENTIAL -> new ExponentialPollingStrategy(properties);
+            case JITTERED -> new JitteredPollingStrategy(new ExponentialPollingStrategy(properties),
+                    properties.getPolling().getJitter());
+            case ADAPTIVE -> new AdaptivePollingStrategy(properties);
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.exception.FusionBrainException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link StatusPoller} that keeps pending tasks as timer entries on a shared {@link ScheduledExecutorService}.
+ * <p>
+ * The scheduler only hands due polls over to the executor, so a thread is occupied
+ * only while a status request is actually running, not while a task waits for its next poll.
+ * A poll deferred with a {@link PollDeferredException} is rescheduled without counting as an attempt.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduledStatusPoller implements StatusPoller {
+    private final Function<UUID, StatusResponse> statusFetcher;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final FusionBrainProperties fusionBrainProperties;
+    private final PollingStrategy pollingStrategy;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    @Override
+    public CompletableFuture<StatusResponse> poll(UUID taskId, UUID pipelineId, long initialDelay) {
+        return poll(taskId, pipelineId, initialDelay, statusFetcher);
+    }
+
+    @Override
+    public CompletableFuture<StatusResponse> poll(UUID taskId, UUID pipelineId, long initialDelay,
+                                                  Function<UUID, StatusResponse> statusFetcher) {
+        CompletableFuture<StatusResponse> future = new CompletableFuture<>();
+
+        log.debug("Starting wait for task completion: {}", taskId);
+        log.debug("Initial delay: {} seconds, max retries: {}, poll interval: {} seconds",
+                initialDelay, fusionBrainProperties.getMaxRetries(), fusionBrainProperties.getPollInterval());
+
+        if (initialDelay < 0) {
+            log.error("Invalid initial delay: {} seconds", initialDelay);
+            future.completeExceptionally(new IllegalArgumentException("Initial delay cannot be negative"));
+            return future;
+        }
+
+        pendingCount.incrementAndGet();
+        future.whenComplete((status, e) -> pendingCount.decrementAndGet());
+
+        schedule(new PendingTask(taskId, pipelineId, future, statusFetcher), pollingStrategy.initialDelayMillis(pipelineId, initialDelay));
+        return future;
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private void schedule(PendingTask task, long delayMillis) {
+        log.trace("Scheduling next poll for task {} in {} ms", task.taskId, delayMillis);
+        try {
+            scheduler.schedule(() -> dispatch(task), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.error("Polling scheduler rejected task {}", task.taskId);
+            task.future.completeExceptionally(new FusionBrainException("Polling scheduler rejected the task", e));
+        }
+    }
+
+    private void dispatch(PendingTask task) {
+        if (task.future.isDone()) {
+            log.debug("Task {} is no longer awaited, dropping it from polling", task.taskId);
+            return;
+        }
+
+        try {
+            executor.execute(() -> pollOnce(task));
+        } catch (RejectedExecutionException e) {
+            log.error("Async executor rejected status poll for task {}", task.taskId);
+            task.future.completeExceptionally(new FusionBrainException("Async executor rejected the status poll", e));
+        }
+    }
+
+    private void pollOnce(PendingTask task) {
+        if (task.future.isDone()) {
+            return;
+        }
+
+        try {
+            log.debug("Polling attempt {}/{} for task {}",
+                    task.attempts, fusionBrainProperties.getMaxRetries(), task.taskId);
+
+            StatusResponse status = task.statusFetcher.apply(task.taskId);
+            log.trace("Current task status: {}", status);
+
+            if (status.getStatus().isFinal()) {
+                log.debug("Task {} completed after {} polling attempts", task.taskId, task.attempts);
+                pollingStrategy.onCompleted(task.pipelineId, status, System.currentTimeMillis() - task.startedAtMillis);
+                task.future.complete(status);
+                return;
+            }
+
+            if (task.attempts >= fusionBrainProperties.getMaxRetries()) {
+                log.error("Timeout waiting for task {} completion after {} attempts",
+                        task.taskId, fusionBrainProperties.getMaxRetries());
+                task.future.completeExceptionally(new FusionBrainException("Timeout waiting for task completion after " +
+                        fusionBrainProperties.getMaxRetries() + " attempts"));
+                return;
+            }
+
+            task.attempts++;
+            schedule(task, pollingStrategy.nextDelayMillis(task.pipelineId, task.attempts));
+        } catch (PollDeferredException e) {
+            log.debug("Poll for task {} deferred by {} ms: {}", task.taskId, e.getDelayMillis(), e.getMessage());
+            schedule(task, e.getDelayMillis());
+        } catch (Exception e) {
+            task.future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.dto.StatusResponse;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Polls the status of submitted tasks until they reach a final state.
+ */
+public interface StatusPoller {
+    /**
+     * Registers a task for polling.
+     *
+     * @param taskId       The unique identifier of the task.
+     * @param pipelineId   The pipeline that runs the task, or {@code null} if unknown.
+     * @param initialDelay The time in seconds to wait before the first poll.
+     * @return Future completed with the final {@link StatusResponse}, or exceptionally on error or timeout.
+     */
+    CompletableFuture<StatusResponse> poll(UUID taskId, UUID pipelineId, long initialDelay);
+
+    /**
+     * Registers a task for polling with its own way of fetching the status, e.g. one that streams the result.
+     *
+     * @param taskId        The unique identifier of the task.
+     * @param pipelineId    The pipeline that runs the task, or {@code null} if unknown.
+     * @param initialDelay  The time in seconds to wait before the first poll.
+     * @param statusFetcher Function fetching the current status of the task.
+     * @return Future completed with the final {@link StatusResponse}, or exceptionally on error or timeout.
+     */
+    CompletableFuture<StatusResponse> poll(UUID taskId, UUID pipelineId, long initialDelay,
+                                           Function<UUID, StatusResponse> statusFetcher);
+
+    /**
+     * Registers a task for polling with a status fetcher whose side effects the caller relies on, e.g. one that
+     * streams the result into a sink. Unlike {@link #poll(UUID, UUID, long, Function)}, the fetcher is never
+     * skipped in favour of another registration of the same task.
+     *
+     * @param taskId        The unique identifier of the task.
+     * @param pipelineId    The pipeline that runs the task, or {@code null} if unknown.
+     * @param initialDelay  The time in seconds to wait before the first poll.
+     * @param statusFetcher Function fetching the current status of the task.
+     * @return Future completed with the final {@link StatusResponse}, or exceptionally on error or timeout.
+     */
+    default CompletableFuture<StatusResponse> pollExclusive(UUID taskId, UUID pipelineId, long initialDelay,
+                                                            Function<UUID, StatusResponse> statusFetcher) {
+        return poll(taskId, pipelineId, initialDelay, statusFetcher);
+    }
+
+    /**
+     * Registers a task of an unknown pipeline for polling.
+     *
+     * @param taskId       The unique identifier of the task.
+     * @param initialDelay The time in seconds to wait before the first poll.
+     * @return Future completed with the final {@link StatusResponse}, or exceptionally on error or timeout.
+     */
+    default CompletableFuture<StatusResponse> poll(UUID taskId, long initialDelay) {
+        return poll(taskId, null, initialDelay);
+    }
+
+    /**
+     * Returns the number of tasks that are currently waiting for completion.
+     *
+     * @return Number of pending tasks.
+     */
+    int getPendingCount();
+}
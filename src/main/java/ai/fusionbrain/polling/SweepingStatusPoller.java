@@ -0,0 +1,276 @@
+package ai.fusionbrain.polling;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.exception.FusionBrainException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * {@link StatusPoller} that keeps pending tasks in a registry and polls all due tasks together.
+ * <p>
+ * A sweep runs when the earliest next poll is due according to the {@link PollingStrategy}. It collects every task
+ * that is due by then and runs their status requests through at most {@code polling.sweep-concurrency} workers on
+ * the executor. Each response completes the future of the matching task. Delays count from the start of the sweep,
+ * so tasks polled together stay together, and hundreds of pending tasks produce a few smooth bursts of requests
+ * instead of many unsynchronized streams.
+ * Callers awaiting the same task share its polls, and no sweep is scheduled while no task is pending.
+ * A poll deferred with a {@link PollDeferredException} is retried by the first sweep after its delay
+ * without counting as an attempt.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SweepingStatusPoller implements StatusPoller {
+    private final Function<UUID, StatusResponse> statusFetcher;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final FusionBrainProperties fusionBrainProperties;
+    private final PollingStrategy pollingStrategy;
+    private final Map<UUID, PendingTask> pendingTasks = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweepRunning = new AtomicBoolean();
+    // Guarded by this
+    private ScheduledFuture<?> nextSweep;
+    private long nextSweepAtMillis;
+
+    @Override
+    public CompletableFuture<StatusResponse> poll(UUID taskId, UUID pipelineId, long initialDelay) {
+        return poll(taskId, pipelineId, initialDelay, statusFetcher);
+    }
+
+    @Override
+    public CompletableFuture<StatusResponse> poll(UUID taskId, UUID pipelineId, long initialDelay,
+                                                  Function<UUID, StatusResponse> statusFetcher) {
+        return register(taskId, pipelineId, initialDelay, statusFetcher, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the task is already awaited by plain registrations, their polls switch over to {@code statusFetcher}.
+     * Registering a second exclusive fetcher for the same task fails, as only one of them could ever run.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<StatusResponse> pollExclusive(UUID taskId, UUID pipelineId, long initialDelay,
+                                                           Function<UUID, StatusResponse> statusFetcher) {
+        return register(taskId, pipelineId, initialDelay, statusFetcher, true);
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pendingTasks.size();
+    }
+
+    /**
+     * Adds a caller to the pending entry of the task, creating the entry for the first caller.
+     * Every caller gets its own dependent future, so cancelling it detaches only that caller;
+     * polling stops once all callers have cancelled.
+     */
+    private CompletableFuture<StatusResponse> register(UUID taskId, UUID pipelineId, long initialDelay,
+                                                       Function<UUID, StatusResponse> statusFetcher,
+                                                       boolean exclusive) {
+        log.debug("Registering task {} for status sweeps with initial delay of {} seconds", taskId, initialDelay);
+
+        if (initialDelay < 0) {
+            log.error("Invalid initial delay: {} seconds", initialDelay);
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Initial delay cannot be negative"));
+        }
+
+        PendingTask created = new PendingTask(taskId, pipelineId, new CompletableFuture<>(), statusFetcher);
+        created.exclusive = exclusive;
+        created.dueAtMillis = created.startedAtMillis + pollingStrategy.initialDelayMillis(pipelineId, initialDelay);
+
+        PendingTask task;
+        try {
+            task = pendingTasks.compute(taskId, (id, previous) -> {
+                if (previous == null || previous.future.isDone()) {
+                    return created;
+                }
+                if (exclusive) {
+                    if (previous.exclusive) {
+                        throw new IllegalStateException("Task " + taskId + " is already awaited with a result sink");
+                    }
+                    previous.statusFetcher = statusFetcher;
+                    previous.exclusive = true;
+                }
+                log.debug("Task {} is already awaited, sharing its polls", taskId);
+                previous.callers++;
+                return previous;
+            });
+        } catch (IllegalStateException e) {
+            log.error(e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (task == created) {
+            task.future.whenComplete((status, e) -> pendingTasks.remove(taskId, task));
+            scheduleSweep(task.dueAtMillis);
+        }
+
+        CompletableFuture<StatusResponse> future = task.future.thenApply(Function.identity());
+        future.whenComplete((status, e) -> {
+            if (future.isCancelled()) {
+                release(task);
+            }
+        });
+        return future;
+    }
+
+    private void release(PendingTask task) {
+        pendingTasks.computeIfPresent(task.taskId, (id, current) -> {
+            if (current == task && --task.callers == 0) {
+                log.debug("Task {} is no longer awaited, dropping it from sweeps", task.taskId);
+                task.future.cancel(false);
+                return null;
+            }
+            return current;
+        });
+    }
+
+    /**
+     * Makes sure a sweep runs no later than {@code dueAtMillis}, moving the scheduled sweep forward if needed.
+     */
+    private synchronized void scheduleSweep(long dueAtMillis) {
+        if (nextSweep != null && nextSweepAtMillis <= dueAtMillis) {
+            return;
+        }
+
+        try {
+            ScheduledFuture<?> sweep = scheduler.schedule(this::sweep,
+                    Math.max(0, dueAtMillis - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            if (nextSweep != null) {
+                nextSweep.cancel(false);
+            }
+            nextSweep = sweep;
+            nextSweepAtMillis = dueAtMillis;
+        } catch (RejectedExecutionException e) {
+            log.error("Polling scheduler rejected status sweeps");
+            FusionBrainException error = new FusionBrainException("Polling scheduler rejected the task", e);
+            pendingTasks.values().forEach(task -> task.future.completeExceptionally(error));
+        }
+    }
+
+    /**
+     * Schedules the sweep for the earliest due task; while no task is pending, no sweep is scheduled and the next
+     * registration schedules one again.
+     */
+    private void scheduleNextSweep() {
+        long earliestDueAtMillis = Long.MAX_VALUE;
+        for (PendingTask task : pendingTasks.values()) {
+            if (!task.future.isDone()) {
+                earliestDueAtMillis = Math.min(earliestDueAtMillis, task.dueAtMillis);
+            }
+        }
+        if (earliestDueAtMillis == Long.MAX_VALUE) {
+            log.debug("No tasks pending, stopping status sweeps");
+            return;
+        }
+        scheduleSweep(earliestDueAtMillis);
+    }
+
+    private void sweep() {
+        synchronized (this) {
+            // Forget only a sweep that is due, i.e. this one, not one scheduled while it was starting
+            if (nextSweep != null && nextSweep.getDelay(TimeUnit.MILLISECONDS) <= 0) {
+                nextSweep = null;
+            }
+        }
+        if (!sweepRunning.compareAndSet(false, true)) {
+            log.debug("Previous status sweep is still running, it schedules the next one");
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Queue<PendingTask> dueTasks = new ConcurrentLinkedQueue<>();
+        pendingTasks.values().stream()
+                .filter(task -> !task.future.isDone() && task.dueAtMillis <= now)
+                .forEach(dueTasks::add);
+
+        if (dueTasks.isEmpty()) {
+            sweepRunning.set(false);
+            scheduleNextSweep();
+            return;
+        }
+
+        int workers = Math.min(dueTasks.size(), fusionBrainProperties.getPolling().getSweepConcurrency());
+        log.debug("Sweeping status of {} due tasks with {} workers, {} tasks pending",
+                dueTasks.size(), workers, pendingTasks.size());
+
+        CountDownLatch remainingWorkers = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        drain(dueTasks, now);
+                    } finally {
+                        finishWorker(remainingWorkers);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.error("Async executor rejected a status sweep worker");
+                finishWorker(remainingWorkers);
+            }
+        }
+    }
+
+    private void finishWorker(CountDownLatch remainingWorkers) {
+        remainingWorkers.countDown();
+        if (remainingWorkers.getCount() == 0) {
+            sweepRunning.set(false);
+            scheduleNextSweep();
+        }
+    }
+
+    private void drain(Queue<PendingTask> dueTasks, long sweepStartedAtMillis) {
+        PendingTask task;
+        while ((task = dueTasks.poll()) != null) {
+            pollOnce(task, sweepStartedAtMillis);
+        }
+    }
+
+    private void pollOnce(PendingTask task, long sweepStartedAtMillis) {
+        if (task.future.isDone()) {
+            return;
+        }
+
+        try {
+            log.debug("Polling attempt {}/{} for task {}",
+                    task.attempts, fusionBrainProperties.getMaxRetries(), task.taskId);
+
+            StatusResponse status = task.statusFetcher.apply(task.taskId);
+            log.trace("Current task status: {}", status);
+
+            if (status.getStatus().isFinal()) {
+                log.debug("Task {} completed after {} polling attempts", task.taskId, task.attempts);
+                pollingStrategy.onCompleted(task.pipelineId, status, System.currentTimeMillis() - task.startedAtMillis);
+                task.future.complete(status);
+                return;
+            }
+
+            if (task.attempts >= fusionBrainProperties.getMaxRetries()) {
+                log.error("Timeout waiting for task {} completion after {} attempts",
+                        task.taskId, fusionBrainProperties.getMaxRetries());
+                task.future.completeExceptionally(new FusionBrainException("Timeout waiting for task completion after " +
+                        fusionBrainProperties.getMaxRetries() + " attempts"));
+                return;
+            }
+
+            // Delays count from the start of the sweep so that tasks polled together stay together
+            task.attempts++;
+            task.dueAtMillis = sweepStartedAtMillis + pollingStrategy.nextDelayMillis(task.pipelineId, task.attempts);
+        } catch (PollDeferredException e) {
+            log.debug("Poll for task {} deferred by {} ms: {}", task.taskId, e.getDelayMillis(), e.getMessage());
+            task.dueAtMillis = System.currentTimeMillis() + e.getDelayMillis();
+        } catch (Exception e) {
+            task.future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ai.fusionbrain.queue;
+
+/**
+ * Enumeration of the ways the {@link FusionBrainSubmissionQueue} handles submissions while it is full.
+ */
+public enum EOverflowPolicy {
+    /**
+     * The caller blocks until space frees up or the block timeout elapses.
+     */
+    BLOCK,
+    /**
+     * The oldest queued submission of the same or lower priority is dropped to make room.
+     */
+    DROP_OLDEST,
+    /**
+     * The submission is rejected immediately.
+     */
+    FAIL
+}
@@ -0,0 +1,15 @@
+package ai.fusionbrain.queue;
+
+/**
+ * Enumeration of the lanes of the {@link FusionBrainSubmissionQueue}.
+ */
+public enum ESubmissionPriority {
+    /**
+     * Work a user is waiting for. Always dispatched before queued batch work.
+     */
+    INTERACTIVE,
+    /**
+     * Background work dispatched when no interactive work is eligible.
+     */
+    BATCH
+}
@@ -0,0 +1,317 @@
+package ai.fusionbrain.queue;
+
+import ai.fusionbrain.batch.BatchHandle;
+import ai.fusionbrain.batch.BatchRunner;
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.exception.SubmissionRejectedException;
+import ai.fusionbrain.resilience.HandOffExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded local queue in front of {@link FusionBrainClient#runPipeline}.
+ * <p>
+ * Submissions wait in an interactive or a batch lane until their pipeline has fewer than
+ * {@code queue.max-in-flight-per-pipeline} tasks running; interactive work is always dispatched first.
+ * A task stays in flight from its submission until {@link FusionBrainClient#waitForCompletion} completes.
+ * When {@code queue.capacity} submissions are waiting, new ones are handled by {@code queue.overflow-policy}.
+ * {@link #runBatch} feeds the items of a batch into the batch lane, so they share the per-pipeline limit with all
+ * other queued work.
+ * </p>
+ * <p>
+ * Submissions freed by a completing task are handed to the executor from a dispatcher thread, never from the
+ * completion callback, which may itself run on a thread of a limited executor.
+ * </p>
+ */
+@Slf4j
+public class FusionBrainSubmissionQueue {
+    private final FusionBrainClient client;
+    private final FusionBrainProperties.Queue settings;
+    private final Executor executor;
+    private final Executor dispatcher = new HandOffExecutor("FusionBrainQueueDispatcher");
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Map<ESubmissionPriority, Deque<Submission>> lanes = new EnumMap<>(ESubmissionPriority.class);
+    private final Map<UUID, Integer> inFlight = new HashMap<>();
+    private final BatchRunner batchRunner;
+    private int queued;
+
+    /**
+     * Creates a queue dispatching submissions to the given client.
+     *
+     * @param client   The client running and awaiting the tasks.
+     * @param settings The queue settings.
+     * @param executor Executor running the submissions.
+     */
+    public FusionBrainSubmissionQueue(FusionBrainClient client, FusionBrainProperties.Queue settings, Executor executor) {
+        this.client = client;
+        this.settings = settings;
+        this.executor = executor;
+        for (ESubmissionPriority priority : ESubmissionPriority.values()) {
+            lanes.put(priority, new ArrayDeque<>());
+        }
+        this.batchRunner = new BatchRunner(this, settings.getMaxInFlightPerPipeline());
+    }
+
+    /**
+     * Queues a pipeline run and waits for its completion.
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters for the pipeline execution.
+     * @param priority   The lane of the submission.
+     * @param files      The input files for the pipeline, see {@link FileSource#of}.
+     * @return Future completed with the final {@link StatusResponse}, or exceptionally with a
+     * {@link SubmissionRejectedException} if the submission was rejected or dropped.
+     */
+    public CompletableFuture<StatusResponse> submit(UUID pipelineId, PipelineParams params,
+                                                    ESubmissionPriority priority, FileSource... files) {
+        Objects.requireNonNull(pipelineId, "pipelineId");
+        Objects.requireNonNull(priority, "priority");
+
+        Submission submission = new Submission(pipelineId, params, files, priority);
+        Submission dropped = null;
+        List<Submission> ready;
+
+        lock.lock();
+        try {
+            if (queued >= settings.getCapacity()) {
+                switch (settings.getOverflowPolicy()) {
+                    case FAIL -> {
+                        return reject(submission, "Submission queue is full");
+                    }
+                    case DROP_OLDEST -> {
+                        dropped = pollOldest(priority);
+                        if (dropped == null) {
+                            return reject(submission, "Submission queue is full of higher priority work");
+                        }
+                    }
+                    case BLOCK -> {
+                        if (!awaitSpace()) {
+                            return reject(submission, "Timed out waiting for space in the submission queue");
+                        }
+                    }
+                }
+            }
+
+            lanes.get(priority).addLast(submission);
+            queued++;
+            ready = takeDispatchable();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reject(submission, "Interrupted while waiting for space in the submission queue");
+        } finally {
+            lock.unlock();
+        }
+
+        if (dropped != null) {
+            log.debug("Dropped oldest {} submission to pipeline {}", dropped.priority, dropped.pipelineId);
+            dropped.future.completeExceptionally(
+                    new SubmissionRejectedException("Submission was dropped from the full submission queue"));
+        }
+        ready.forEach(this::dispatch);
+        return submission.future;
+    }
+
+    /**
+     * Runs a pipeline once per item of {@code params} through the {@link ESubmissionPriority#BATCH} lane and awaits
+     * every task, with at most {@code queue.max-in-flight-per-pipeline} items handed to the queue at a time.
+     *
+     * @param pipelineId The unique identifier of the pipeline to run.
+     * @param params     The parameters of every item.
+     * @return {@link BatchHandle} with the future of every item, the progress and the aggregate result.
+     */
+    public BatchHandle runBatch(UUID pipelineId, List<? extends PipelineParams> params) {
+        return batchRunner.run(pipelineId, params);
+    }
+
+    /**
+     * Runs a pipeline once per item of {@code params} through the {@link ESubmissionPriority#BATCH} lane and awaits
+     * every task, with at most {@code parallelism} items handed to the queue at a time.
+     *
+     * @param pipelineId  The unique identifier of the pipeline to run.
+     * @param params      The parameters of every item.
+     * @param parallelism Maximum number of items queued or in flight and not yet completed.
+     * @return {@link BatchHandle} with the future of every item, the progress and the aggregate result.
+     */
+    public BatchHandle runBatch(UUID pipelineId, List<? extends PipelineParams> params, int parallelism) {
+        return batchRunner.run(pipelineId, params, parallelism);
+    }
+
+    /**
+     * Returns the number of submissions waiting in all lanes.
+     *
+     * @return Number of queued submissions.
+     */
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of submissions waiting in a lane.
+     *
+     * @param priority The lane.
+     * @return Number of queued submissions.
+     */
+    public int getQueuedCount(ESubmissionPriority priority) {
+        lock.lock();
+        try {
+            return lanes.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of tasks of a pipeline that were dispatched and have not completed yet.
+     *
+     * @param pipelineId The pipeline.
+     * @return Number of in-flight tasks.
+     */
+    public int getInFlightCount(UUID pipelineId) {
+        lock.lock();
+        try {
+            return inFlight.getOrDefault(pipelineId, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<StatusResponse> reject(Submission submission, String message) {
+        log.debug("Rejecting {} submission to pipeline {}: {}", submission.priority, submission.pipelineId, message);
+        return CompletableFuture.failedFuture(new SubmissionRejectedException(message));
+    }
+
+    private boolean awaitSpace() throws InterruptedException {
+        long nanos = settings.getBlockTimeout().toNanos();
+        while (queued >= settings.getCapacity()) {
+            if (nanos <= 0) {
+                return false;
+            }
+            nanos = notFull.awaitNanos(nanos);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the oldest submission that may be dropped for one of the given priority.
+     * Batch work is dropped first; interactive work is dropped only for other interactive work.
+     */
+    private Submission pollOldest(ESubmissionPriority priority) {
+        Submission oldest = lanes.get(ESubmissionPriority.BATCH).pollFirst();
+        if (oldest == null && priority == ESubmissionPriority.INTERACTIVE) {
+            oldest = lanes.get(ESubmissionPriority.INTERACTIVE).pollFirst();
+        }
+        if (oldest != null) {
+            queued--;
+        }
+        return oldest;
+    }
+
+    /**
+     * Moves every submission whose pipeline has a free slot out of the lanes, interactive lane first.
+     * Must be called while holding the lock.
+     */
+    private List<Submission> takeDispatchable() {
+        List<Submission> ready = new ArrayList<>();
+        int before = queued;
+        for (Deque<Submission> lane : lanes.values()) {
+            for (Iterator<Submission> it = lane.iterator(); it.hasNext(); ) {
+                Submission submission = it.next();
+                if (submission.future.isDone()) {
+                    it.remove();
+                    queued--;
+                } else if (inFlight.getOrDefault(submission.pipelineId, 0) < settings.getMaxInFlightPerPipeline()) {
+                    it.remove();
+                    queued--;
+                    inFlight.merge(submission.pipelineId, 1, Integer::sum);
+                    ready.add(submission);
+                }
+            }
+        }
+        if (queued < before) {
+            notFull.signalAll();
+        }
+        return ready;
+    }
+
+    private void dispatch(Submission submission) {
+        try {
+            executor.execute(() -> run(submission));
+        } catch (RejectedExecutionException e) {
+            log.error("Async executor rejected submission to pipeline {}", submission.pipelineId);
+            complete(submission, null, new SubmissionRejectedException("Async executor rejected the submission", e));
+        }
+    }
+
+    private void run(Submission submission) {
+        if (submission.future.isDone()) {
+            complete(submission, null, null);
+            return;
+        }
+
+        try {
+            RunResponse runResponse = client.runPipeline(submission.pipelineId, submission.params, submission.files);
+            client.waitForCompletion(submission.pipelineId, runResponse)
+                    .whenComplete((status, e) -> complete(submission, status, e));
+        } catch (Exception e) {
+            complete(submission, null, e);
+        }
+    }
+
+    private void complete(Submission submission, StatusResponse status, Throwable error) {
+        List<Submission> ready;
+        lock.lock();
+        try {
+            inFlight.computeIfPresent(submission.pipelineId, (id, count) -> count > 1 ? count - 1 : null);
+            ready = takeDispatchable();
+        } finally {
+            lock.unlock();
+        }
+
+        if (error != null) {
+            submission.future.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+        } else {
+            submission.future.complete(status);
+        }
+        if (!ready.isEmpty()) {
+            dispatcher.execute(() -> ready.forEach(this::dispatch));
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Submission {
+        final UUID pipelineId;
+        final PipelineParams params;
+        final FileSource[] files;
+        final ESubmissionPriority priority;
+        final CompletableFuture<StatusResponse> future = new CompletableFuture<>();
+    }
+}
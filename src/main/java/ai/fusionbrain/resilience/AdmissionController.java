@@ -0,0 +1,252 @@
+package ai.fusionbrain.resilience;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.AvailabilityStatus;
+import ai.fusionbrain.dto.EPipelineStatus;
+import ai.fusionbrain.exception.FusionBrainException;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds back submissions to pipelines the API reported as disabled, so that overloaded pipelines are not
+ * sent uploads that are bound to be refused.
+ * <p>
+ * A pipeline is closed locally when a run response or an availability check reports a disabled
+ * {@link EPipelineStatus}, and reopens after {@code admission.cool-down}. While it is closed, the
+ * availability of the pipeline is probed every {@code admission.probe-interval}: a disabled answer extends
+ * the cool-down, an active one reopens the pipeline early.
+ * </p>
+ */
+@Slf4j
+public class AdmissionController {
+    private final FusionBrainProperties.Admission settings;
+    private final Function<UUID, AvailabilityStatus> availabilityProbe;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<UUID, Gate> gates = new ConcurrentHashMap<>();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Creates a controller timed by {@link System#nanoTime()}.
+     *
+     * @param settings          The admission settings.
+     * @param availabilityProbe Function fetching the availability of a pipeline, or {@code null} to disable probes.
+     * @param scheduler         Scheduler timing the probes.
+     * @param executor          Executor running the probes.
+     */
+    public AdmissionController(FusionBrainProperties.Admission settings,
+                               Function<UUID, AvailabilityStatus> availabilityProbe,
+                               ScheduledExecutorService scheduler,
+                               Executor executor) {
+        this(settings, availabilityProbe, scheduler, executor, System::nanoTime);
+    }
+
+    /**
+     * Creates a controller timed by the given clock.
+     *
+     * @param settings          The admission settings.
+     * @param availabilityProbe Function fetching the availability of a pipeline, or {@code null} to disable probes.
+     * @param scheduler         Scheduler timing the probes.
+     * @param executor          Executor running the probes.
+     * @param nanoClock         Monotonic clock in nanoseconds.
+     */
+    public AdmissionController(FusionBrainProperties.Admission settings,
+                               Function<UUID, AvailabilityStatus> availabilityProbe,
+                               ScheduledExecutorService scheduler,
+                               Executor executor,
+                               LongSupplier nanoClock) {
+        this.settings = settings;
+        this.availabilityProbe = availabilityProbe;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Admits a submission to a pipeline. In {@link EAdmissionMode#WAIT} mode a submission to a closed pipeline
+     * blocks until the pipeline reopens or {@code admission.max-wait} has passed.
+     *
+     * @param pipelineId The pipeline the submission is for.
+     * @throws PipelineDisabledException if the pipeline is closed and does not reopen in time.
+     */
+    public void admit(UUID pipelineId) throws PipelineDisabledException {
+        Gate gate = pipelineId != null ? gates.get(pipelineId) : null;
+        if (gate == null) {
+            return;
+        }
+
+        synchronized (gate) {
+            long now = nanoClock.getAsLong();
+            if (!gate.isClosed(now)) {
+                return;
+            }
+
+            if (settings.getMode() == EAdmissionMode.WAIT) {
+                long deadline = now + settings.getMaxWait().toNanos();
+                while (gate.isClosed(now) && now < deadline) {
+                    log.debug("Pipeline {} is {}, waiting for it to reopen", pipelineId, gate.status);
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(gate, Math.min(gate.closedUntilNanos, deadline) - now);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new FusionBrainException("Interrupted while waiting for pipeline " + pipelineId, e);
+                    }
+                    now = nanoClock.getAsLong();
+                }
+                if (!gate.isClosed(now)) {
+                    return;
+                }
+            }
+
+            rejections.increment();
+            long remainingSeconds = TimeUnit.NANOSECONDS.toSeconds(gate.closedUntilNanos - now);
+            log.debug("Rejecting submission to pipeline {}: {} for another {} seconds",
+                    pipelineId, gate.status, remainingSeconds);
+            throw new PipelineDisabledException("Pipeline is currently disabled (" + gate.status +
+                    "), submission rejected locally for another " + remainingSeconds + " seconds");
+        }
+    }
+
+    /**
+     * Records the status of a pipeline reported by a run response or an availability check.
+     *
+     * @param pipelineId The pipeline.
+     * @param status     The reported status; {@code null} means the pipeline accepted the submission.
+     */
+    public void onStatus(UUID pipelineId, EPipelineStatus status) {
+        if (pipelineId == null) {
+            return;
+        }
+
+        if (status == null || !status.isDisabled()) {
+            Gate gate = gates.get(pipelineId);
+            if (gate != null) {
+                open(gate);
+            }
+            return;
+        }
+
+        Gate gate = gates.computeIfAbsent(pipelineId, Gate::new);
+        boolean startProbes;
+        synchronized (gate) {
+            long now = nanoClock.getAsLong();
+            if (!gate.isClosed(now)) {
+                log.warn("Pipeline {} is {}, holding back submissions for {} ms",
+                        pipelineId, status, settings.getCoolDown().toMillis());
+            }
+            gate.status = status;
+            gate.closedUntilNanos = now + settings.getCoolDown().toNanos();
+            startProbes = !gate.probing && availabilityProbe != null && !settings.getProbeInterval().isZero();
+            gate.probing |= startProbes;
+        }
+
+        if (startProbes) {
+            scheduleProbe(gate);
+        }
+    }
+
+    /**
+     * Checks whether submissions to a pipeline are currently admitted without waiting.
+     *
+     * @param pipelineId The pipeline.
+     * @return {@code true} unless the pipeline is closed locally.
+     */
+    public boolean isAdmitting(UUID pipelineId) {
+        Gate gate = gates.get(pipelineId);
+        if (gate == null) {
+            return true;
+        }
+        synchronized (gate) {
+            return !gate.isClosed(nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * Returns the number of submissions rejected locally.
+     *
+     * @return Number of rejected submissions.
+     */
+    public long getRejectedCount() {
+        return rejections.sum();
+    }
+
+    private void open(Gate gate) {
+        synchronized (gate) {
+            if (gate.isClosed(nanoClock.getAsLong())) {
+                log.info("Pipeline {} is active again, admitting submissions", gate.pipelineId);
+            }
+            gate.status = EPipelineStatus.ACTIVE;
+            gate.closedUntilNanos = 0;
+            gate.notifyAll();
+        }
+    }
+
+    private void scheduleProbe(Gate gate) {
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    executor.execute(() -> probe(gate));
+                } catch (RejectedExecutionException e) {
+                    stopProbes(gate);
+                }
+            }, settings.getProbeInterval().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            stopProbes(gate);
+        }
+    }
+
+    private void probe(Gate gate) {
+        if (!isAdmitting(gate.pipelineId)) {
+            try {
+                AvailabilityStatus availability = availabilityProbe.apply(gate.pipelineId);
+                log.debug("Availability probe of pipeline {}: {}", gate.pipelineId, availability);
+                onStatus(gate.pipelineId, availability != null ? availability.getStatus() : null);
+            } catch (Exception e) {
+                log.debug("Availability probe of pipeline {} failed: {}", gate.pipelineId, e.getMessage());
+            }
+        }
+
+        synchronized (gate) {
+            if (!gate.isClosed(nanoClock.getAsLong())) {
+                gate.probing = false;
+                return;
+            }
+        }
+        scheduleProbe(gate);
+    }
+
+    private void stopProbes(Gate gate) {
+        log.debug("Scheduler rejected availability probe of pipeline {}", gate.pipelineId);
+        synchronized (gate) {
+            gate.probing = false;
+        }
+    }
+
+    /**
+     * Admission state of a single pipeline, guarded by its own monitor.
+     */
+    @RequiredArgsConstructor
+    private static final class Gate {
+        final UUID pipelineId;
+        EPipelineStatus status = EPipelineStatus.ACTIVE;
+        long closedUntilNanos;
+        boolean probing;
+
+        boolean isClosed(long nowNanos) {
+            return status.isDisabled() && nowNanos - closedUntilNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ai.fusionbrain.resilience;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executor running at most {@code concurrencyLimit} tasks of a delegate at once without ever blocking the caller.
+ * <p>
+ * Tasks beyond the limit wait in a queue and are handed to the delegate as running tasks finish, so submitting
+ * from a timer thread or from within a running task cannot stall or deadlock. This is meant for delegates that
+ * start a thread per task, such as a virtual thread executor.
+ * </p>
+ */
+public class BoundedExecutor implements Executor, AutoCloseable {
+    private final Executor delegate;
+    private final int concurrencyLimit;
+    private final Semaphore permits;
+    private final Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Creates an executor bounding the concurrency of a delegate.
+     *
+     * @param delegate         Executor running the tasks, typically one thread per task.
+     * @param concurrencyLimit Maximum number of tasks running at once.
+     */
+    public BoundedExecutor(Executor delegate, int concurrencyLimit) {
+        if (concurrencyLimit <= 0) {
+            throw new IllegalArgumentException("concurrencyLimit must be positive");
+        }
+        this.delegate = delegate;
+        this.concurrencyLimit = concurrencyLimit;
+        this.permits = new Semaphore(concurrencyLimit);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedExecutionException If the delegate rejects the task; it is not kept in the queue then.
+     */
+    @Override
+    public void execute(Runnable task) {
+        queue.add(task);
+        RejectedExecutionException rejected = drain();
+        if (rejected != null && queue.remove(task)) {
+            throw rejected;
+        }
+    }
+
+    /**
+     * Starts queued tasks while permits are free. Called after every submission and every finished task,
+     * so a task queued while all permits were taken is started by the task releasing the next permit.
+     * A task the delegate rejects goes back to the head of the queue; the rejection is returned instead of thrown,
+     * as the caller may be a worker that finished another task or a submitter of another task.
+     *
+     * @return The rejection that stopped draining, or {@code null}.
+     */
+    private RejectedExecutionException drain() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Runnable next = queue.poll();
+            if (next == null) {
+                permits.release();
+                continue;
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        next.run();
+                    } finally {
+                        permits.release();
+                        drain();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queue.addFirst(next);
+                permits.release();
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the maximum number of tasks running at once.
+     *
+     * @return Concurrency limit.
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Returns the number of tasks currently running.
+     *
+     * @return Active task count.
+     */
+    public int getActiveCount() {
+        return concurrencyLimit - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of tasks waiting for a free slot.
+     *
+     * @return Queued task count.
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Drops the queued tasks and closes the delegate if it is {@link AutoCloseable}.
+     */
+    @Override
+    public void close() throws Exception {
+        queue.clear();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
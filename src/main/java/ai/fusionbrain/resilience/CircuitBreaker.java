@@ -0,0 +1,210 @@
+package ai.fusionbrain.resilience;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.exception.CircuitBreakerOpenException;
+import ai.fusionbrain.exception.FusionBrainException;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker shedding calls to an API endpoint while it fails or responds slowly.
+ * <p>
+ * The outcomes of the last {@code window-size} calls are kept in a sliding window. Once at least
+ * {@code minimum-calls} are recorded and the share of failed or slow calls reaches its threshold, the circuit opens
+ * and calls fail with a {@link CircuitBreakerOpenException} without reaching the API. Once {@code open-duration}
+ * has passed, the circuit becomes half-open and lets {@code half-open-calls} probes through; their outcomes decide
+ * whether it closes or opens again.
+ * </p>
+ * <p>
+ * Server errors, responses with a 5xx status and errors without a response count as failures. Client errors such as
+ * an unknown task UUID don't.
+ * </p>
+ */
+@Slf4j
+public class CircuitBreaker {
+    @Getter
+    private final String name;
+    private final FusionBrainProperties.CircuitBreaker settings;
+    private final LongSupplier nanoClock;
+    private final long slowCallNanos;
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private final LongAdder shortCircuited = new LongAdder();
+
+    // Guarded by this
+    private ECircuitState state = ECircuitState.CLOSED;
+    private long openUntilNanos;
+    private int halfOpenPermits;
+    private long generation;
+    private int recorded;
+    private int next;
+    private int failedCount;
+    private int slowCount;
+
+    /**
+     * Creates a closed circuit breaker timed by {@link System#nanoTime()}.
+     *
+     * @param name     Name of the guarded endpoint, used in logs and exception messages.
+     * @param settings The circuit breaker settings.
+     */
+    public CircuitBreaker(String name, FusionBrainProperties.CircuitBreaker settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    /**
+     * Creates a closed circuit breaker timed by the given clock.
+     *
+     * @param name      Name of the guarded endpoint, used in logs and exception messages.
+     * @param settings  The circuit breaker settings.
+     * @param nanoClock Monotonic clock in nanoseconds.
+     */
+    public CircuitBreaker(String name, FusionBrainProperties.CircuitBreaker settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.slowCallNanos = settings.getSlowCallDuration().toNanos();
+        this.failed = new boolean[settings.getWindowSize()];
+        this.slow = new boolean[settings.getWindowSize()];
+    }
+
+    /**
+     * Makes a call through the circuit breaker and records its outcome.
+     *
+     * @param call The call.
+     * @param <T>  Type of the call result.
+     * @return The result of the call.
+     * @throws CircuitBreakerOpenException if the circuit does not let the call through.
+     * @throws Exception                   the exception thrown by the call.
+     */
+    public <T> T call(Callable<T> call) throws Exception {
+        long generation = acquirePermission();
+        long start = nanoClock.getAsLong();
+        try {
+            T result = call.call();
+            onResult(generation, nanoClock.getAsLong() - start, false);
+            return result;
+        } catch (Throwable e) {
+            // Errors are recorded too, so a failing probe always hands back its permit
+            onResult(generation, nanoClock.getAsLong() - start, isFailure(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the current state of the circuit.
+     *
+     * @return The circuit state.
+     */
+    public synchronized ECircuitState getState() {
+        if (state == ECircuitState.OPEN && nanoClock.getAsLong() - openUntilNanos >= 0) {
+            return ECircuitState.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Returns the number of calls rejected without reaching the API.
+     *
+     * @return Number of short-circuited calls.
+     */
+    public long getShortCircuitedCount() {
+        return shortCircuited.sum();
+    }
+
+    /**
+     * Lets a call through or rejects it.
+     *
+     * @return The generation of the state the call was let through in.
+     */
+    private synchronized long acquirePermission() {
+        if (state == ECircuitState.OPEN) {
+            long now = nanoClock.getAsLong();
+            if (now - openUntilNanos < 0) {
+                shortCircuited.increment();
+                long remainingNanos = openUntilNanos - now;
+                throw new CircuitBreakerOpenException("Circuit breaker for " + name + " is open for another " +
+                        TimeUnit.NANOSECONDS.toSeconds(remainingNanos) + " seconds",
+                        TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1);
+            }
+            transition(ECircuitState.HALF_OPEN);
+        }
+
+        if (state == ECircuitState.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                shortCircuited.increment();
+                throw new CircuitBreakerOpenException("Circuit breaker for " + name + " is half-open, probes in progress");
+            }
+            halfOpenPermits--;
+        }
+        return generation;
+    }
+
+    private synchronized void onResult(long callGeneration, long durationNanos, boolean failure) {
+        // Calls let through before the last transition don't count, e.g. a call admitted while closed that
+        // outlives the open duration must not be taken for a half-open probe
+        if (callGeneration != generation) {
+            return;
+        }
+
+        record(failure, durationNanos >= slowCallNanos);
+
+        if (state == ECircuitState.HALF_OPEN) {
+            if (recorded >= settings.getHalfOpenCalls()) {
+                transition(isTripped() ? ECircuitState.OPEN : ECircuitState.CLOSED);
+            }
+        } else if (recorded >= Math.min(settings.getMinimumCalls(), failed.length) && isTripped()) {
+            transition(ECircuitState.OPEN);
+        }
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recorded == failed.length) {
+            failedCount -= failed[next] ? 1 : 0;
+            slowCount -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        failedCount += failure ? 1 : 0;
+        slowCount += slowCall ? 1 : 0;
+        next = (next + 1) % failed.length;
+    }
+
+    private boolean isTripped() {
+        return failedCount >= settings.getFailureRateThreshold() * recorded
+                || slowCount >= settings.getSlowCallRateThreshold() * recorded;
+    }
+
+    private void transition(ECircuitState target) {
+        if (target == ECircuitState.OPEN) {
+            log.warn("Circuit breaker for {} opened: {} failed and {} slow of {} calls, rejecting calls for {} ms",
+                    name, failedCount, slowCount, recorded, settings.getOpenDuration().toMillis());
+            openUntilNanos = nanoClock.getAsLong() + settings.getOpenDuration().toNanos();
+        } else if (target == ECircuitState.HALF_OPEN) {
+            log.info("Circuit breaker for {} half-open, letting {} probes through", name, settings.getHalfOpenCalls());
+            halfOpenPermits = settings.getHalfOpenCalls();
+        } else {
+            log.info("Circuit breaker for {} closed", name);
+        }
+        state = target;
+        generation++;
+        recorded = 0;
+        next = 0;
+        failedCount = 0;
+        slowCount = 0;
+    }
+
+    private static boolean isFailure(Throwable e) {
+        if (e instanceof FusionBrainServerException serverError) {
+            return serverError.getStatus() < 0 || serverError.getStatus() >= 500;
+        }
+        return !(e instanceof FusionBrainException);
+    }
+}
@@ -0,0 +1,15 @@
+package ai.fusionbrain.resilience;
+
+/**
+ * Enumeration of the ways submissions to a locally closed pipeline are handled.
+ */
+public enum EAdmissionMode {
+    /**
+     * Submissions fail immediately with a {@link ai.fusionbrain.exception.PipelineDisabledException}.
+     */
+    REJECT,
+    /**
+     * Submissions wait up to the configured maximum for the pipeline to reopen.
+     */
+    WAIT
+}
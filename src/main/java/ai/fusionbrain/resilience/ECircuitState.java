@@ -0,0 +1,19 @@
+package ai.fusionbrain.resilience;
+
+/**
+ * Enumeration of the states of a {@link CircuitBreaker}.
+ */
+public enum ECircuitState {
+    /**
+     * Calls pass through and their outcomes are recorded.
+     */
+    CLOSED,
+    /**
+     * Calls fail immediately without reaching the API.
+     */
+    OPEN,
+    /**
+     * A limited number of probe calls pass through to decide whether the circuit closes again.
+     */
+    HALF_OPEN
+}
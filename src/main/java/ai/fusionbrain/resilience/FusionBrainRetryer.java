@@ -0,0 +1,117 @@
+package ai.fusionbrain.resilience;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.exception.FusionBrainException;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Feign {@link Retryer} retrying transient failures with jittered exponential backoff within a shared
+ * {@link RetryBudget}.
+ * <p>
+ * Idempotent requests are retried on any {@link RetryableException}, i.e. I/O errors and the transient statuses
+ * reported by {@link ai.fusionbrain.exception.FusionBrainErrorDecoder}. Other requests, such as pipeline runs,
+ * are retried only if the connection could not be established, so a submission is never sent twice.
+ * When a request is not retried, an underlying {@link FusionBrainException} is rethrown instead of the Feign one.
+ * </p>
+ */
+@Slf4j
+public class FusionBrainRetryer implements Retryer {
+    private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(Request.HttpMethod.GET,
+            Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS, Request.HttpMethod.PUT, Request.HttpMethod.DELETE);
+
+    private final FusionBrainProperties.Retry settings;
+    @Getter
+    private final RetryBudget budget;
+    private int attempt = 1;
+
+    /**
+     * Creates a retryer with its own budget.
+     *
+     * @param settings The retry settings.
+     */
+    public FusionBrainRetryer(FusionBrainProperties.Retry settings) {
+        this(settings, new RetryBudget(settings.getBudgetRatio(), settings.getBudgetReserve()));
+    }
+
+    private FusionBrainRetryer(FusionBrainProperties.Retry settings, RetryBudget budget) {
+        this.settings = settings;
+        this.budget = budget;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (!settings.isEnabled() || attempt >= settings.getMaxAttempts() || !isRetryable(e)) {
+            throw propagate(e);
+        }
+        if (!budget.tryRetry()) {
+            log.warn("Retry budget exhausted, not retrying {} {}: {}", e.method(), requestUrl(e), e.getMessage());
+            throw propagate(e);
+        }
+
+        long delay = nextDelay(e);
+        log.debug("Retrying {} {} in {} ms (attempt {} of {}): {}",
+                e.method(), requestUrl(e), delay, attempt + 1, settings.getMaxAttempts(), e.getMessage());
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw propagate(e);
+        }
+        attempt++;
+    }
+
+    /**
+     * Returns a retryer for a new request, sharing the budget of this one.
+     */
+    @Override
+    public Retryer clone() {
+        budget.onRequest();
+        return new FusionBrainRetryer(settings, budget);
+    }
+
+    private boolean isRetryable(RetryableException e) {
+        return e.method() == null || IDEMPOTENT_METHODS.contains(e.method()) || isConnectFailure(e);
+    }
+
+    private long nextDelay(RetryableException e) {
+        long maxInterval = settings.getMaxInterval().toMillis();
+        double backoff = Math.min(
+                settings.getInitialInterval().toMillis() * Math.pow(settings.getMultiplier(), attempt - 1), maxInterval);
+        long delay = (long) (backoff * (1 - settings.getJitter() * ThreadLocalRandom.current().nextDouble()));
+
+        if (e.retryAfter() != null) {
+            long retryAfter = Math.min(e.retryAfter() - System.currentTimeMillis(), maxInterval);
+            delay = Math.max(delay, retryAfter);
+        }
+        return delay;
+    }
+
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            // ConnectTimeoutException of Apache HttpClient 4 and 5 is not a ConnectException
+            if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+                    || cause.getClass().getSimpleName().equals("ConnectTimeoutException")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RuntimeException propagate(RetryableException e) {
+        return e.getCause() instanceof FusionBrainException cause ? cause : e;
+    }
+
+    private static String requestUrl(RetryableException e) {
+        return e.request() != null ? e.request().url() : "";
+    }
+}
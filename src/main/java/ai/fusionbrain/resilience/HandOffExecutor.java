@@ -0,0 +1,61 @@
+package ai.fusionbrain.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executor running tasks one at a time on a dedicated daemon thread, started on demand and stopped when idle.
+ * <p>
+ * {@link #execute} never blocks, so completion callbacks may hand work that submits to a limited executor over to
+ * this thread instead of blocking on a slot of that executor while they hold one themselves.
+ * </p>
+ */
+@Slf4j
+public class HandOffExecutor implements Executor {
+    private final String threadName;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Creates an executor whose thread has the given name.
+     *
+     * @param threadName Name of the thread running the tasks.
+     */
+    public HandOffExecutor(String threadName) {
+        this.threadName = threadName;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queue.add(task);
+        if (running.compareAndSet(false, true)) {
+            try {
+                Thread thread = new Thread(this::drain, threadName);
+                thread.setDaemon(true);
+                thread.start();
+            } catch (Throwable e) {
+                running.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        do {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Hand-off task failed", e);
+                }
+            }
+            running.set(false);
+            // A task queued after the last poll but before the flag was cleared has no thread yet
+        } while (!queue.isEmpty() && running.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,47 @@
+package ai.fusionbrain.resilience;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the statistics of a {@link TokenBucket}.
+ */
+@Value
+public class RateLimiterStats {
+    /**
+     * Statistics of a bucket that has not been asked for a permit.
+     */
+    public static final RateLimiterStats EMPTY = new RateLimiterStats(0, 0, 0, 0);
+
+    /**
+     * Number of permits handed out, with or without waiting.
+     */
+    long acquiredCount;
+
+    /**
+     * Number of requests for a permit that could not be served in time.
+     */
+    long rejectedCount;
+
+    /**
+     * Total time callers waited for their permits.
+     * <p>Units: nanoseconds</p>
+     */
+    long totalWaitNanos;
+
+    /**
+     * Longest time a caller waited for a permit.
+     * <p>Units: nanoseconds</p>
+     */
+    long maxWaitNanos;
+
+    /**
+     * Returns the average time a caller waited for a permit.
+     *
+     * @return Average wait, zero if no permit has been handed out.
+     */
+    public Duration averageWait() {
+        return acquiredCount == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos / acquiredCount);
+    }
+}
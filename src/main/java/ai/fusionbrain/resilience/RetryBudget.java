@@ -0,0 +1,86 @@
+package ai.fusionbrain.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free allowance limiting retries to a share of the requests made.
+ * <p>
+ * Every request deposits {@code ratio} of a retry into the budget and every retry withdraws a whole one. The
+ * balance is capped at {@code reserve} retries and starts full, so isolated failures are always retried, while a
+ * persistent outage quickly drains the budget and stops retries from multiplying the load on the API.
+ * </p>
+ */
+public class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * Creates a full budget.
+     *
+     * @param ratio   Share of a retry earned by every request.
+     * @param reserve Maximum number of retries saved up.
+     */
+    public RetryBudget(double ratio, int reserve) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Ratio must be between 0.0 and 1.0");
+        }
+        if (reserve < 1) {
+            throw new IllegalArgumentException("Reserve must be at least 1");
+        }
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = reserve * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Records a request, earning {@code ratio} of a retry.
+     */
+    public void onRequest() {
+        if (depositPerRequest > 0 && balance.get() < maxBalance) {
+            balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+        }
+    }
+
+    /**
+     * Withdraws a retry if the budget allows one.
+     *
+     * @return {@code true} if the retry may be made.
+     */
+    public boolean tryRetry() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                exhausted.increment();
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                retries.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of retries granted.
+     *
+     * @return Number of retries.
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of retries refused because the budget was exhausted.
+     *
+     * @return Number of refused retries.
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+}
@@ -0,0 +1,133 @@
+package ai.fusionbrain.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket refilled at a constant rate.
+ * <p>
+ * The bucket state is a single timestamp, the moment the bucket will be full again, updated by compare-and-set.
+ * A permit is available while that moment lies less than {@code burst} refill intervals ahead. A blocking acquire
+ * reserves its permit first and then waits for it, so waiting callers are served in the order they arrived.
+ * </p>
+ */
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong fullAtNanos;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Creates a bucket timed by {@link System#nanoTime()}.
+     *
+     * @param permitsPerSecond Rate at which permits are refilled.
+     * @param burst            Number of permits the bucket holds when full.
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * Creates a bucket timed by the given clock. The bucket starts full.
+     *
+     * @param permitsPerSecond Rate at which permits are refilled.
+     * @param burst            Number of permits the bucket holds when full.
+     * @param nanoClock        Monotonic clock in nanoseconds.
+     */
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("Permits per second must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.fullAtNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes a permit if one is available right now.
+     *
+     * @return {@code true} if a permit was taken.
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * Takes a permit, waiting for it if it becomes available within the given time.
+     * No permit is reserved if the wait would be longer.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit    Unit of {@code timeout}.
+     * @return {@code true} if a permit was taken, {@code false} if none becomes available in time.
+     * @throws InterruptedException if the thread is interrupted while waiting; the reserved permit is lost.
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long wait = reserve(unit.toNanos(timeout));
+        if (wait < 0) {
+            return false;
+        }
+
+        long deadline = nanoClock.getAsLong() + wait;
+        for (long remaining = wait; remaining > 0; remaining = deadline - nanoClock.getAsLong()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for a permit");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the time until the next permit becomes available, without reserving it.
+     *
+     * @return Time in nanoseconds, {@code 0} if a permit is available right now.
+     */
+    public long nanosUntilNextPermit() {
+        return Math.max(0, fullAtNanos.get() - toleranceNanos - nanoClock.getAsLong());
+    }
+
+    /**
+     * Reserves the next permit if it becomes available within the given time.
+     *
+     * @return Time until the reserved permit becomes available, or -1 if nothing was reserved.
+     */
+    private long reserve(long timeoutNanos) {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long fullAt = fullAtNanos.get();
+            long wait = Math.max(0, fullAt - toleranceNanos - now);
+            if (wait > timeoutNanos) {
+                rejected.increment();
+                return -1;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, Math.max(fullAt, now) + intervalNanos)) {
+                acquired.increment();
+                if (wait > 0) {
+                    waitNanos.add(wait);
+                    maxWaitNanos.accumulateAndGet(wait, Math::max);
+                }
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this bucket.
+     *
+     * @return The current statistics.
+     */
+    public RateLimiterStats stats() {
+        return new RateLimiterStats(acquired.sum(), rejected.sum(), waitNanos.sum(), maxWaitNanos.get());
+    }
+}
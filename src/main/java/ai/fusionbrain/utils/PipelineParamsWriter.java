@@ -0,0 +1,69 @@
+package ai.fusionbrain.utils;
+
+import ai.fusionbrain.dto.request.PipelineParams;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes {@link PipelineParams} into the {@code params} part of a pipeline run.
+ * <p>
+ * One {@link ObjectWriter} is cached per subtype, so the serializer is resolved once and no intermediate
+ * {@code JsonNode} is built per submission. Shared by the blocking and the reactive client, so both send the same JSON.
+ * </p>
+ */
+public class PipelineParamsWriter {
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public PipelineParamsWriter(ObjectMapper objectMapper) {
+        // The API reads the subtype's own "type" field; the polymorphic type id would duplicate that key
+        this.objectMapper = objectMapper.copy().addMixIn(PipelineParams.class, WithoutTypeId.class);
+    }
+
+    /**
+     * Writes the parameters to the given stream as UTF-8 JSON; the stream is not closed.
+     *
+     * @param params The parameters to write
+     * @param out    Destination of the JSON
+     * @throws IOException If the parameters cannot be serialized or written
+     */
+    public void write(Object params, OutputStream out) throws IOException {
+        getWriter(params).writeValue(out, params);
+    }
+
+    /**
+     * Serializes the parameters to UTF-8 JSON.
+     *
+     * @param params The parameters to serialize
+     * @return The JSON bytes
+     * @throws IOException If the parameters cannot be serialized
+     */
+    public byte[] writeAsBytes(Object params) throws IOException {
+        return getWriter(params).writeValueAsBytes(params);
+    }
+
+    /**
+     * Serializes the parameters to a JSON string.
+     *
+     * @param params The parameters to serialize
+     * @return The JSON text
+     * @throws IOException If the parameters cannot be serialized
+     */
+    public String writeAsString(Object params) throws IOException {
+        return getWriter(params).writeValueAsString(params);
+    }
+
+    private ObjectWriter getWriter(Object params) {
+        return writers.computeIfAbsent(params.getClass(), objectMapper::writerFor);
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    private interface WithoutTypeId {
+    }
+}
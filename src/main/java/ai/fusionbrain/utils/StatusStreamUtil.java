@@ -0,0 +1,82 @@
+package ai.fusionbrain.utils;
+
+import ai.fusionbrain.dto.ResultSink;
+import ai.fusionbrain.dto.StatusResponse;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class StatusStreamUtil {
+    private static final String RESULT = "result";
+    private static final String FILES = "files";
+
+    /**
+     * Reads a status response, decoding the base64 images of {@code result.files} straight into {@code sink}.
+     * <p>
+     * Images are decoded with {@link JsonParser#readBinaryValue} while the input is consumed, so neither the base64
+     * text nor the decoded image is ever held in memory as a whole. The returned {@link StatusResponse} carries every
+     * other field, including the censored flag of the result; {@code result.files} is not set.
+     * </p>
+     *
+     * @param objectMapper Mapper used to bind the status fields.
+     * @param in           The response body; it is not closed.
+     * @param sink         Destination of the decoded images.
+     * @return The status response without the image payload.
+     * @throws IOException If the body is not a valid status response or an image cannot be written.
+     */
+    public static StatusResponse read(ObjectMapper objectMapper, InputStream in, ResultSink sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, "Expected status response to be a JSON object");
+            }
+
+            ObjectNode status = objectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (RESULT.equals(name) && value == JsonToken.START_OBJECT) {
+                    status.set(RESULT, readResult(objectMapper, parser, sink));
+                } else {
+                    status.set(name, objectMapper.readTree(parser));
+                }
+            }
+
+            return objectMapper.treeToValue(status, StatusResponse.class);
+        }
+    }
+
+    private static ObjectNode readResult(ObjectMapper objectMapper, JsonParser parser, ResultSink sink)
+            throws IOException {
+        ObjectNode result = objectMapper.createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (FILES.equals(name) && value == JsonToken.START_ARRAY) {
+                readFiles(parser, sink);
+            } else {
+                result.set(name, objectMapper.readTree(parser));
+            }
+        }
+        return result;
+    }
+
+    private static void readFiles(JsonParser parser, ResultSink sink) throws IOException {
+        int index = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw JsonMappingException.from(parser, "Expected base64 string in result.files, got " + token);
+            }
+            try (OutputStream out = sink.open(index++)) {
+                parser.readBinaryValue(Base64Variants.MIME_NO_LINEFEEDS, out);
+            }
+        }
+    }
+}
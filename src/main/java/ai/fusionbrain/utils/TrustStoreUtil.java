@@ -0,0 +1,77 @@
+package ai.fusionbrain.utils;
+
+import ai.fusionbrain.config.FusionBrainSslProperties;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+
+public class TrustStoreUtil {
+    /**
+     * Loads the truststore configured by {@code fusionbrain.ssl.truststore}.
+     * Uses only JDK classes, so every HTTP transport can share the same trust material.
+     *
+     * @param properties The SSL configuration properties.
+     * @return The loaded truststore, or {@code null} if no truststore is configured.
+     * @throws Exception If the truststore cannot be read.
+     */
+    public static KeyStore loadTrustStore(FusionBrainSslProperties properties) throws Exception {
+        if (!StringUtils.hasText(properties.getTruststore())) {
+            return null;
+        }
+
+        Resource resource = new DefaultResourceLoader().getResource(properties.getTruststore());
+        try (InputStream is = resource.getInputStream()) {
+            KeyStore trustStore = KeyStore.getInstance(properties.getTruststoreType());
+            trustStore.load(is, properties.getTruststorePassword().toCharArray());
+            return trustStore;
+        }
+    }
+
+    /**
+     * Creates a JDK {@link SSLContext} for transports that do not ship their own SSL builders.
+     * Trusts every certificate when {@code fusionbrain.ssl.enabled} is {@code false}, otherwise the configured
+     * truststore or, if none is configured, the JVM default trust material.
+     *
+     * @param properties The SSL configuration properties.
+     * @return The initialized SSL context.
+     * @throws Exception If the truststore cannot be read or the context cannot be initialized.
+     */
+    public static SSLContext createSslContext(FusionBrainSslProperties properties) throws Exception {
+        TrustManager[] trustManagers;
+        if (!properties.isEnabled()) {
+            trustManagers = new TrustManager[]{new TrustAllManager()};
+        } else {
+            TrustManagerFactory trustManagerFactory =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init(loadTrustStore(properties));
+            trustManagers = trustManagerFactory.getTrustManagers();
+        }
+
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, trustManagers, null);
+        return sslContext;
+    }
+
+    private static class TrustAllManager implements X509TrustManager {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -12,25 +12,74 @@ public class ValidationUtil {
     /**
      * Validates the given object using the Jakarta Bean Validation API.
      * If validation fails, a ValidationException is thrown with details of all violations.
+     * <p>
+     * Uses a shared default validator, bootstrapped once; objects of classes without constraints are skipped.
+     * </p>
      *
      * @param object The object to validate
      * @throws ValidationException If validation fails
      */
     public static <T> void validate(T object) {
-        try (var factory = Validation.buildDefaultValidatorFactory()) {
-            Validator validator = factory.getValidator();
-
-            // Validate the object and collect constraint violations
-            Set<ConstraintViolation<T>> violations = validator.validate(object);
-
-            // Check if there are any validation errors
-            if (!violations.isEmpty()) {
-                // Generate a user-friendly error message from the violations
-                String errorMessage = violations.stream()
-                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
-                        .collect(Collectors.joining("; "));
-                throw new ValidationException("Validation failed: " + errorMessage);
-            }
+        requireNonNull(object);
+        if (DefaultValidatorHolder.CONSTRAINED.get(object.getClass())) {
+            throwOnViolations(DefaultValidatorHolder.INSTANCE.validate(object));
+        }
+    }
+
+    /**
+     * Validates the given object with the given validator, e.g. the {@code LocalValidatorFactoryBean}
+     * of the application context.
+     *
+     * @param object    The object to validate
+     * @param validator The validator to use
+     * @throws ValidationException If validation fails
+     */
+    public static <T> void validate(T object, Validator validator) {
+        if (validator == DefaultValidatorHolder.INSTANCE) {
+            validate(object);
+            return;
+        }
+        requireNonNull(object);
+        throwOnViolations(validator.validate(object));
+    }
+
+    /**
+     * Returns the shared default validator used by {@link #validate(Object)}.
+     *
+     * @return Thread-safe Hibernate Validator instance.
+     */
+    public static Validator getDefaultValidator() {
+        return DefaultValidatorHolder.INSTANCE;
+    }
+
+    private static void requireNonNull(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException("The object to be validated must not be null");
+        }
+    }
+
+    private static <T> void throwOnViolations(Set<ConstraintViolation<T>> violations) {
+        // Check if there are any validation errors
+        if (!violations.isEmpty()) {
+            // Generate a user-friendly error message from the violations
+            String errorMessage = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining("; "));
+            throw new ValidationException("Validation failed: " + errorMessage);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Bootstrapping a validator factory takes milliseconds, so one instance and its
+     * per-class constraint metadata are shared by all calls.
+     */
+    private static class DefaultValidatorHolder {
+        private static final Validator INSTANCE = Validation.buildDefaultValidatorFactory().getValidator();
+        private static final ClassValue<Boolean> CONSTRAINED = new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                return INSTANCE.getConstraintsForClass(type).isBeanConstrained();
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.AvailabilityStatus;
+import ai.fusionbrain.dto.EPipelineStatus;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.resilience.AdmissionController;
+import ai.fusionbrain.resilience.EAdmissionMode;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AdmissionControllerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final UUID pipelineId = UUID.randomUUID();
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final FusionBrainProperties.Admission settings = new FusionBrainProperties.Admission();
+
+    @Test
+    void shouldRejectWhileDisabledAndReopenAfterCoolDown() {
+        AdmissionController controller = controller(null);
+
+        controller.admit(pipelineId);
+        controller.onStatus(pipelineId, EPipelineStatus.DISABLED_BY_QUEUE);
+
+        assertThat(controller.isAdmitting(pipelineId)).isFalse();
+        assertThatExceptionOfType(PipelineDisabledException.class)
+                .isThrownBy(() -> controller.admit(pipelineId))
+                .withMessageContaining("DISABLED_BY_QUEUE");
+        assertThatNoException().isThrownBy(() -> controller.admit(UUID.randomUUID()));
+
+        clock.addAndGet(settings.getCoolDown().toNanos());
+
+        assertThatNoException().isThrownBy(() -> controller.admit(pipelineId));
+        assertThat(controller.getRejectedCount()).isEqualTo(1);
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    void shouldReopenWhenPipelineAcceptsSubmission() {
+        AdmissionController controller = controller(null);
+
+        controller.onStatus(pipelineId, EPipelineStatus.DISABLED_MANUALLY);
+        controller.onStatus(pipelineId, null);
+
+        assertThat(controller.isAdmitting(pipelineId)).isTrue();
+    }
+
+    @Test
+    void shouldProbeClosedPipelineUntilItIsActive() {
+        Function<UUID, AvailabilityStatus> probe = mock();
+        when(probe.apply(pipelineId)).thenReturn(
+                new AvailabilityStatus(EPipelineStatus.DISABLED_BY_QUEUE),
+                new AvailabilityStatus(EPipelineStatus.ACTIVE));
+        AdmissionController controller = controller(probe);
+        ArgumentCaptor<Runnable> probeTask = ArgumentCaptor.forClass(Runnable.class);
+
+        controller.onStatus(pipelineId, EPipelineStatus.DISABLED_BY_QUEUE);
+        controller.onStatus(pipelineId, EPipelineStatus.DISABLED_BY_QUEUE);
+        verify(scheduler).schedule(probeTask.capture(), eq(settings.getProbeInterval().toNanos()), eq(TimeUnit.NANOSECONDS));
+
+        clock.addAndGet(settings.getCoolDown().minusSeconds(1).toNanos());
+        probeTask.getValue().run();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(controller.isAdmitting(pipelineId)).as("disabled probe extends the cool-down").isFalse();
+
+        verify(scheduler, times(2)).schedule(probeTask.capture(), anyLong(), any());
+        probeTask.getValue().run();
+
+        assertThat(controller.isAdmitting(pipelineId)).isTrue();
+        verify(probe, times(2)).apply(pipelineId);
+        verifyNoMoreInteractions(scheduler);
+    }
+
+    @Test
+    void shouldWaitForPipelineToReopenInWaitMode() {
+        settings.setMode(EAdmissionMode.WAIT);
+        AdmissionController controller = controller(null);
+        controller.onStatus(pipelineId, EPipelineStatus.DISABLED_BY_QUEUE);
+
+        CompletableFuture<Void> submission = CompletableFuture.runAsync(() -> controller.admit(pipelineId));
+
+        assertThat(submission).isNotDone();
+        controller.onStatus(pipelineId, EPipelineStatus.ACTIVE);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(submission).isCompleted());
+    }
+
+    @Test
+    void shouldRejectAfterMaxWaitInWaitMode() {
+        settings.setMode(EAdmissionMode.WAIT);
+        settings.setMaxWait(Duration.ZERO);
+        AdmissionController controller = controller(null);
+        controller.onStatus(pipelineId, EPipelineStatus.DISABLED_BY_QUEUE);
+
+        assertThatExceptionOfType(PipelineDisabledException.class).isThrownBy(() -> controller.admit(pipelineId));
+    }
+
+    private AdmissionController controller(Function<UUID, AvailabilityStatus> probe) {
+        return new AdmissionController(settings, probe, scheduler, Runnable::run, clock::get);
+    }
+}
@@ -0,0 +1,133 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.resilience.BoundedExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+
+class BoundedExecutorTest {
+    private ExecutorService threads;
+
+    @BeforeEach
+    void setUp() {
+        threads = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void shouldQueueTasksBeyondLimitWithoutBlockingCaller() throws Exception {
+        BoundedExecutor executor = new BoundedExecutor(threads, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                started.incrementAndGet();
+                awaitQuietly(release);
+            });
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        await().atMost(2, TimeUnit.SECONDS).until(() -> started.get() == 2);
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+        assertThat(executor.getQueuedCount()).isEqualTo(3);
+
+        release.countDown();
+        await().atMost(2, TimeUnit.SECONDS).until(() -> started.get() == 5 && executor.getActiveCount() == 0);
+        assertThat(executor.getQueuedCount()).isZero();
+    }
+
+    @Test
+    void shouldNotDeadlockWhenRunningTaskSubmitsAndWaits() {
+        BoundedExecutor executor = new BoundedExecutor(threads, 1);
+        CompletableFuture<String> result = new CompletableFuture<>();
+
+        executor.execute(() -> {
+            CompletableFuture<String> inner = new CompletableFuture<>();
+            executor.execute(() -> inner.complete("inner"));
+            inner.whenComplete((value, e) -> result.complete(value));
+        });
+
+        assertThat(result.orTimeout(2, TimeUnit.SECONDS).join()).isEqualTo("inner");
+    }
+
+    @Test
+    void shouldNeverExceedLimit() {
+        BoundedExecutor executor = new BoundedExecutor(threads, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.yield();
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> done.getCount() == 0);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepTasksRejectedByDelegateQueued() {
+        List<Runnable> delegated = new ArrayList<>();
+        AtomicBoolean rejecting = new AtomicBoolean();
+        BoundedExecutor executor = new BoundedExecutor(command -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException("shut down");
+            }
+            delegated.add(command);
+        }, 1);
+        List<String> ran = new ArrayList<>();
+
+        executor.execute(() -> ran.add("first"));
+        executor.execute(() -> ran.add("second"));
+        rejecting.set(true);
+        // The finishing worker must neither lose the second task nor throw the rejection of it
+        delegated.remove(0).run();
+        assertThat(executor.getQueuedCount()).isEqualTo(1);
+        assertThat(executor.getActiveCount()).isZero();
+
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> executor.execute(() -> ran.add("rejected")));
+        assertThat(executor.getQueuedCount()).isEqualTo(1);
+
+        rejecting.set(false);
+        executor.execute(() -> ran.add("third"));
+        delegated.remove(0).run();
+        delegated.remove(0).run();
+        assertThat(ran).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedExecutor(threads, 0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
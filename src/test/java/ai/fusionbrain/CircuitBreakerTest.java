@@ -0,0 +1,140 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.exception.CircuitBreakerOpenException;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.resilience.CircuitBreaker;
+import ai.fusionbrain.resilience.ECircuitState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class CircuitBreakerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final FusionBrainProperties.CircuitBreaker settings = new FusionBrainProperties.CircuitBreaker();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        settings.setWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setHalfOpenCalls(2);
+        circuitBreaker = new CircuitBreaker("status", settings, clock::get);
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThreshold() throws Exception {
+        succeed();
+        succeed();
+        fail(new FusionBrainServerException("unavailable", 503));
+        assertThat(circuitBreaker.getState()).as("minimum calls not reached").isEqualTo(ECircuitState.CLOSED);
+
+        fail(new UncheckedIOException(new IOException("Connection reset")));
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.OPEN);
+        assertThatExceptionOfType(CircuitBreakerOpenException.class)
+                .isThrownBy(() -> circuitBreaker.call(() -> "ok"))
+                .withMessageContaining("status")
+                .satisfies(e -> assertThat(e.getRetryAfterMillis())
+                        .isEqualTo(settings.getOpenDuration().toMillis() + 1));
+        assertThat(circuitBreaker.getShortCircuitedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAsFailures() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            fail(new FusionBrainServerException("not found", 404));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.CLOSED);
+    }
+
+    @Test
+    void shouldOpenWhenCallsAreSlow() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.call(() -> clock.addAndGet(settings.getSlowCallDuration().toNanos()));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbes() throws Exception {
+        trip();
+        clock.addAndGet(settings.getOpenDuration().toNanos());
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.HALF_OPEN);
+
+        succeed();
+        succeed();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.CLOSED);
+    }
+
+    @Test
+    void shouldLimitProbesAndReopenWhenTheyFail() throws Exception {
+        trip();
+        clock.addAndGet(settings.getOpenDuration().toNanos());
+
+        assertThatExceptionOfType(FusionBrainServerException.class).isThrownBy(() -> circuitBreaker.call(() -> {
+            // Only the permitted number of probes get through while the first one is in flight
+            circuitBreaker.call(() -> "second probe");
+            assertThatExceptionOfType(CircuitBreakerOpenException.class)
+                    .isThrownBy(() -> circuitBreaker.call(() -> "third probe"))
+                    .withMessageContaining("half-open");
+            throw new FusionBrainServerException("bad gateway", 502);
+        }));
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.OPEN);
+    }
+
+    @Test
+    void shouldNotTakeCallsAdmittedBeforeOpeningForProbes() throws Exception {
+        assertThat(circuitBreaker.call(() -> {
+            // The circuit opens and turns half-open while this call is in flight
+            trip();
+            clock.addAndGet(settings.getOpenDuration().toNanos());
+            succeed();
+            return "late";
+        })).isEqualTo("late");
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.HALF_OPEN);
+        succeed();
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.CLOSED);
+    }
+
+    @Test
+    void shouldRecordProbesFailingWithError() throws Exception {
+        trip();
+        clock.addAndGet(settings.getOpenDuration().toNanos());
+
+        assertThatExceptionOfType(LinkageError.class).isThrownBy(() -> circuitBreaker.call(() -> {
+            throw new LinkageError("broken");
+        }));
+        succeed();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.OPEN);
+    }
+
+    private void trip() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            fail(new FusionBrainServerException("unavailable", 503));
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(ECircuitState.OPEN);
+    }
+
+    private void succeed() throws Exception {
+        assertThat(circuitBreaker.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    private void fail(RuntimeException error) {
+        assertThatExceptionOfType(error.getClass()).isThrownBy(() -> circuitBreaker.call(() -> {
+            throw error;
+        }));
+    }
+}
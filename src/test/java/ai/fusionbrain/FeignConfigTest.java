@@ -74,4 +74,4 @@ class FeignConfigTest {
         assertNotNull(errorDecoder);
         assertInstanceOf(FusionBrainErrorDecoder.class, errorDecoder);
     }
-}
\ No newline at end of file
+}
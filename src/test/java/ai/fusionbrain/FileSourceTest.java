@@ -0,0 +1,76 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.dto.request.FileSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSourceTest {
+
+    @Test
+    void shouldReportLengthAndFilename(@TempDir Path tempDir) throws Exception {
+        Path image = Files.write(tempDir.resolve("input.jpg"), new byte[5]);
+
+        assertEquals(5, FileSource.of(image).contentLength());
+        assertEquals("input.jpg", FileSource.of(image).getFilename());
+        assertEquals(3, FileSource.of(new byte[3]).contentLength());
+        assertEquals("file", FileSource.of(new byte[3]).getFilename());
+        assertEquals(2, FileSource.of(ByteBuffer.wrap(new byte[4], 1, 2)).contentLength());
+        assertEquals(4, FileSource.of(new ByteArrayResource(new byte[4])).contentLength());
+    }
+
+    @Test
+    void shouldNotConsumeStreamToDetermineLength() throws Exception {
+        FileSource source = FileSource.of(new ByteArrayInputStream(new byte[]{7, 8}));
+
+        assertEquals(-1, source.contentLength());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.writeTo(out);
+        assertArrayEquals(new byte[]{7, 8}, out.toByteArray());
+    }
+
+    @Test
+    void shouldDetectEmptyStreamWithoutLosingContent() throws Exception {
+        FileSource empty = FileSource.of(new ByteArrayInputStream(new byte[0]));
+        FileSource source = FileSource.of(new ByteArrayInputStream(new byte[]{7, 8}));
+
+        assertTrue(empty.isEmpty());
+        assertFalse(source.isEmpty());
+        assertFalse(source.isEmpty());
+        assertTrue(FileSource.of(new byte[0]).isEmpty());
+        assertFalse(FileSource.of(new byte[1]).isEmpty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.writeTo(out);
+        assertArrayEquals(new byte[]{7, 8}, out.toByteArray());
+    }
+
+    @Test
+    void shouldReadBufferWithoutChangingPosition() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3).put(new byte[]{1, 2, 3}).flip();
+        FileSource source = FileSource.of(buffer);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.writeTo(out);
+        byte[] fromStream = source.getResource().getInputStream().readAllBytes();
+
+        assertArrayEquals(new byte[]{1, 2, 3}, out.toByteArray());
+        assertArrayEquals(new byte[]{1, 2, 3}, fromStream);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void shouldRejectNullSources() {
+        assertThrows(IllegalArgumentException.class, () -> FileSource.of((Path) null));
+        assertThrows(IllegalArgumentException.class, () -> FileSource.of((byte[]) null));
+    }
+}
@@ -0,0 +1,529 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FeignConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embeddable fake of the FusionBrain API for tests, benchmarks and load tests without network access.
+ * <p>
+ * Serves {@code /pipelines}, {@code /pipeline/{id}/availability}, {@code /pipeline/run} and
+ * {@code /pipeline/status/{uuid}} under {@code /key/api/v1} on a loopback port. Submitted tasks are generated by
+ * {@code workers} simulated GPUs, each taking a generation time drawn from {@code generationLatency}; tasks waiting
+ * for a worker are {@code INITIAL}, running ones {@code PROCESSING}. Once {@code queueCapacity} tasks are waiting,
+ * the pipeline is reported as {@code DISABLED_BY_QUEUE} and new runs are refused. Finished tasks carry
+ * {@code numImages} synthetic base64 images of {@code imageSize} bytes.
+ * </p>
+ * <pre>{@code
+ * try (FusionBrainApiSimulator api = FusionBrainApiSimulator.builder()
+ *         .generationLatency(FusionBrainApiSimulator.Latency.logNormal(Duration.ofSeconds(8), 0.4))
+ *         .errors(0.01, 503)
+ *         .start()) {
+ *     // point fusionbrain.base-url at api.getBaseUrl()
+ * }
+ * }</pre>
+ */
+public final class FusionBrainApiSimulator implements AutoCloseable {
+    private static final String API_PATH = "/key/api/v1";
+    private static final Pattern NUM_IMAGES = Pattern.compile("\"numImages\"\\s*:\\s*(\\d+)");
+
+    private final Builder settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID pipelineId;
+    private final String image;
+    private final Random random;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<UUID, Task> tasks = new ConcurrentHashMap<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder statusPolls = new LongAdder();
+
+    // Guarded by this: free times of the workers and tasks waiting for one, in start order
+    private final PriorityQueue<Long> workerFreeAt = new PriorityQueue<>();
+    private final Deque<Task> waiting = new ArrayDeque<>();
+
+    private FusionBrainApiSimulator(Builder settings) throws IOException {
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+        this.pipelineId = new UUID(random.nextLong(), random.nextLong());
+        byte[] imageBytes = new byte[settings.imageSize];
+        random.nextBytes(imageBytes);
+        this.image = Base64.getEncoder().encodeToString(imageBytes);
+        for (int i = 0; i < settings.workers; i++) {
+            workerFreeAt.add(0L);
+        }
+
+        this.executor = Executors.newFixedThreadPool(settings.threads);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.port), 0);
+        server.setExecutor(executor);
+        server.createContext(API_PATH + "/pipelines", exchange -> handle(exchange, this::pipelines));
+        server.createContext(API_PATH + "/pipeline/run", exchange -> handle(exchange, this::run));
+        server.createContext(API_PATH + "/pipeline/status/", exchange -> handle(exchange, this::status));
+        server.createContext(API_PATH + "/pipeline/", exchange -> handle(exchange, this::availability));
+        server.start();
+    }
+
+    /**
+     * Returns a builder of a simulator with default settings.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the URL to use as {@code fusionbrain.base-url}.
+     *
+     * @return Base URL of the simulator.
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the UUID of the only pipeline served.
+     *
+     * @return The pipeline UUID.
+     */
+    public UUID getPipelineId() {
+        return pipelineId;
+    }
+
+    /**
+     * Returns the number of accepted pipeline runs.
+     *
+     * @return Number of submitted tasks.
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * Returns the number of pipeline runs refused because the queue was full.
+     *
+     * @return Number of rejected runs.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of requests answered with an injected error.
+     *
+     * @return Number of injected errors.
+     */
+    public long getInjectedErrorCount() {
+        return injectedErrors.sum();
+    }
+
+    /**
+     * Returns the number of status requests received.
+     *
+     * @return Number of status polls.
+     */
+    public long getStatusPollCount() {
+        return statusPolls.sum();
+    }
+
+    /**
+     * Returns the number of tasks waiting for a free worker.
+     *
+     * @return Number of queued tasks.
+     */
+    public synchronized int getQueuedCount() {
+        long now = System.nanoTime();
+        while (!waiting.isEmpty() && waiting.peekFirst().startAt - now <= 0) {
+            waiting.pollFirst();
+        }
+        return waiting.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private Reply pipelines(HttpExchange exchange) {
+        Map<String, Object> pipeline = new LinkedHashMap<>();
+        pipeline.put("id", pipelineId);
+        pipeline.put("name", "Kandinsky");
+        pipeline.put("nameEn", "Kandinsky");
+        pipeline.put("version", 3.1);
+        pipeline.put("status", pipelineStatus());
+        pipeline.put("type", "TEXT2IMAGE");
+        return Reply.json(200, List.of(pipeline));
+    }
+
+    private Reply availability(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        if (!path.endsWith("/availability")) {
+            return Reply.error(404, "Not found");
+        }
+        if (!path.equals(API_PATH + "/pipeline/" + pipelineId + "/availability")) {
+            return Reply.error(404, "Pipeline not found");
+        }
+        return Reply.json(200, Map.of("status", pipelineStatus()));
+    }
+
+    private Reply run(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            return Reply.error(405, "Method not allowed");
+        }
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+        if (!pipelineId.toString().equals(queryParameter(exchange.getRequestURI(), "pipeline_id"))) {
+            return Reply.error(404, "Pipeline not found");
+        }
+
+        Matcher numImages = NUM_IMAGES.matcher(body);
+        Task task = schedule(numImages.find() ? Integer.parseInt(numImages.group(1)) : 1);
+        if (task == null) {
+            rejected.increment();
+            return Reply.json(201, Map.of("model_status", "DISABLED_BY_QUEUE"));
+        }
+
+        submitted.increment();
+        return Reply.json(201, Map.of("uuid", task.id, "status", "INITIAL", "status_time", settings.statusTime));
+    }
+
+    private Reply status(HttpExchange exchange) {
+        statusPolls.increment();
+        String path = exchange.getRequestURI().getPath();
+        Task task;
+        try {
+            task = tasks.get(UUID.fromString(path.substring(path.lastIndexOf('/') + 1)));
+        } catch (IllegalArgumentException e) {
+            task = null;
+        }
+        if (task == null) {
+            return Reply.error(404, "Task not found");
+        }
+
+        long now = System.nanoTime();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("uuid", task.id);
+        if (now - task.startAt < 0) {
+            status.put("status", "INITIAL");
+        } else if (now - task.finishAt < 0) {
+            status.put("status", "PROCESSING");
+        } else if (task.failed) {
+            status.put("status", "FAIL");
+            status.put("statusDescription", "Simulated generation failure");
+        } else {
+            status.put("status", "DONE");
+            status.put("result", Map.of("files", Collections.nCopies(task.images, image), "censored", false));
+            status.put("generationTime", TimeUnit.NANOSECONDS.toSeconds(task.finishAt - task.startAt));
+        }
+        return Reply.json(200, status);
+    }
+
+    /**
+     * Assigns a new task to the worker that is free first, or returns {@code null} if the queue is full.
+     */
+    private synchronized Task schedule(int images) {
+        if (getQueuedCount() >= settings.queueCapacity) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        long startAt = Math.max(now, workerFreeAt.remove());
+        long finishAt = startAt + TimeUnit.MILLISECONDS.toNanos(settings.generationLatency.nextMillis(random));
+        workerFreeAt.add(finishAt);
+
+        Task task = new Task(new UUID(random.nextLong(), random.nextLong()), startAt, finishAt, images,
+                random.nextDouble() < settings.failureRate);
+        tasks.put(task.id, task);
+        if (startAt - now > 0) {
+            waiting.addLast(task);
+        }
+        return task;
+    }
+
+    private String pipelineStatus() {
+        return getQueuedCount() >= settings.queueCapacity ? "DISABLED_BY_QUEUE" : "ACTIVE";
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try {
+            long latency = settings.responseLatency.nextMillis(ThreadLocalRandom.current());
+            if (latency > 0) {
+                Thread.sleep(latency);
+            }
+
+            Reply reply;
+            if (settings.apiKey != null && !isAuthorized(exchange)) {
+                reply = Reply.error(401, "Unauthorized");
+            } else if (settings.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate) {
+                injectedErrors.increment();
+                int[] statuses = settings.errorStatuses;
+                reply = Reply.error(statuses[ThreadLocalRandom.current().nextInt(statuses.length)], "Injected error");
+            } else {
+                reply = handler.handle(exchange);
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(reply.body);
+            exchange.getResponseHeaders().put("Content-Type", List.of("application/json"));
+            exchange.sendResponseHeaders(reply.status, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        return (FeignConfig.KEY_PREFIX + settings.apiKey)
+                .equals(exchange.getRequestHeaders().getFirst(FeignConfig.KEY_HEADER))
+                && (FeignConfig.SECRET_PREFIX + settings.apiSecret)
+                .equals(exchange.getRequestHeaders().getFirst(FeignConfig.SECRET_HEADER));
+    }
+
+    private static String queryParameter(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Reply handle(HttpExchange exchange) throws IOException;
+    }
+
+    private record Reply(int status, Object body) {
+        static Reply json(int status, Object body) {
+            return new Reply(status, body);
+        }
+
+        static Reply error(int status, String message) {
+            return new Reply(status, Map.of("error", message));
+        }
+    }
+
+    private record Task(UUID id, long startAt, long finishAt, int images, boolean failed) {
+    }
+
+    /**
+     * Distribution of simulated durations in milliseconds.
+     */
+    @FunctionalInterface
+    public interface Latency {
+        /**
+         * No delay.
+         */
+        Latency NONE = random -> 0;
+
+        /**
+         * Draws the next duration.
+         *
+         * @param random Source of randomness.
+         * @return Duration in milliseconds.
+         */
+        long nextMillis(Random random);
+
+        static Latency fixed(Duration duration) {
+            long millis = duration.toMillis();
+            return random -> millis;
+        }
+
+        static Latency uniform(Duration min, Duration max) {
+            long minMillis = min.toMillis();
+            long range = max.toMillis() - minMillis + 1;
+            return random -> minMillis + (long) (random.nextDouble() * range);
+        }
+
+        static Latency exponential(Duration mean) {
+            double meanMillis = mean.toMillis();
+            return random -> (long) (-meanMillis * Math.log(1 - random.nextDouble()));
+        }
+
+        /**
+         * Log-normal distribution, whose long right tail matches typical generation times.
+         *
+         * @param median Median duration.
+         * @param sigma  Standard deviation of the logarithm; {@code 0.5} puts the 99th percentile at about 3.2x
+         *               the median.
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            double mu = Math.log(Math.max(1, median.toMillis()));
+            return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+        }
+    }
+
+    /**
+     * Settings of a {@link FusionBrainApiSimulator}.
+     */
+    public static final class Builder {
+        private int port;
+        private int threads = 16;
+        private int workers = 4;
+        private int queueCapacity = 100;
+        private Latency generationLatency = Latency.fixed(Duration.ofSeconds(1));
+        private Latency responseLatency = Latency.NONE;
+        private long statusTime;
+        private int imageSize = 64 * 1024;
+        private double failureRate;
+        private double errorRate;
+        private int[] errorStatuses = {503};
+        private String apiKey;
+        private String apiSecret;
+        private long seed = 42;
+
+        private Builder() {
+        }
+
+        /**
+         * Port to listen on, {@code 0} (the default) for a free one.
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Threads serving HTTP requests, 16 by default.
+         */
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Tasks generated at the same time, 4 by default.
+         */
+        public Builder workers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Waiting tasks at which the pipeline is reported as {@code DISABLED_BY_QUEUE}, 100 by default.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Time a worker takes to generate a task, 1 second by default.
+         */
+        public Builder generationLatency(Latency generationLatency) {
+            this.generationLatency = Objects.requireNonNull(generationLatency);
+            return this;
+        }
+
+        /**
+         * Delay before every HTTP response, none by default.
+         */
+        public Builder responseLatency(Latency responseLatency) {
+            this.responseLatency = Objects.requireNonNull(responseLatency);
+            return this;
+        }
+
+        /**
+         * The {@code status_time} returned by runs, in seconds; the client waits that long before the first poll.
+         */
+        public Builder statusTime(long statusTime) {
+            this.statusTime = statusTime;
+            return this;
+        }
+
+        /**
+         * Size of every generated image before base64 encoding, 64 KiB by default.
+         */
+        public Builder imageSize(int imageSize) {
+            this.imageSize = imageSize;
+            return this;
+        }
+
+        /**
+         * Share of tasks ending with status {@code FAIL}.
+         */
+        public Builder failureRate(double failureRate) {
+            this.failureRate = failureRate;
+            return this;
+        }
+
+        /**
+         * Answers the given share of all requests with one of the given HTTP statuses instead of handling them.
+         */
+        public Builder errors(double errorRate, int... errorStatuses) {
+            if (errorStatuses.length == 0) {
+                throw new IllegalArgumentException("At least one error status is required");
+            }
+            this.errorRate = errorRate;
+            this.errorStatuses = errorStatuses.clone();
+            return this;
+        }
+
+        /**
+         * Requires the given credentials, answering other requests with 401. Not checked by default.
+         */
+        public Builder credentials(String apiKey, String apiSecret) {
+            this.apiKey = apiKey;
+            this.apiSecret = apiSecret;
+            return this;
+        }
+
+        /**
+         * Seed of the pipeline UUID, task UUIDs, generation times and image content.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Starts a simulator with these settings.
+         *
+         * @return The running simulator, to be closed after use.
+         */
+        public FusionBrainApiSimulator start() {
+            try {
+                return new FusionBrainApiSimulator(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start the FusionBrain API simulator", e);
+            }
+        }
+    }
+}
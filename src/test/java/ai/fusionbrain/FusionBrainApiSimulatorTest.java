@@ -0,0 +1,173 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.autoconfigure.FusionBrainAutoConfiguration;
+import ai.fusionbrain.batch.BatchHandle;
+import ai.fusionbrain.batch.BatchResult;
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.dto.EPipelineStatus;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.dto.request.GenerateParams;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Drives the auto-configured client against the {@link FusionBrainApiSimulator}.
+ */
+class FusionBrainApiSimulatorTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    JacksonAutoConfiguration.class,
+                    HttpMessageConvertersAutoConfiguration.class,
+                    FeignAutoConfiguration.class,
+                    FusionBrainAutoConfiguration.class))
+            .withPropertyValues(
+                    "fusionbrain.enabled=true",
+                    "fusionbrain.api-key=test-key",
+                    "fusionbrain.api-secret=test-secret",
+                    "fusionbrain.poll-interval=1");
+
+    @Test
+    void shouldGenerateSyntheticImages() {
+        try (FusionBrainApiSimulator api = FusionBrainApiSimulator.builder()
+                .generationLatency(FusionBrainApiSimulator.Latency.fixed(Duration.ofMillis(50)))
+                .imageSize(1024)
+                .credentials("test-key", "test-secret")
+                .start()) {
+            withClient(api, client -> {
+                RunResponse run = client.runPipeline(api.getPipelineId(), params());
+                StatusResponse status = client.waitForCompletion(api.getPipelineId(), run).join();
+
+                assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+                assertThat(status.getResult().getImages()).singleElement().satisfies(image -> assertThat(image).hasSize(1024));
+                assertThat(api.getSubmittedCount()).isEqualTo(1);
+                assertThat(api.getStatusPollCount()).isPositive();
+            });
+        }
+    }
+
+    @Test
+    void shouldRunBatchWithIsolatedFailures() {
+        try (FusionBrainApiSimulator api = FusionBrainApiSimulator.builder()
+                .workers(2)
+                .generationLatency(FusionBrainApiSimulator.Latency.fixed(Duration.ofMillis(50)))
+                .imageSize(16)
+                .start()) {
+            withClient(api, client -> {
+                List<Text2ImageParams> items = new ArrayList<>(Collections.nCopies(12, params()));
+                Text2ImageParams invalid = params();
+                invalid.setWidth(100);
+                items.set(5, invalid);
+
+                BatchHandle batch = client.runBatch(api.getPipelineId(), items, 4);
+                BatchResult result = batch.getResult().orTimeout(30, TimeUnit.SECONDS).join();
+
+                assertThat(result.getSucceededCount()).isEqualTo(11);
+                assertThat(result.getErrors()).containsOnlyKeys(5);
+                assertThat(result.getErrors().get(5)).isInstanceOf(ValidationException.class);
+                assertThat(batch.getProgress()).isEqualTo(1.0);
+                assertThat(api.getSubmittedCount()).isEqualTo(11);
+            });
+        }
+    }
+
+    @Test
+    void shouldStreamStatusesInCompletionOrder() {
+        try (FusionBrainApiSimulator api = FusionBrainApiSimulator.builder()
+                .workers(3)
+                .generationLatency(FusionBrainApiSimulator.Latency.uniform(Duration.ofMillis(10), Duration.ofSeconds(2)))
+                .imageSize(16)
+                .start()) {
+            withClient(api, client -> {
+                List<UUID> taskIds = Stream.generate(() -> client.runPipeline(api.getPipelineId(), params()).getId())
+                        .limit(3)
+                        .toList();
+
+                try (Stream<StatusResponse> statuses = client.completions(taskIds).stream()) {
+                    assertThat(statuses.toList())
+                            .allSatisfy(status -> assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE))
+                            .extracting(StatusResponse::getId)
+                            .containsExactlyInAnyOrderElementsOf(taskIds);
+                }
+            });
+        }
+    }
+
+    @Test
+    void shouldDisablePipelineWhenQueueIsFull() {
+        try (FusionBrainApiSimulator api = FusionBrainApiSimulator.builder()
+                .workers(1)
+                .queueCapacity(1)
+                .generationLatency(FusionBrainApiSimulator.Latency.fixed(Duration.ofMinutes(1)))
+                .start()) {
+            withClient(api, client -> {
+                client.runPipeline(api.getPipelineId(), params());
+                client.runPipeline(api.getPipelineId(), params());
+
+                assertThat(api.getQueuedCount()).isEqualTo(1);
+                assertThat(client.getPipelineAvailability(api.getPipelineId()).getStatus())
+                        .isEqualTo(EPipelineStatus.DISABLED_BY_QUEUE);
+                assertThatExceptionOfType(PipelineDisabledException.class)
+                        .isThrownBy(() -> client.runPipeline(api.getPipelineId(), params()));
+                assertThat(api.getRejectedCount()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Test
+    void shouldInjectErrors() {
+        try (FusionBrainApiSimulator api = FusionBrainApiSimulator.builder().errors(1.0, 500).start()) {
+            withClient(api, client -> assertThatExceptionOfType(FusionBrainServerException.class)
+                    .isThrownBy(client::getPipelines)
+                    .satisfies(e -> assertThat(e.getStatus()).isEqualTo(500)));
+            assertThat(api.getInjectedErrorCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldDrawLatenciesAroundMedian() {
+        FusionBrainApiSimulator.Latency latency = FusionBrainApiSimulator.Latency.logNormal(Duration.ofSeconds(8), 0.5);
+        Random random = new Random(1);
+        long[] samples = new long[10_001];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = latency.nextMillis(random);
+        }
+        Arrays.sort(samples);
+
+        assertThat(samples[samples.length / 2]).isBetween(7_600L, 8_400L);
+    }
+
+    private void withClient(FusionBrainApiSimulator api, Consumer<FusionBrainClient> test) {
+        contextRunner.withPropertyValues("fusionbrain.base-url=" + api.getBaseUrl())
+                .run(context -> test.accept(context.getBean(FusionBrainClient.class)));
+    }
+
+    private static Text2ImageParams params() {
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("A red cat"));
+        return params;
+    }
+}
@@ -3,19 +3,29 @@ package ai.fusionbrain;
 import ai.fusionbrain.autoconfigure.FusionBrainAutoConfiguration;
 import ai.fusionbrain.client.FusionBrainClient;
 import ai.fusionbrain.client.FusionBrainFeignClient;
+import ai.fusionbrain.client.ReactiveFusionBrainClient;
+import ai.fusionbrain.config.EAsyncMode;
 import ai.fusionbrain.config.FeignConfig;
 import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.queue.FusionBrainSubmissionQueue;
+import ai.fusionbrain.resilience.BoundedExecutor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.concurrent.Executor;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(classes = FusionBrainAutoConfigurationTest.TestConfig.class)
@@ -44,6 +54,9 @@ class FusionBrainAutoConfigurationTest {
     @Autowired(required = false)
     private FusionBrainClient fusionBrainClient;
 
+    @Autowired(required = false)
+    private ReactiveFusionBrainClient reactiveFusionBrainClient;
+
     @MockitoBean
     private FusionBrainFeignClient fusionBrainFeignClient;
 
@@ -53,18 +66,52 @@ class FusionBrainAutoConfigurationTest {
     @Autowired
     private FeignConfig feignConfig;
 
+    @Autowired
+    private FusionBrainSubmissionQueue fusionBrainSubmissionQueue;
+
     @Test
     void shouldLoadAllBeansWhenEnabled() {
         assertThat(fusionBrainClient).isNotNull();
+        assertThat(reactiveFusionBrainClient).isNotNull();
         assertThat(fusionBrainFeignClient).isNotNull();
         assertThat(fusionBrainProperties).isNotNull();
         assertThat(feignConfig).isNotNull();
+        assertThat(fusionBrainSubmissionQueue).isNotNull();
 
         assertThat(fusionBrainProperties.getApiKey()).isEqualTo("test-key");
         assertThat(fusionBrainProperties.getApiSecret()).isEqualTo("test-secret");
         assertThat(fusionBrainProperties.getBaseUrl()).isEqualTo("https://test.url");
     }
 
+    @Test
+    void shouldCreatePlatformThreadExecutorByDefault() {
+        Executor executor = new FusionBrainAutoConfiguration().fusionBrainAsyncExecutor(new FusionBrainProperties());
+
+        assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+    }
+
+    @Test
+    void shouldCreateVirtualThreadExecutorWhenSupported() {
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.getAsync().setMode(EAsyncMode.VIRTUAL);
+        properties.getAsync().setMaxConcurrency(10);
+
+        Executor executor = new FusionBrainAutoConfiguration().fusionBrainAsyncExecutor(properties);
+
+        if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            assertThat(executor).isInstanceOf(BoundedExecutor.class);
+            assertThat(((BoundedExecutor) executor).getConcurrencyLimit()).isEqualTo(10);
+        } else {
+            assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        }
+    }
+
+    @Test
+    void shouldBeRegisteredAsAutoConfiguration() {
+        assertThat(ImportCandidates.load(AutoConfiguration.class, getClass().getClassLoader()))
+                .contains(FusionBrainAutoConfiguration.class.getName());
+    }
+
     @Nested
     @SpringBootTest(classes = TestConfig.class)
     @TestPropertySource(properties = "fusionbrain.enabled=false")
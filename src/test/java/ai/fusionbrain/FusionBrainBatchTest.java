@@ -0,0 +1,178 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.batch.BatchHandle;
+import ai.fusionbrain.batch.BatchResult;
+import ai.fusionbrain.batch.BatchRunner;
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FusionBrainBatchTest {
+    private final UUID pipelineId = UUID.randomUUID();
+    private final PipelineParams params = mock(PipelineParams.class);
+    private final List<CompletableFuture<StatusResponse>> running = new CopyOnWriteArrayList<>();
+    private final FusionBrainProperties.Batch settings = new FusionBrainProperties.Batch();
+    private FusionBrainClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(FusionBrainClient.class);
+        when(client.runPipeline(any(UUID.class), any(PipelineParams.class)))
+                .thenAnswer(invocation -> RunResponse.builder().id(UUID.randomUUID()).build());
+        when(client.waitForCompletion(any(UUID.class), any(RunResponse.class))).thenAnswer(invocation -> {
+            CompletableFuture<StatusResponse> future = new CompletableFuture<>();
+            running.add(future);
+            return future;
+        });
+    }
+
+    @Test
+    void shouldKeepAtMostParallelismItemsInFlight() {
+        BatchHandle batch = new BatchRunner(client, settings, Runnable::run)
+                .run(pipelineId, List.of(params, params, params, params, params), 2);
+
+        // The second item may be dispatched by the dispatcher thread once the first one is submitted
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(running).hasSize(2));
+        assertThat(batch.getInFlightCount()).isEqualTo(2);
+
+        running.get(0).complete(status(EResourceStatus.DONE));
+
+        assertThat(batch.getItems().get(0)).isCompletedWithValue(status(EResourceStatus.DONE));
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(running).hasSize(3));
+        assertThat(batch.getCompletedCount()).isEqualTo(1);
+        assertThat(batch.getProgress()).isEqualTo(0.2);
+        assertThat(batch.getResult()).isNotDone();
+    }
+
+    @Test
+    void shouldIsolateFailingItems() {
+        PipelineParams invalid = mock(PipelineParams.class);
+        when(client.runPipeline(pipelineId, invalid)).thenThrow(new ValidationException("invalid"));
+
+        BatchHandle batch = new BatchRunner(client, settings, Runnable::run)
+                .run(pipelineId, List.of(params, invalid, params));
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(running).hasSize(2));
+        running.get(0).complete(status(EResourceStatus.DONE));
+        running.get(1).complete(status(EResourceStatus.FAIL));
+
+        BatchResult result = batch.getResult().join();
+        assertThat(result.getStatuses()).extracting(status -> status != null ? status.getStatus() : null)
+                .containsExactly(EResourceStatus.DONE, null, EResourceStatus.FAIL);
+        assertThat(result.getErrors()).containsOnlyKeys(1);
+        assertThat(result.getErrors().get(1)).isInstanceOf(ValidationException.class);
+        assertThat(result.getSucceededCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(batch.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLimitConcurrentSubmissionsOnExecutor() {
+        List<Runnable> submissions = new CopyOnWriteArrayList<>();
+        settings.setSubmitConcurrency(2);
+
+        new BatchRunner(client, settings, submissions::add).run(pipelineId, List.of(params, params, params, params), 4);
+
+        assertThat(submissions).hasSize(2);
+        submissions.remove(0).run();
+
+        // The first item is awaited by the status poller, freeing its submission slot
+        assertThat(running).hasSize(1);
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(submissions).hasSize(2));
+        verify(client, times(1)).runPipeline(eq(pipelineId), any(PipelineParams.class));
+    }
+
+    @Test
+    void shouldCancelItemsNotSubmittedYet() {
+        BatchHandle batch = new BatchRunner(client, settings, Runnable::run)
+                .run(pipelineId, List.of(params, params, params), 1);
+
+        batch.cancel();
+        running.get(0).complete(status(EResourceStatus.DONE));
+
+        BatchResult result = batch.getResult().join();
+        assertThat(result.getSucceededCount()).isEqualTo(1);
+        assertThat(result.getErrors()).containsOnlyKeys(1, 2);
+        assertThat(result.getErrors().values()).allMatch(CancellationException.class::isInstance);
+        assertThat(running).hasSize(1);
+    }
+
+    @Test
+    void shouldRunBatchWithDefaultClientImplementation() {
+        when(client.runBatch(any(UUID.class), anyList())).thenCallRealMethod();
+        when(client.runBatch(any(UUID.class), anyList(), anyInt())).thenCallRealMethod();
+
+        BatchHandle batch = client.runBatch(pipelineId, List.of(params, params));
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(running).hasSize(2));
+        running.forEach(future -> future.complete(status(EResourceStatus.DONE)));
+        assertThat(batch.getResult().join().getErrors()).isEmpty();
+        verify(client).runBatch(pipelineId, List.of(params, params), settings.getParallelism());
+    }
+
+    @Test
+    void shouldCompleteEmptyBatch() {
+        BatchHandle batch = new BatchRunner(client, settings, Runnable::run).run(pipelineId, List.of());
+
+        assertThat(batch.getResult()).isDone();
+        assertThat(batch.getResult().join().isAllSucceeded()).isTrue();
+        assertThat(batch.getProgress()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotDispatchFromThreadsHoldingExecutorSlot() {
+        // Executor with a single slot whose execute blocks until the slot is free
+        Semaphore slot = new Semaphore(1);
+        ExecutorService threads = Executors.newCachedThreadPool();
+        Executor limited = task -> {
+            slot.acquireUninterruptibly();
+            threads.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    slot.release();
+                }
+            });
+        };
+        when(client.waitForCompletion(any(UUID.class), any(RunResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(status(EResourceStatus.DONE)));
+        settings.setSubmitConcurrency(2);
+
+        try {
+            BatchRunner runner = new BatchRunner(client, settings, limited);
+            CompletableFuture<BatchResult> result = CompletableFuture
+                    .supplyAsync(() -> runner.run(pipelineId, List.of(params, params, params, params), 2), threads)
+                    .thenCompose(BatchHandle::getResult);
+
+            assertThat(result.orTimeout(2, TimeUnit.SECONDS).join().isAllSucceeded()).isTrue();
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static StatusResponse status(EResourceStatus resourceStatus) {
+        return StatusResponse.builder().status(resourceStatus).build();
+    }
+}
@@ -5,22 +5,42 @@ import ai.fusionbrain.client.FusionBrainClientImpl;
 import ai.fusionbrain.client.FusionBrainFeignClient;
 import ai.fusionbrain.config.FusionBrainProperties;
 import ai.fusionbrain.dto.*;
+import ai.fusionbrain.dto.request.FileSource;
 import ai.fusionbrain.dto.request.GenerateParams;
+import ai.fusionbrain.dto.request.PipelineParams;
 import ai.fusionbrain.dto.request.Text2ImageParams;
+import ai.fusionbrain.exception.CircuitBreakerOpenException;
 import ai.fusionbrain.exception.FusionBrainException;
-import com.fasterxml.jackson.databind.JsonNode;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.exception.RateLimitExceededException;
+import ai.fusionbrain.exception.ValidationException;
+import ai.fusionbrain.resilience.ECircuitState;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,7 +66,7 @@ class FusionBrainClientImplTest {
         executor.setCorePoolSize(1);
         executor.setThreadNamePrefix("FusionBrainAsync-");
         executor.initialize();
-        fusionBrainClient = new FusionBrainClientImpl(feignClient, objectMapper, fusionBrainProperties, executor);
+        fusionBrainClient = client(feignClient, fusionBrainProperties, executor);
     }
 
     @Test
@@ -59,6 +79,167 @@ class FusionBrainClientImplTest {
         verify(feignClient).getPipelines(null);
     }
 
+    @Test
+    void testCachedPipelinesAndAvailability() {
+        FusionBrainFeignClient cachedFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.getCache().setEnabled(true);
+        FusionBrainClientImpl client = client(cachedFeignClient, properties, Runnable::run);
+        UUID pipelineId = UUID.randomUUID();
+        AvailabilityStatus available = new AvailabilityStatus(EPipelineStatus.ACTIVE);
+
+        when(cachedFeignClient.getPipelines(EPipelineType.TEXT2IMAGE)).thenReturn(List.of(new PipelineDTO()));
+        when(cachedFeignClient.getPipelineAvailability(pipelineId)).thenReturn(available);
+
+        assertThat(client.getPipelines(EPipelineType.TEXT2IMAGE)).hasSize(1);
+        assertThat(client.getPipelines(EPipelineType.TEXT2IMAGE)).hasSize(1);
+        assertThat(client.getPipelineAvailability(pipelineId)).isSameAs(available);
+        assertThat(client.getPipelineAvailability(pipelineId)).isSameAs(available);
+
+        verify(cachedFeignClient, times(1)).getPipelines(EPipelineType.TEXT2IMAGE);
+        verify(cachedFeignClient, times(1)).getPipelineAvailability(pipelineId);
+        assertThat(client.getPipelinesCacheStats().getHitCount()).isEqualTo(1);
+        assertThat(client.getAvailabilityCacheStats().getMissCount()).isEqualTo(1);
+
+        client.invalidateCaches();
+        client.getPipelines(EPipelineType.TEXT2IMAGE);
+        verify(cachedFeignClient, times(2)).getPipelines(EPipelineType.TEXT2IMAGE);
+    }
+
+    @Test
+    void testAdmissionControlRejectsSubmissionsToDisabledPipeline() {
+        FusionBrainFeignClient admissionFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.getAdmission().setEnabled(true);
+        properties.getAdmission().setProbeInterval(Duration.ZERO);
+        FusionBrainClientImpl client = client(admissionFeignClient, properties, Runnable::run);
+        UUID pipelineId = UUID.randomUUID();
+
+        when(admissionFeignClient.runPipeline(any(), eq(pipelineId), any())).thenReturn(RunResponse.builder()
+                .modelStatus(EPipelineStatus.DISABLED_BY_QUEUE).build());
+
+        assertThatExceptionOfType(PipelineDisabledException.class)
+                .isThrownBy(() -> client.runPipeline(pipelineId, null));
+        assertThatExceptionOfType(PipelineDisabledException.class)
+                .isThrownBy(() -> client.runPipeline(pipelineId, null))
+                .withMessageContaining("rejected locally");
+
+        verify(admissionFeignClient, times(1)).runPipeline(any(), eq(pipelineId), any());
+        assertThat(client.getAdmissionRejectedCount()).isEqualTo(1);
+
+        when(admissionFeignClient.getPipelineAvailability(pipelineId))
+                .thenReturn(new AvailabilityStatus(EPipelineStatus.ACTIVE));
+        when(admissionFeignClient.runPipeline(any(), eq(pipelineId), any())).thenReturn(RunResponse.builder().build());
+
+        client.getPipelineAvailability(pipelineId);
+        assertThat(client.runPipeline(pipelineId, null)).isNotNull();
+    }
+
+    @Test
+    void testRateLimiterRejectsCallsBeyondBurst() {
+        FusionBrainFeignClient limitedFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.getRateLimit().setEnabled(true);
+        properties.getRateLimit().setMaxWait(Duration.ZERO);
+        properties.getRateLimit().setRun(new FusionBrainProperties.Bucket(0.01, 1));
+        properties.getRateLimit().setStatus(new FusionBrainProperties.Bucket(0.01, 2));
+        FusionBrainClientImpl client = client(limitedFeignClient, properties, Runnable::run);
+        UUID pipelineId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+
+        when(limitedFeignClient.runPipeline(any(), eq(pipelineId), any())).thenReturn(RunResponse.builder().build());
+        when(limitedFeignClient.getStatus(taskId)).thenReturn(new StatusResponse());
+
+        client.runPipeline(pipelineId, null);
+        assertThatExceptionOfType(RateLimitExceededException.class)
+                .isThrownBy(() -> client.runPipeline(pipelineId, null))
+                .withMessageContaining("pipeline run");
+
+        client.getStatus(taskId);
+        client.getStatus(taskId);
+        assertThatExceptionOfType(RateLimitExceededException.class).isThrownBy(() -> client.getStatus(taskId));
+
+        verify(limitedFeignClient, times(1)).runPipeline(any(), eq(pipelineId), any());
+        verify(limitedFeignClient, times(2)).getStatus(taskId);
+        assertThat(client.getRunRateLimiterStats().getRejectedCount()).isEqualTo(1);
+        assertThat(client.getStatusRateLimiterStats().getAcquiredCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testRateLimitedPollsAreDeferredInsteadOfFailing() {
+        FusionBrainFeignClient limitedFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.setMaxRetries(0);
+        properties.getRateLimit().setEnabled(true);
+        properties.getRateLimit().setMaxWait(Duration.ZERO);
+        properties.getRateLimit().setStatus(new FusionBrainProperties.Bucket(5, 1));
+        FusionBrainClientImpl client = client(limitedFeignClient, properties, Runnable::run);
+        UUID taskId = UUID.randomUUID();
+
+        when(limitedFeignClient.getStatus(taskId))
+                .thenReturn(StatusResponse.builder().id(taskId).status(EResourceStatus.DONE).build());
+
+        client.getStatus(taskId);
+        CompletableFuture<StatusResponse> future = client.waitForCompletion(taskId, 0);
+
+        assertThat(future.orTimeout(2, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        verify(limitedFeignClient, times(2)).getStatus(taskId);
+        assertThat(client.getStatusRateLimiterStats().getRejectedCount()).isPositive();
+    }
+
+    @Test
+    void testCircuitBreakerShortCircuitsFailingEndpoint() {
+        FusionBrainFeignClient failingFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.getCircuitBreaker().setEnabled(true);
+        properties.getCircuitBreaker().setMinimumCalls(2);
+        FusionBrainClientImpl client = client(failingFeignClient, properties, Runnable::run);
+        UUID taskId = UUID.randomUUID();
+
+        when(failingFeignClient.getStatus(taskId)).thenThrow(new FusionBrainServerException("unavailable", 503));
+        when(failingFeignClient.getPipelines(null)).thenReturn(Collections.emptyList());
+
+        assertThatExceptionOfType(FusionBrainServerException.class).isThrownBy(() -> client.getStatus(taskId));
+        assertThatExceptionOfType(FusionBrainServerException.class).isThrownBy(() -> client.getStatus(taskId));
+        assertThatExceptionOfType(CircuitBreakerOpenException.class).isThrownBy(() -> client.getStatus(taskId));
+        assertThatExceptionOfType(CircuitBreakerOpenException.class)
+                .isThrownBy(() -> client.getStatus(taskId, ResultSink.to(new ByteArrayOutputStream())));
+
+        assertThat(client.getPipelines()).isEmpty();
+        verify(failingFeignClient, times(2)).getStatus(taskId);
+        verify(failingFeignClient, never()).getStatusStream(taskId);
+        assertThat(client.getStatusCircuitState()).isEqualTo(ECircuitState.OPEN);
+        assertThat(client.getPipelinesCircuitState()).isEqualTo(ECircuitState.CLOSED);
+    }
+
+    @Test
+    void testPollsAreDeferredWhileStatusCircuitIsOpen() {
+        FusionBrainFeignClient failingFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.setMaxRetries(0);
+        properties.getCircuitBreaker().setEnabled(true);
+        properties.getCircuitBreaker().setMinimumCalls(2);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofSeconds(1));
+        properties.getCircuitBreaker().setHalfOpenCalls(1);
+        FusionBrainClientImpl client = client(failingFeignClient, properties, Runnable::run);
+        UUID taskId = UUID.randomUUID();
+
+        when(failingFeignClient.getStatus(taskId))
+                .thenThrow(new FusionBrainServerException("unavailable", 503))
+                .thenThrow(new FusionBrainServerException("unavailable", 503))
+                .thenReturn(StatusResponse.builder().id(taskId).status(EResourceStatus.DONE).build());
+
+        assertThatExceptionOfType(FusionBrainServerException.class).isThrownBy(() -> client.getStatus(taskId));
+        assertThatExceptionOfType(FusionBrainServerException.class).isThrownBy(() -> client.getStatus(taskId));
+        assertThat(client.getStatusCircuitState()).isEqualTo(ECircuitState.OPEN);
+
+        CompletableFuture<StatusResponse> future = client.waitForCompletion(taskId, 0);
+
+        assertThat(future.orTimeout(3, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(client.getStatusCircuitState()).isEqualTo(ECircuitState.CLOSED);
+        verify(failingFeignClient, times(3)).getStatus(taskId);
+    }
+
     @Test
     void testGetPipelinesWithType() throws FusionBrainException {
         when(feignClient.getPipelines(EPipelineType.TEXT2IMAGE)).thenReturn(Collections.emptyList());
@@ -92,22 +273,93 @@ class FusionBrainClientImplTest {
     }
 
     @Test
-    void testRunPipeline() throws FusionBrainException {
+    void testRunPipeline() throws Exception {
         UUID pipelineId = UUID.randomUUID();
         GenerateParams generateParams = new GenerateParams("text");
         Text2ImageParams params = new Text2ImageParams();
         params.setGenerateParams(generateParams);
 
-        List<byte[]> files = Collections.emptyList();
+        List<byte[]> files = List.of(new byte[]{1, 2, 3});
         RunResponse expectedResponse = new RunResponse();
-        when(feignClient.runPipeline(any(), eq(pipelineId), eq(files))).thenReturn(expectedResponse);
+        when(feignClient.runPipeline(any(), eq(pipelineId), any())).thenReturn(expectedResponse);
 
         RunResponse response = fusionBrainClient.runPipeline(pipelineId, params, files);
 
         assertThat(response).isEqualTo(expectedResponse);
-        ArgumentCaptor<JsonNode> paramsCaptor = ArgumentCaptor.forClass(JsonNode.class);
-        verify(feignClient).runPipeline(paramsCaptor.capture(), eq(pipelineId), eq(files));
-        assertThat(paramsCaptor.getValue()).isEqualTo(objectMapper.valueToTree(params));
+        ArgumentCaptor<PipelineParams> paramsCaptor = ArgumentCaptor.forClass(PipelineParams.class);
+        ArgumentCaptor<List<FileSource>> filesCaptor = ArgumentCaptor.captor();
+        verify(feignClient).runPipeline(paramsCaptor.capture(), eq(pipelineId), filesCaptor.capture());
+        assertThat(paramsCaptor.getValue()).isSameAs(params);
+        assertThat(filesCaptor.getValue()).hasSize(1);
+        assertThat(filesCaptor.getValue().get(0).contentLength()).isEqualTo(3);
+    }
+
+    @Test
+    void testRunPipelineWithoutFiles() throws FusionBrainException {
+        UUID pipelineId = UUID.randomUUID();
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("text"));
+        when(feignClient.runPipeline(any(), eq(pipelineId), any())).thenReturn(new RunResponse());
+
+        fusionBrainClient.runPipeline(pipelineId, params, Collections.emptyList());
+        fusionBrainClient.runPipeline(pipelineId, params);
+
+        verify(feignClient, times(2)).runPipeline(params, pipelineId, null);
+    }
+
+    @Test
+    void testRunPipelineWithFileSources(@TempDir Path tempDir) throws Exception {
+        UUID pipelineId = UUID.randomUUID();
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("text"));
+        Path image = Files.write(tempDir.resolve("image.png"), new byte[]{1, 2, 3, 4});
+        FileSource file = FileSource.of(image);
+        when(feignClient.runPipeline(any(), eq(pipelineId), any())).thenReturn(new RunResponse());
+
+        fusionBrainClient.runPipeline(pipelineId, params, file);
+
+        verify(feignClient).runPipeline(params, pipelineId, List.of(file));
+    }
+
+    @Test
+    void testRunPipelineRejectsEmptyFileSources(@TempDir Path tempDir) throws Exception {
+        UUID pipelineId = UUID.randomUUID();
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("text"));
+        Path empty = Files.createFile(tempDir.resolve("empty.png"));
+
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> fusionBrainClient.runPipeline(pipelineId, params, FileSource.of(empty)))
+                .withMessage("File content cannot be null or empty");
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> fusionBrainClient.runPipeline(pipelineId, params,
+                        FileSource.of(new ByteArrayInputStream(new byte[0]))));
+        assertThatExceptionOfType(ValidationException.class)
+                .isThrownBy(() -> fusionBrainClient.runPipeline(pipelineId, params, (FileSource) null));
+        verify(feignClient, never()).runPipeline(any(), eq(pipelineId), any());
+    }
+
+    @Test
+    void testRunPipelineUsesConfiguredValidator() {
+        FusionBrainFeignClient validatedFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        Validator validator = spy(Validation.buildDefaultValidatorFactory().getValidator());
+        FusionBrainClientImpl client = FusionBrainClientImpl.builder()
+                .feignClient(validatedFeignClient)
+                .objectMapper(objectMapper)
+                .properties(new FusionBrainProperties())
+                .asyncExecutor(Runnable::run)
+                .pollingScheduler(Executors.newSingleThreadScheduledExecutor())
+                .validator(validator)
+                .build();
+        UUID pipelineId = UUID.randomUUID();
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("text"));
+        when(validatedFeignClient.runPipeline(any(), eq(pipelineId), any())).thenReturn(new RunResponse());
+
+        client.runPipeline(pipelineId, params);
+        client.runPipeline(pipelineId, params);
+
+        verify(validator, times(2)).validate(params);
     }
 
     @Test
@@ -117,7 +369,7 @@ class FusionBrainClientImplTest {
         Text2ImageParams params = new Text2ImageParams();
         params.setGenerateParams(generateParams);
         List<byte[]> files = Collections.emptyList();
-        when(feignClient.runPipeline(any(), eq(pipelineId), eq(files))).thenThrow(new RuntimeException("Error"));
+        when(feignClient.runPipeline(any(), eq(pipelineId), isNull())).thenThrow(new RuntimeException("Error"));
 
         assertThatExceptionOfType(FusionBrainException.class)
                 .isThrownBy(() -> fusionBrainClient.runPipeline(pipelineId, params, files))
@@ -225,6 +477,127 @@ class FusionBrainClientImplTest {
         verify(feignClient, times(1)).getStatus(taskId);
     }
 
+    @Test
+    void testWaitForCompletionWithRunResponse() {
+        UUID pipelineId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        StatusResponse finalStatus = new StatusResponse();
+        finalStatus.setStatus(EResourceStatus.DONE);
+        RunResponse runResponse = RunResponse.builder().id(taskId).statusTime(0).build();
+
+        when(feignClient.getStatus(taskId)).thenReturn(finalStatus);
+
+        CompletableFuture<StatusResponse> future = fusionBrainClient.waitForCompletion(pipelineId, runResponse);
+
+        await().atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    assertThat(future).isCompleted();
+                    assertThat(future.get()).isEqualTo(finalStatus);
+                });
+    }
+
+    @Test
+    void testWaitForCompletionStreamsResultIntoSink() {
+        UUID pipelineId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        RunResponse runResponse = RunResponse.builder().id(taskId).statusTime(0).build();
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+
+        when(feignClient.getStatusStream(taskId)).thenReturn(
+                statusStream(200, "{\"status\":\"PROCESSING\"}"),
+                statusStream(200, "{\"status\":\"DONE\",\"result\":{\"files\":[\"aW1hZ2U=\"]}}"));
+
+        CompletableFuture<StatusResponse> future =
+                fusionBrainClient.waitForCompletion(pipelineId, runResponse, ResultSink.to(image));
+
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(future).isCompleted());
+        assertThat(future.join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(image.toString(StandardCharsets.UTF_8)).isEqualTo("image");
+        verify(feignClient, never()).getStatus(taskId);
+    }
+
+    @Test
+    void testGetStatusOnlySkipsResult() {
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.getStatusStream(taskId)).thenReturn(
+                statusStream(200, "{\"status\":\"DONE\",\"result\":{\"files\":[\"aW1hZ2U=\"]}}"));
+
+        StatusResponse status = fusionBrainClient.getStatusOnly(taskId);
+
+        assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(status.getResult()).isNull();
+    }
+
+    @Test
+    void testGetStatusWithSinkThrowsServerExceptionOnErrorStatus() {
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.getStatusStream(taskId)).thenReturn(statusStream(500, ""));
+
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .isThrownBy(() -> fusionBrainClient.getStatus(taskId, ResultSink.to(new ByteArrayOutputStream())))
+                .withMessageContaining("Status: 500");
+    }
+
+    @Test
+    void testGetStatusWithSinkRetriesTransientStatusBeforeStreaming() {
+        FusionBrainFeignClient retryingFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.getRetry().setEnabled(true);
+        properties.getRetry().setInitialInterval(Duration.ofMillis(1));
+        FusionBrainClientImpl client = client(retryingFeignClient, properties, Runnable::run);
+        UUID taskId = UUID.randomUUID();
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+
+        when(retryingFeignClient.getStatusStream(taskId)).thenReturn(
+                statusStream(503, ""),
+                statusStream(429, ""),
+                statusStream(200, "{\"status\":\"DONE\",\"result\":{\"files\":[\"aW1hZ2U=\"]}}"));
+
+        StatusResponse status = client.getStatus(taskId, ResultSink.to(image));
+
+        assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(image.toString(StandardCharsets.UTF_8)).isEqualTo("image");
+        verify(retryingFeignClient, times(3)).getStatusStream(taskId);
+    }
+
+    @Test
+    void testGetStatusOnlyFailsOnTransientStatusWhenRetriesAreExhausted() {
+        FusionBrainFeignClient retryingFeignClient = Mockito.mock(FusionBrainFeignClient.class);
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.getRetry().setEnabled(true);
+        properties.getRetry().setMaxAttempts(2);
+        properties.getRetry().setInitialInterval(Duration.ofMillis(1));
+        FusionBrainClientImpl client = client(retryingFeignClient, properties, Runnable::run);
+        UUID taskId = UUID.randomUUID();
+
+        when(retryingFeignClient.getStatusStream(taskId)).thenAnswer(invocation -> statusStream(502, ""));
+
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .isThrownBy(() -> client.getStatusOnly(taskId))
+                .withMessageContaining("Status: 502");
+        verify(retryingFeignClient, times(2)).getStatusStream(taskId);
+    }
+
+    @Test
+    void testGetStatusWithSinkWrapsMalformedBody() {
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.getStatusStream(taskId)).thenReturn(statusStream(200, "not json"));
+
+        assertThatExceptionOfType(FusionBrainException.class)
+                .isThrownBy(() -> fusionBrainClient.getStatus(taskId, ResultSink.to(new ByteArrayOutputStream())))
+                .withMessage("Failed to get task status");
+    }
+
+    private static Response statusStream(int status, String body) {
+        return Response.builder()
+                .status(status)
+                .request(Request.create(Request.HttpMethod.GET, "/pipeline/status", Collections.emptyMap(),
+                        null, StandardCharsets.UTF_8, null))
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+
     @Test
     void testWaitForCompletionSyncSuccess() {
         UUID taskId = UUID.randomUUID();
@@ -249,7 +622,7 @@ class FusionBrainClientImplTest {
 
         // Spy on the client to return our mock future
         FusionBrainClient spyClient = spy(fusionBrainClient);
-        when(spyClient.waitForCompletion(eq(taskId), anyLong())).thenReturn(mockFuture);
+        doReturn(mockFuture).when(spyClient).waitForCompletion(eq(taskId), anyLong());
 
         assertThatExceptionOfType(FusionBrainException.class)
                 .isThrownBy(() -> spyClient.waitForCompletionSync(taskId, 0))
@@ -270,11 +643,22 @@ class FusionBrainClientImplTest {
 
         // Spy on the client to return our mock future
         FusionBrainClient spyClient = spy(fusionBrainClient);
-        when(spyClient.waitForCompletion(eq(taskId), anyLong())).thenReturn(mockFuture);
+        doReturn(mockFuture).when(spyClient).waitForCompletion(eq(taskId), anyLong());
 
         assertThatExceptionOfType(FusionBrainException.class)
                 .isThrownBy(() -> spyClient.waitForCompletionSync(taskId, 0))
                 .withMessage("Failed to execute synchronous operation")
                 .withCauseInstanceOf(ExecutionException.class);
     }
+
+    private static FusionBrainClientImpl client(FusionBrainFeignClient feignClient, FusionBrainProperties properties,
+                                                Executor executor) {
+        return FusionBrainClientImpl.builder()
+                .feignClient(feignClient)
+                .objectMapper(objectMapper)
+                .properties(properties)
+                .asyncExecutor(executor)
+                .pollingScheduler(Executors.newSingleThreadScheduledExecutor())
+                .build();
+    }
 }
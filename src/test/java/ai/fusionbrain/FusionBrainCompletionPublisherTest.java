@@ -0,0 +1,210 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.completion.CompletionPublisher;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.exception.FusionBrainException;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class FusionBrainCompletionPublisherTest {
+    private final Map<UUID, CompletableFuture<StatusResponse>> tasks = new LinkedHashMap<>();
+
+    @Test
+    void shouldEmitStatusesInCompletionOrder() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        publisher(ids).subscribe(subscriber);
+        complete(ids.get(2));
+        complete(ids.get(0));
+        complete(ids.get(1));
+
+        assertThat(subscriber.items).extracting(StatusResponse::getId).containsExactly(ids.get(2), ids.get(0), ids.get(1));
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldEmitNoMoreThanRequested() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        publisher(ids).subscribe(subscriber);
+        complete(ids.get(1));
+        complete(ids.get(0));
+
+        assertThat(subscriber.items).extracting(StatusResponse::getId).containsExactly(ids.get(1));
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).extracting(StatusResponse::getId).containsExactly(ids.get(1), ids.get(0));
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldSignalErrorAfterOtherStatuses() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        publisher(ids).subscribe(subscriber);
+        tasks.get(ids.get(0)).completeExceptionally(new FusionBrainServerException("unavailable", 503));
+
+        assertThat(subscriber.error).isNull();
+        complete(ids.get(1));
+
+        assertThat(subscriber.items).extracting(StatusResponse::getId).containsExactly(ids.get(1));
+        assertThat(subscriber.error).isInstanceOf(FusionBrainServerException.class);
+    }
+
+    @Test
+    void shouldStopAwaitingTasksWhenCancelled() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        publisher(ids).subscribe(subscriber);
+        complete(ids.get(0));
+        subscriber.subscription.cancel();
+
+        assertThat(tasks.get(ids.get(1))).isCancelled();
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    void shouldRejectNonPositiveRequest() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        publisher(List.of(UUID.randomUUID())).subscribe(subscriber);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void shouldStreamStatusesAsTheyComplete() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        CompletionPublisher publisher = publisher(ids);
+
+        CompletableFuture.runAsync(() -> {
+            complete(ids.get(1));
+            complete(ids.get(2));
+            complete(ids.get(0));
+        }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+        try (Stream<StatusResponse> stream = publisher.stream(1)) {
+            assertThat(stream.map(StatusResponse::getId).toList()).containsExactly(ids.get(1), ids.get(2), ids.get(0));
+        }
+    }
+
+    @Test
+    void shouldThrowFromStreamWhenTaskFails() {
+        UUID id = UUID.randomUUID();
+        CompletionPublisher publisher = publisher(List.of(id));
+        tasks.get(id).completeExceptionally(new IllegalStateException("Polling scheduler shut down"));
+
+        try (Stream<StatusResponse> stream = publisher.stream()) {
+            assertThatExceptionOfType(FusionBrainException.class)
+                    .isThrownBy(stream::toList)
+                    .withCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldAwaitNoMoreThanDemandPlusPrefetch() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        ids.forEach(id -> tasks.put(id, new CompletableFuture<>()));
+        List<UUID> awaited = new CopyOnWriteArrayList<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        new CompletionPublisher(ids, id -> {
+            awaited.add(id);
+            return tasks.get(id);
+        }, 1).subscribe(subscriber);
+
+        assertThat(awaited).containsExactly(ids.get(0), ids.get(1));
+
+        complete(ids.get(1));
+        complete(ids.get(0));
+
+        // One status was delivered, the other is held until requested
+        assertThat(subscriber.items).extracting(StatusResponse::getId).containsExactly(ids.get(1));
+        assertThat(awaited).hasSize(2);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).extracting(StatusResponse::getId).containsExactly(ids.get(1), ids.get(0));
+        assertThat(awaited).containsExactly(ids.get(0), ids.get(1), ids.get(2));
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        complete(ids.get(2));
+        complete(ids.get(3));
+
+        assertThat(awaited).containsExactlyElementsOf(ids);
+        assertThat(subscriber.items).hasSize(4);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldRejectNegativePrefetch() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CompletionPublisher(List.of(UUID.randomUUID()), tasks::get, -1));
+    }
+
+    private CompletionPublisher publisher(List<UUID> ids) {
+        ids.forEach(id -> tasks.put(id, new CompletableFuture<>()));
+        return new CompletionPublisher(ids, tasks::get);
+    }
+
+    private void complete(UUID id) {
+        tasks.get(id).complete(StatusResponse.builder().id(id).status(EResourceStatus.DONE).build());
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<StatusResponse> {
+        private final long initialRequest;
+        private final List<StatusResponse> items = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(StatusResponse item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.autoconfigure.FusionBrainAutoConfiguration;
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.PipelineDTO;
+import ai.fusionbrain.dto.ResultSink;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.GenerateParams;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Runs the auto-configured Feign client against a local HTTP server to verify what actually goes over the wire.
+ */
+@SpringBootTest(classes = FusionBrainFeignClientIntegrationTest.TestConfig.class)
+class FusionBrainFeignClientIntegrationTest {
+
+    private static final AtomicReference<String> requestBody = new AtomicReference<>();
+    private static final AtomicReference<String> requestContentType = new AtomicReference<>();
+    private static final AtomicInteger pipelineRequests = new AtomicInteger();
+    private static final UUID DONE_TASK_ID = UUID.randomUUID();
+    private static final byte[] IMAGE = randomImage();
+    private static final HttpServer server = startServer();
+
+    @ImportAutoConfiguration({
+            JacksonAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            FeignAutoConfiguration.class,
+            FusionBrainAutoConfiguration.class
+    })
+    static class TestConfig {
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("fusionbrain.enabled", () -> "true");
+        registry.add("fusionbrain.api-key", () -> "test-key");
+        registry.add("fusionbrain.api-secret", () -> "test-secret");
+        registry.add("fusionbrain.base-url", () -> "http://127.0.0.1:" + server.getAddress().getPort());
+        registry.add("fusionbrain.retry.enabled", () -> "true");
+        registry.add("fusionbrain.retry.initial-interval", () -> "1");
+    }
+
+    @Autowired
+    private FusionBrainClient fusionBrainClient;
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void runPipeline_shouldSendParamsAsJsonPart() {
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("A red cat"));
+        UUID pipelineId = UUID.randomUUID();
+
+        RunResponse response = fusionBrainClient.runPipeline(pipelineId, params);
+
+        assertThat(response.getId()).isNotNull();
+        assertThat(requestContentType.get()).startsWith("multipart/form-data");
+        assertThat(requestBody.get())
+                .contains("name=\"params\"\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n" +
+                        "{\"type\":\"GENERATE\",\"width\":1024,\"height\":1024,\"numImages\":1," +
+                        "\"generateParams\":{\"query\":\"A red cat\"},\"negativePromptDecoder\":null,\"style\":null}")
+                .doesNotContain("TEXT_TO_IMAGE");
+    }
+
+    @Test
+    void runPipeline_shouldUploadFilesAsSeparateParts(@TempDir Path tempDir) throws IOException {
+        Path image = Files.writeString(tempDir.resolve("input.png"), "png-bytes");
+
+        fusionBrainClient.runPipeline(UUID.randomUUID(), null,
+                FileSource.of(image), FileSource.of(ByteBuffer.wrap("buffer-bytes".getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(requestBody.get())
+                .contains("name=\"file\"; filename=\"input.png\"")
+                .contains("\r\n\r\npng-bytes\r\n")
+                .contains("\r\n\r\nbuffer-bytes\r\n")
+                .doesNotContain("name=\"params\"");
+    }
+
+    @Test
+    void runPipeline_shouldUploadByteArrays() {
+        fusionBrainClient.runPipeline(UUID.randomUUID(), null, List.of("array-bytes".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(requestBody.get()).contains("name=\"file\"; filename=\"file\"")
+                .contains("\r\n\r\narray-bytes\r\n");
+    }
+
+    @Test
+    void getStatus_shouldStreamImageIntoSink() {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+
+        StatusResponse status = fusionBrainClient.getStatus(DONE_TASK_ID, ResultSink.to(image));
+
+        assertThat(status.getId()).isEqualTo(DONE_TASK_ID);
+        assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(status.getResult().getCensored()).isFalse();
+        assertThat(status.getResult().getFiles()).isNull();
+        assertThat(image.toByteArray()).isEqualTo(IMAGE);
+    }
+
+    @Test
+    void getStatus_shouldDecodeErrorStatusWhenStreaming() {
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .isThrownBy(() -> fusionBrainClient.getStatus(UUID.randomUUID(), ResultSink.to(OutputStream.nullOutputStream())))
+                .withMessageContaining("Status: 404");
+    }
+
+    @Test
+    void getPipelines_shouldRetryTransientErrors() {
+        pipelineRequests.set(0);
+
+        List<PipelineDTO> pipelines = fusionBrainClient.getPipelines();
+
+        assertThat(pipelines).isEmpty();
+        assertThat(pipelineRequests).hasValue(2);
+    }
+
+    private static byte[] randomImage() {
+        byte[] image = new byte[512 * 1024];
+        new Random(42).nextBytes(image);
+        return image;
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            httpServer.createContext("/key/api/v1/pipeline/run", exchange -> {
+                requestContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+                requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+                byte[] response = ("{\"uuid\":\"" + UUID.randomUUID() + "\",\"status\":\"INITIAL\",\"status_time\":1}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().put("Content-Type", List.of("application/json"));
+                exchange.sendResponseHeaders(201, response.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(response);
+                }
+            });
+            httpServer.createContext("/key/api/v1/pipelines", exchange -> {
+                // The first request of every test fails with a transient error
+                if (pipelineRequests.incrementAndGet() == 1) {
+                    exchange.sendResponseHeaders(503, -1);
+                    exchange.close();
+                    return;
+                }
+
+                byte[] response = "[]".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().put("Content-Type", List.of("application/json"));
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(response);
+                }
+            });
+            httpServer.createContext("/key/api/v1/pipeline/status/", exchange -> {
+                if (!exchange.getRequestURI().getPath().endsWith(DONE_TASK_ID.toString())) {
+                    byte[] response = "{\"error\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(404, response.length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(response);
+                    }
+                    return;
+                }
+
+                exchange.getResponseHeaders().put("Content-Type", List.of("application/json"));
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(("{\"uuid\":\"" + DONE_TASK_ID + "\",\"status\":\"DONE\",\"result\":{\"files\":[\"")
+                            .getBytes(StandardCharsets.UTF_8));
+                    os.write(Base64.getEncoder().encode(IMAGE));
+                    os.write("\"],\"censored\":false},\"generationTime\":12}".getBytes(StandardCharsets.UTF_8));
+                }
+            });
+            httpServer.start();
+            return httpServer;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FusionBrainFormWriter;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.GenerateParams;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.form.FormEncoder;
+import feign.form.MultipartFormContentProcessor;
+import feign.form.spring.SpringFormEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static feign.form.ContentType.MULTIPART;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionBrainFormWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FusionBrainFormWriter writer = new FusionBrainFormWriter(objectMapper);
+
+    @Test
+    void isApplicable_shouldAcceptParamsAndFiles() {
+        assertTrue(writer.isApplicable(new Text2ImageParams()));
+        assertTrue(writer.isApplicable(FileSource.of(new byte[]{1})));
+        assertTrue(writer.isApplicable(List.of(FileSource.of(new byte[]{1}))));
+        assertFalse(writer.isApplicable(List.of()));
+        assertFalse(writer.isApplicable(objectMapper.valueToTree(new Text2ImageParams())));
+        assertFalse(writer.isApplicable("params"));
+    }
+
+    @Test
+    void encode_shouldWriteParamsPartWithoutTypeId() {
+        String body = encode(params(), null);
+
+        assertTrue(body.contains("{\"type\":\"GENERATE\",\"width\":1024"), body);
+        assertFalse(body.contains("TEXT_TO_IMAGE"), body);
+        assertTrue(body.contains("name=\"pipeline_id\""), body);
+    }
+
+    @Test
+    void encode_shouldMatchTreeSerialization() throws Exception {
+        Text2ImageParams params = params();
+        params.setStyle("ANIME");
+
+        String body = encode(params, null);
+
+        String expectedPart = "Content-Disposition: form-data; name=\"params\"\r\n" +
+                "Content-Type: application/json; charset=UTF-8\r\n\r\n" +
+                objectMapper.writeValueAsString(objectMapper.valueToTree(params)) + "\r\n";
+        assertTrue(body.contains(expectedPart), body);
+    }
+
+    @Test
+    void encode_shouldWriteEveryFileAsSeparatePart(@TempDir Path tempDir) throws Exception {
+        Path image = Files.writeString(tempDir.resolve("image.png"), "from-path");
+        ByteBuffer direct = ByteBuffer.allocateDirect(11).put("from-direct".getBytes(StandardCharsets.UTF_8)).flip();
+
+        String body = encode(params(), List.of(
+                FileSource.of(image),
+                FileSource.of("from-bytes".getBytes(StandardCharsets.UTF_8)),
+                FileSource.of(ByteBuffer.wrap("xxfrom-heapxx".getBytes(StandardCharsets.UTF_8), 2, 9)),
+                FileSource.of(direct),
+                FileSource.of(new ByteArrayInputStream("from-stream".getBytes(StandardCharsets.UTF_8)))
+        ));
+
+        assertTrue(body.contains("name=\"file\"; filename=\"image.png\"\r\n" +
+                "Content-Type: application/octet-stream\r\n" +
+                "Content-Transfer-Encoding: binary\r\n\r\nfrom-path\r\n"), body);
+        assertTrue(body.contains("filename=\"file\"\r\nContent-Type: application/octet-stream\r\n" +
+                "Content-Transfer-Encoding: binary\r\n\r\nfrom-bytes\r\n"), body);
+        assertTrue(body.contains("\r\n\r\nfrom-heap\r\n"), body);
+        assertTrue(body.contains("\r\n\r\nfrom-direct\r\n"), body);
+        assertTrue(body.contains("\r\n\r\nfrom-stream\r\n"), body);
+        assertEquals(0, direct.position());
+    }
+
+    private Text2ImageParams params() {
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("A red cat"));
+        return params;
+    }
+
+    private String encode(Text2ImageParams params, List<FileSource> files) {
+        SpringFormEncoder encoder = new SpringFormEncoder();
+        ((MultipartFormContentProcessor) encoder.getContentProcessor(MULTIPART)).addFirstWriter(writer);
+
+        Map<String, Object> form = new LinkedHashMap<>();
+        form.put("params", params);
+        form.put("pipeline_id", UUID.randomUUID().toString());
+        form.put("file", files);
+
+        RequestTemplate template = new RequestTemplate();
+        template.header("Content-Type", "multipart/form-data");
+        encoder.encode(form, FormEncoder.MAP_STRING_WILDCARD, template);
+        return new String(template.body(), StandardCharsets.UTF_8);
+    }
+}
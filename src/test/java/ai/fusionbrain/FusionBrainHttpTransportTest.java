@@ -0,0 +1,277 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.autoconfigure.FusionBrainHc5Config;
+import ai.fusionbrain.autoconfigure.FusionBrainHttpTransportCheck;
+import ai.fusionbrain.autoconfigure.FusionBrainJdkHttpConfig;
+import ai.fusionbrain.autoconfigure.FusionBrainSslConfig;
+import ai.fusionbrain.client.ApacheHttp5AsyncFeignClient;
+import ai.fusionbrain.config.FusionBrainFeignClientConfig;
+import ai.fusionbrain.config.FusionBrainHttpProperties;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.config.FusionBrainSslProperties;
+import ai.fusionbrain.resilience.FusionBrainRetryer;
+import ai.fusionbrain.utils.TrustStoreUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Retryer;
+import feign.http2client.Http2Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.support.AbstractFormWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.net.ssl.SSLContext;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionBrainHttpTransportTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TransportConfig.class)
+            .withPropertyValues("fusionbrain.enabled=true");
+
+    private final ApplicationContextRunner feignContextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TransportConfig.class, FeignContextConfig.class)
+            .withPropertyValues("fusionbrain.enabled=true", "fusionbrain.api-key=key", "fusionbrain.api-secret=secret");
+
+    private final Request.Options options = new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+
+    private final AtomicReference<String> receivedContentType = new AtomicReference<>();
+    private final AtomicReference<String> receivedKey = new AtomicReference<>();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+
+    private HttpServer server;
+
+    @EnableConfigurationProperties({FusionBrainSslProperties.class, FusionBrainHttpProperties.class})
+    @Import({
+            FusionBrainHttpTransportCheck.class,
+            FusionBrainSslConfig.class,
+            FusionBrainHc5Config.class,
+            FusionBrainJdkHttpConfig.class
+    })
+    static class TransportConfig {
+    }
+
+    /**
+     * Stands in for the Feign context of the FusionBrain client, which sees the application beans.
+     */
+    @Import(FusionBrainFeignClientConfig.class)
+    static class FeignContextConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        FusionBrainProperties fusionBrainProperties() {
+            return new FusionBrainProperties();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            receivedContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            receivedKey.set(exchange.getRequestHeaders().getFirst("X-Key"));
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+            byte[] response = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(201, response.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(response);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void apacheTransport_shouldBeUsedByDefault() {
+        contextRunner.run(context -> {
+            assertEquals(1, context.getBeansOfType(CloseableHttpClient.class).size());
+            assertTrue(context.getBeansOfType(CloseableHttpAsyncClient.class).isEmpty());
+            assertTrue(context.getBeansOfType(Client.class).isEmpty());
+        });
+        feignContextRunner.run(context -> assertInstanceOf(ApacheHttpClient.class, context.getBean(Client.class)));
+    }
+
+    @Test
+    void hc5Transport_shouldReplaceApacheClient() {
+        contextRunner.withPropertyValues("fusionbrain.http.transport=hc5").run(context -> {
+            assertTrue(context.getBeansOfType(CloseableHttpClient.class).isEmpty());
+            assertEquals(1, context.getBeansOfType(CloseableHttpAsyncClient.class).size());
+            assertTrue(context.getBeansOfType(Client.class).isEmpty());
+        });
+        feignContextRunner.withPropertyValues("fusionbrain.http.transport=hc5").run(context ->
+                assertInstanceOf(ApacheHttp5AsyncFeignClient.class, context.getBean(Client.class)));
+    }
+
+    @Test
+    void jdkTransport_shouldReplaceApacheClient() {
+        contextRunner.withPropertyValues("fusionbrain.http.transport=jdk").run(context -> {
+            assertTrue(context.getBeansOfType(CloseableHttpClient.class).isEmpty());
+            assertTrue(context.getBeansOfType(Client.class).isEmpty());
+        });
+        feignContextRunner.withPropertyValues("fusionbrain.http.transport=jdk").run(context ->
+                assertInstanceOf(Http2Client.class, context.getBean(Client.class)));
+    }
+
+    @Test
+    void feignClientConfig_shouldNotLeakIntoApplicationContext() {
+        contextRunner.run(context -> {
+            assertTrue(context.getBeansOfType(Request.Options.class).isEmpty());
+            assertTrue(context.getBeansOfType(AbstractFormWriter.class).isEmpty());
+            assertTrue(context.getBeansOfType(Retryer.class).isEmpty());
+        });
+        feignContextRunner.withPropertyValues("fusionbrain.http.read-timeout=1234").run(context -> {
+            assertEquals(1234, context.getBean(Request.Options.class).readTimeoutMillis());
+            assertInstanceOf(FusionBrainRetryer.class, context.getBean(Retryer.class));
+        });
+    }
+
+    @Test
+    void missingTransportLibrary_shouldFailStartup() {
+        contextRunner.withPropertyValues("fusionbrain.http.transport=jdk")
+                .withClassLoader(new FilteredClassLoader(Http2Client.class))
+                .run(context -> assertThat(context).getFailure()
+                        .rootCause().hasMessageContaining("io.github.openfeign:feign-java11"));
+        contextRunner.withPropertyValues("fusionbrain.http.transport=hc5")
+                .withClassLoader(new FilteredClassLoader("org.apache.hc.client5"))
+                .run(context -> assertThat(context).getFailure()
+                        .rootCause().hasMessageContaining("org.apache.httpcomponents.client5:httpclient5"));
+    }
+
+    @Test
+    void hc5KeepAliveStrategy_shouldHonourKeepAliveHeader() {
+        FusionBrainHttpProperties httpProperties = new FusionBrainHttpProperties();
+        httpProperties.setKeepAlive(Duration.ofMillis(1234));
+        ConnectionKeepAliveStrategy strategy = new FusionBrainHc5Config().getKeepAliveStrategy(httpProperties);
+
+        BasicHttpResponse withHeader = new BasicHttpResponse(200);
+        withHeader.addHeader("Keep-Alive", "timeout=7, max=100");
+        BasicHttpResponse withoutHeader = new BasicHttpResponse(200);
+
+        assertEquals(7000, strategy.getKeepAliveDuration(withHeader, HttpClientContext.create()).toMilliseconds());
+        assertEquals(1234, strategy.getKeepAliveDuration(withoutHeader, HttpClientContext.create()).toMilliseconds());
+    }
+
+    @Test
+    void invalidHttpProperties_shouldFailStartup() {
+        contextRunner.withPropertyValues("fusionbrain.http.max-connections=0").run(context ->
+                assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void hc5Client_shouldSendHeadersAndBody() throws Exception {
+        FusionBrainSslProperties sslProperties = new FusionBrainSslProperties();
+        FusionBrainHc5Config config = new FusionBrainHc5Config();
+
+        try (CloseableHttpAsyncClient httpClient =
+                     config.fusionBrainHttpAsyncClient(sslProperties, new FusionBrainHttpProperties())) {
+            Client client = new ApacheHttp5AsyncFeignClient(httpClient);
+
+            Response response = client.execute(postRequest(), options);
+
+            assertEquals(201, response.status());
+            assertEquals("application/json", response.headers().get("content-type").iterator().next());
+            assertEquals("{\"status\":\"ok\"}",
+                    new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals("text/plain; charset=UTF-8", receivedContentType.get());
+            assertEquals("Key test", receivedKey.get());
+            assertEquals("payload", receivedBody.get());
+        }
+    }
+
+    @Test
+    void jdkClient_shouldSendHeadersAndBody() throws Exception {
+        FusionBrainHttpProperties httpProperties = new FusionBrainHttpProperties();
+        httpProperties.setConnectTimeout(Duration.ofSeconds(1));
+        FusionBrainJdkHttpConfig config = new FusionBrainJdkHttpConfig();
+
+        HttpClient httpClient = config.createHttpClient(new FusionBrainSslProperties(), httpProperties);
+        Response response = new Http2Client(httpClient).execute(postRequest(), options);
+
+        assertEquals(201, response.status());
+        assertEquals("payload", receivedBody.get());
+        assertEquals("Key test", receivedKey.get());
+    }
+
+    @Test
+    void jdkClient_shouldMatchFeignOptions() throws Exception {
+        FusionBrainHttpProperties httpProperties = new FusionBrainHttpProperties();
+        FusionBrainSslProperties sslProperties = new FusionBrainSslProperties();
+        sslProperties.setEnabled(false);
+
+        HttpClient httpClient = new FusionBrainJdkHttpConfig().createHttpClient(sslProperties, httpProperties);
+
+        assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+        assertEquals(HttpClient.Redirect.ALWAYS, httpClient.followRedirects());
+        assertEquals(httpProperties.getConnectTimeout(), httpClient.connectTimeout().orElseThrow());
+    }
+
+    @Test
+    void hc5HostnameVerifier_shouldBeNoop_whenSslDisabled() {
+        FusionBrainSslProperties sslProperties = new FusionBrainSslProperties();
+        sslProperties.setEnabled(false);
+
+        assertSame(NoopHostnameVerifier.INSTANCE, new FusionBrainHc5Config().getHostnameVerifier(sslProperties));
+    }
+
+    @Test
+    void createSslContext_shouldSupportEnabledAndDisabledSsl() throws Exception {
+        FusionBrainSslProperties sslProperties = new FusionBrainSslProperties();
+        SSLContext enabled = TrustStoreUtil.createSslContext(sslProperties);
+
+        sslProperties.setEnabled(false);
+        SSLContext disabled = TrustStoreUtil.createSslContext(sslProperties);
+
+        assertEquals("TLS", enabled.getProtocol());
+        assertEquals("TLS", disabled.getProtocol());
+    }
+
+    private Request postRequest() {
+        return Request.create(
+                Request.HttpMethod.POST,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/echo",
+                Map.of(
+                        "Content-Type", List.of("text/plain; charset=UTF-8"),
+                        "Content-Length", List.of("7"),
+                        "X-Key", List.of("Key test")
+                ),
+                "payload".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8,
+                null
+        );
+    }
+}
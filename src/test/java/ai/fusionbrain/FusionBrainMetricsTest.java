@@ -0,0 +1,236 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.autoconfigure.FusionBrainAutoConfiguration;
+import ai.fusionbrain.autoconfigure.FusionBrainMetricsConfig;
+import ai.fusionbrain.client.FusionBrainClientImpl;
+import ai.fusionbrain.client.FusionBrainFeignClient;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.metrics.FusionBrainMetrics;
+import ai.fusionbrain.metrics.MicrometerFusionBrainMetrics;
+import ai.fusionbrain.polling.EPollingMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class FusionBrainMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerFusionBrainMetrics metrics = new MicrometerFusionBrainMetrics(registry);
+    private final FusionBrainFeignClient feignClient = Mockito.mock(FusionBrainFeignClient.class);
+    private final UUID pipelineId = UUID.randomUUID();
+    private FusionBrainClientImpl client;
+
+    @BeforeEach
+    void setUp() {
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.setMaxRetries(3);
+        properties.setPollInterval(1);
+        client = FusionBrainClientImpl.builder()
+                .feignClient(feignClient)
+                .objectMapper(new ObjectMapper())
+                .properties(properties)
+                .asyncExecutor(Runnable::run)
+                .pollingScheduler(Executors.newSingleThreadScheduledExecutor())
+                .metrics(metrics)
+                .build();
+    }
+
+    @Test
+    void shouldTimeCallsByOperationStatusAndOutcome() {
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.getPipelines(null)).thenReturn(List.of());
+        when(feignClient.getStatus(taskId)).thenThrow(new FusionBrainServerException("unavailable", 503));
+
+        client.getPipelines();
+        assertThatExceptionOfType(FusionBrainServerException.class).isThrownBy(() -> client.getStatus(taskId));
+
+        assertThat(registry.get(MicrometerFusionBrainMetrics.CALLS)
+                .tags("operation", "pipelines", "status", "2xx", "outcome", "SUCCESS").timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.CALLS)
+                .tags("operation", "status", "status", "503", "outcome", "SERVER_ERROR").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReuseMeterOfRepeatedCalls() {
+        metrics.recordCall("status", pipelineId, null, 1_000_000);
+        Timer timer = registry.get(MicrometerFusionBrainMetrics.CALLS).tag("operation", "status").timer();
+
+        registry.clear();
+        metrics.recordCall("status", pipelineId, null, 2_000_000);
+
+        assertThat(registry.find(MicrometerFusionBrainMetrics.CALLS).timer()).isNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTagGaugesOfEveryClient() {
+        FusionBrainClientImpl.builder()
+                .name("second")
+                .feignClient(feignClient)
+                .objectMapper(new ObjectMapper())
+                .properties(new FusionBrainProperties())
+                .asyncExecutor(Runnable::run)
+                .pollingScheduler(Executors.newSingleThreadScheduledExecutor())
+                .metrics(metrics)
+                .build();
+
+        assertThat(registry.get(MicrometerFusionBrainMetrics.PENDING_TASKS).gauges())
+                .extracting(gauge -> gauge.getId().getTag("client"))
+                .containsExactlyInAnyOrder("default", "second");
+        assertThat(registry.get(MicrometerFusionBrainMetrics.IN_FLIGHT_SUBMISSIONS).gauges()).hasSize(2);
+    }
+
+    @Test
+    void shouldRecordUploadSizeAndTaskCompletion() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.runPipeline(any(), eq(pipelineId), any()))
+                .thenReturn(RunResponse.builder().id(taskId).statusTime(0L).build());
+        when(feignClient.getStatus(taskId)).thenReturn(status(EResourceStatus.PROCESSING), status(EResourceStatus.DONE));
+
+        RunResponse run = client.runPipeline(pipelineId, null, List.of(new byte[100], new byte[24]));
+        StatusResponse done = client.waitForCompletion(pipelineId, run).get(10, TimeUnit.SECONDS);
+
+        assertThat(done.getStatus()).isEqualTo(EResourceStatus.DONE);
+        String pipeline = pipelineId.toString();
+        DistributionSummary upload = registry.get(MicrometerFusionBrainMetrics.UPLOAD_SIZE)
+                .tag("pipeline", pipeline).summary();
+        assertThat(upload.totalAmount()).isEqualTo(124);
+        await().atMost(1, TimeUnit.SECONDS)
+                .until(() -> registry.find(MicrometerFusionBrainMetrics.TASKS).counter() != null);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.TASKS).tags("pipeline", pipeline, "status", "DONE")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.POLLS).tag("pipeline", pipeline).summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.GENERATION_TIME).tag("pipeline", pipeline).summary()
+                .totalAmount()).isEqualTo(12);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.PENDING_TASKS).gauge().value()).isZero();
+        assertThat(registry.get(MicrometerFusionBrainMetrics.IN_FLIGHT_SUBMISSIONS).gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldRecordSharedSweepPollsOncePerTask() throws Exception {
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.setMaxRetries(3);
+        properties.setPollInterval(1);
+        properties.getPolling().setMode(EPollingMode.SWEEP);
+        FusionBrainClientImpl sweepingClient = FusionBrainClientImpl.builder()
+                .feignClient(feignClient)
+                .objectMapper(new ObjectMapper())
+                .properties(properties)
+                .asyncExecutor(Runnable::run)
+                .pollingScheduler(Executors.newSingleThreadScheduledExecutor())
+                .metrics(metrics)
+                .build();
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.getStatus(taskId)).thenReturn(status(EResourceStatus.PROCESSING), status(EResourceStatus.DONE));
+
+        RunResponse run = RunResponse.builder().id(taskId).statusTime(1L).build();
+        CompletableFuture<StatusResponse> first = sweepingClient.waitForCompletion(pipelineId, run);
+        CompletableFuture<StatusResponse> second = sweepingClient.waitForCompletion(pipelineId, run);
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        String pipeline = pipelineId.toString();
+        await().atMost(1, TimeUnit.SECONDS)
+                .until(() -> registry.find(MicrometerFusionBrainMetrics.TASKS).counter() != null);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.TASKS).tags("pipeline", pipeline, "status", "DONE")
+                .counter().count()).isEqualTo(1);
+        DistributionSummary polls = registry.get(MicrometerFusionBrainMetrics.POLLS).tag("pipeline", pipeline).summary();
+        assertThat(polls.count()).isEqualTo(1);
+        assertThat(polls.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBindExecutorAndConnectionPoolGauges() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(4));
+        executor.getQueue().add(() -> {
+        });
+
+        metrics.bindExecutor(executor);
+        metrics.bindConnectionPool(() -> 3, () -> 2, () -> 1);
+
+        assertThat(registry.get(MicrometerFusionBrainMetrics.EXECUTOR_QUEUED).gauge().value()).isEqualTo(1);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.CONNECTIONS).tag("state", "leased").gauge().value())
+                .isEqualTo(3);
+        assertThat(registry.get(MicrometerFusionBrainMetrics.CONNECTIONS).tag("state", "pending").gauge().value())
+                .isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldBindAsyncExecutorFromConfiguration() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+
+        new FusionBrainMetricsConfig().fusionBrainMetrics(registry, executor,
+                new DefaultListableBeanFactory().getBeanProvider(PoolingHttpClientConnectionManager.class));
+
+        assertThat(registry.get(MicrometerFusionBrainMetrics.EXECUTOR_ACTIVE).gauge().value()).isZero();
+        assertThat(registry.find(MicrometerFusionBrainMetrics.CONNECTIONS).gauge()).isNull();
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRegisterMetricsWhenMeterRegistryIsAutoConfigured() {
+        // Listed first on purpose: the registry must exist before the FusionBrain conditions are evaluated
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        FusionBrainAutoConfiguration.class,
+                        JacksonAutoConfiguration.class,
+                        HttpMessageConvertersAutoConfiguration.class,
+                        FeignAutoConfiguration.class,
+                        MetricsAutoConfiguration.class,
+                        SimpleMetricsExportAutoConfiguration.class,
+                        CompositeMeterRegistryAutoConfiguration.class))
+                .withPropertyValues(
+                        "fusionbrain.enabled=true",
+                        "fusionbrain.api-key=test-key",
+                        "fusionbrain.api-secret=test-secret")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(MicrometerFusionBrainMetrics.class);
+                    assertThat(context.getBean(FusionBrainMetrics.class)).isInstanceOf(MicrometerFusionBrainMetrics.class);
+                    assertThat(context.getBean(MeterRegistry.class).find(MicrometerFusionBrainMetrics.EXECUTOR_ACTIVE)
+                            .gauge()).isNotNull();
+                });
+    }
+
+    private static StatusResponse status(EResourceStatus resourceStatus) {
+        StatusResponse status = new StatusResponse();
+        status.setStatus(resourceStatus);
+        status.setGenerationTime(12L);
+        return status;
+    }
+}
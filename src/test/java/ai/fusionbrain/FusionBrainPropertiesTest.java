@@ -1,5 +1,6 @@
 package ai.fusionbrain;
 
+import ai.fusionbrain.config.FusionBrainHttpProperties;
 import ai.fusionbrain.config.FusionBrainProperties;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -11,6 +12,7 @@ import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -93,6 +95,148 @@ class FusionBrainPropertiesTest {
         assertEquals("asyncCorePoolSize must be positive", violations.iterator().next().getMessage());
     }
 
+    @Test
+    void shouldBindAndValidateCacheProperties() {
+        Map<String, String> properties = Map.of(
+                "fusionbrain.api-key", "dummy-key",
+                "fusionbrain.api-secret", "dummy-secret",
+                "fusionbrain.cache.enabled", "true",
+                "fusionbrain.cache.pipelines-ttl", "60",
+                "fusionbrain.cache.availability-ttl", "0",
+                "fusionbrain.cache.refresh-ahead", "1.5"
+        );
+
+        FusionBrainProperties boundProperties = new Binder(new MapConfigurationPropertySource(properties))
+                .bind("fusionbrain", FusionBrainProperties.class).get();
+
+        assertTrue(boundProperties.getCache().isEnabled(), "Cache should be enabled");
+        assertEquals(Duration.ofSeconds(60), boundProperties.getCache().getPipelinesTtl(), "Pipelines TTL should be bound in seconds");
+        var violations = validator.validate(boundProperties);
+        assertEquals(2, violations.size(), "Should have 2 validation errors");
+        assertTrue(violations.stream().anyMatch(v -> v.getMessage().equals("cache.availabilityTtl must be positive")));
+        assertTrue(violations.stream().anyMatch(v -> v.getMessage().equals("cache.refreshAhead must be between 0.0 and 1.0")));
+        assertFalse(new FusionBrainProperties().getCache().isEnabled(), "Cache should be disabled by default");
+    }
+
+    @Test
+    void shouldBindAndValidateRateLimitProperties() {
+        Map<String, String> properties = Map.of(
+                "fusionbrain.api-key", "dummy-key",
+                "fusionbrain.api-secret", "dummy-secret",
+                "fusionbrain.rate-limit.enabled", "true",
+                "fusionbrain.rate-limit.run.permits-per-second", "0.5",
+                "fusionbrain.rate-limit.status.permits-per-second", "0",
+                "fusionbrain.rate-limit.status.burst", "20"
+        );
+
+        FusionBrainProperties boundProperties = new Binder(new MapConfigurationPropertySource(properties))
+                .bind("fusionbrain", FusionBrainProperties.class).get();
+
+        assertTrue(boundProperties.getRateLimit().isEnabled(), "Rate limit should be enabled");
+        assertEquals(0.5, boundProperties.getRateLimit().getRun().getPermitsPerSecond(), "Run rate should be bound");
+        assertEquals(2, boundProperties.getRateLimit().getRun().getBurst(), "Run burst should keep its default");
+        assertEquals(20, boundProperties.getRateLimit().getStatus().getBurst(), "Status burst should be bound");
+        var violations = validator.validate(boundProperties);
+        assertEquals(1, violations.size(), "Should have 1 validation error");
+        assertEquals("rateLimit.permitsPerSecond must be positive", violations.iterator().next().getMessage());
+        assertFalse(new FusionBrainProperties().getRateLimit().isEnabled(), "Rate limit should be disabled by default");
+    }
+
+    @Test
+    void shouldBindAndValidateRetryProperties() {
+        Map<String, String> properties = Map.of(
+                "fusionbrain.api-key", "dummy-key",
+                "fusionbrain.api-secret", "dummy-secret",
+                "fusionbrain.retry.enabled", "true",
+                "fusionbrain.retry.max-attempts", "4",
+                "fusionbrain.retry.initial-interval", "50",
+                "fusionbrain.retry.budget-ratio", "1.5"
+        );
+
+        FusionBrainProperties boundProperties = new Binder(new MapConfigurationPropertySource(properties))
+                .bind("fusionbrain", FusionBrainProperties.class).get();
+
+        assertTrue(boundProperties.getRetry().isEnabled(), "Retry should be enabled");
+        assertEquals(4, boundProperties.getRetry().getMaxAttempts(), "Max attempts should be bound");
+        assertEquals(Duration.ofMillis(50), boundProperties.getRetry().getInitialInterval(), "Initial interval should be bound in milliseconds");
+        assertEquals(Duration.ofSeconds(5), boundProperties.getRetry().getMaxInterval(), "Max interval should keep its default");
+        var violations = validator.validate(boundProperties);
+        assertEquals(1, violations.size(), "Should have 1 validation error");
+        assertEquals("retry.budgetRatio must be between 0.0 and 1.0", violations.iterator().next().getMessage());
+        assertFalse(new FusionBrainProperties().getRetry().isEnabled(), "Retry should be disabled by default");
+    }
+
+    @Test
+    void shouldBindAndValidateCircuitBreakerProperties() {
+        Map<String, String> properties = Map.of(
+                "fusionbrain.api-key", "dummy-key",
+                "fusionbrain.api-secret", "dummy-secret",
+                "fusionbrain.circuit-breaker.enabled", "true",
+                "fusionbrain.circuit-breaker.window-size", "50",
+                "fusionbrain.circuit-breaker.slow-call-duration", "2000",
+                "fusionbrain.circuit-breaker.open-duration", "500ms",
+                "fusionbrain.circuit-breaker.failure-rate-threshold", "0"
+        );
+
+        FusionBrainProperties boundProperties = new Binder(new MapConfigurationPropertySource(properties))
+                .bind("fusionbrain", FusionBrainProperties.class).get();
+
+        assertTrue(boundProperties.getCircuitBreaker().isEnabled(), "Circuit breaker should be enabled");
+        assertEquals(50, boundProperties.getCircuitBreaker().getWindowSize(), "Window size should be bound");
+        assertEquals(Duration.ofMillis(2000), boundProperties.getCircuitBreaker().getSlowCallDuration(),
+                "Slow call duration should be bound in milliseconds");
+        assertEquals(Duration.ofMillis(500), boundProperties.getCircuitBreaker().getOpenDuration(),
+                "Open duration should accept an explicit unit");
+        var violations = validator.validate(boundProperties);
+        assertEquals(1, violations.size(), "Should have 1 validation error");
+        assertEquals("circuitBreaker.failureRateThreshold must be between 0.0 and 1.0",
+                violations.iterator().next().getMessage());
+        assertFalse(new FusionBrainProperties().getCircuitBreaker().isEnabled(),
+                "Circuit breaker should be disabled by default");
+    }
+
+    @Test
+    void shouldBindAndValidateBatchProperties() {
+        Map<String, String> properties = Map.of(
+                "fusionbrain.api-key", "dummy-key",
+                "fusionbrain.api-secret", "dummy-secret",
+                "fusionbrain.batch.parallelism", "64",
+                "fusionbrain.batch.submit-concurrency", "0"
+        );
+
+        FusionBrainProperties boundProperties = new Binder(new MapConfigurationPropertySource(properties))
+                .bind("fusionbrain", FusionBrainProperties.class).get();
+
+        assertEquals(64, boundProperties.getBatch().getParallelism(), "Parallelism should be bound");
+        var violations = validator.validate(boundProperties);
+        assertEquals(1, violations.size(), "Should have 1 validation error");
+        assertEquals("batch.submitConcurrency must be positive", violations.iterator().next().getMessage());
+        assertEquals(16, new FusionBrainProperties().getBatch().getParallelism(), "Parallelism should default to 16");
+    }
+
+    @Test
+    void shouldBindAndValidateHttpProperties() {
+        Map<String, String> properties = Map.of(
+                "fusionbrain.http.max-connections", "0",
+                "fusionbrain.http.read-timeout", "-1",
+                "fusionbrain.http.connect-timeout", "0",
+                "fusionbrain.http.keep-alive", "1500",
+                "fusionbrain.http.time-to-live", "5m"
+        );
+
+        FusionBrainHttpProperties boundProperties = new Binder(new MapConfigurationPropertySource(properties))
+                .bind("fusionbrain.http", FusionBrainHttpProperties.class).get();
+
+        assertEquals(Duration.ZERO, boundProperties.getConnectTimeout(), "Connect timeout should be bound");
+        assertEquals(Duration.ofMillis(1500), boundProperties.getKeepAlive(), "A bare number should be read as milliseconds");
+        assertEquals(Duration.ofMinutes(5), boundProperties.getTimeToLive(), "A unit should be honoured");
+        var violations = validator.validate(boundProperties);
+        assertEquals(2, violations.size(), "Should have 2 validation errors");
+        assertTrue(violations.stream().anyMatch(v -> v.getMessage().equals("http.maxConnections must be positive")));
+        assertTrue(violations.stream().anyMatch(v -> v.getMessage().equals("http.readTimeout must be at least 0")));
+        assertTrue(validator.validate(new FusionBrainHttpProperties()).isEmpty(), "Defaults should be valid");
+    }
+
     @Test
     void shouldBindPropertiesCorrectly() {
         Map<String, String> properties = Map.of(
@@ -0,0 +1,148 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.exception.FusionBrainErrorDecoder;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.resilience.FusionBrainRetryer;
+import ai.fusionbrain.resilience.RetryBudget;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class FusionBrainRetryerTest {
+    private final FusionBrainErrorDecoder errorDecoder = new FusionBrainErrorDecoder();
+    private FusionBrainProperties.Retry settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new FusionBrainProperties.Retry();
+        settings.setEnabled(true);
+        settings.setInitialInterval(Duration.ofMillis(1));
+        settings.setMaxInterval(Duration.ofMillis(5));
+    }
+
+    @Test
+    void errorDecoder_shouldWrapOnlyTransientStatuses() {
+        Exception transientError = errorDecoder.decode("getStatus", response(Request.HttpMethod.GET, 503, Map.of()));
+        Exception permanentError = errorDecoder.decode("getStatus", response(Request.HttpMethod.GET, 404, Map.of()));
+
+        assertThat(transientError).isInstanceOf(RetryableException.class)
+                .hasCauseInstanceOf(FusionBrainServerException.class);
+        assertThat(((RetryableException) transientError).retryAfter()).isNull();
+        assertThat(permanentError).isInstanceOf(FusionBrainServerException.class).hasMessageContaining("Status: 404");
+    }
+
+    @Test
+    void errorDecoder_shouldReadRetryAfterSeconds() {
+        long before = System.currentTimeMillis();
+
+        Exception error = errorDecoder.decode("getStatus",
+                response(Request.HttpMethod.GET, 429, Map.of("Retry-After", List.of("2"))));
+
+        assertThat(((RetryableException) error).retryAfter()).isBetween(before + 2000, System.currentTimeMillis() + 2000);
+    }
+
+    @Test
+    void shouldRetryIdempotentRequestsUpToMaxAttempts() {
+        Retryer retryer = new FusionBrainRetryer(settings).clone();
+        RetryableException error = serverError(Request.HttpMethod.GET);
+
+        assertThatNoException().isThrownBy(() -> retryer.continueOrPropagate(error));
+        assertThatNoException().isThrownBy(() -> retryer.continueOrPropagate(error));
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .as("the server error is rethrown once attempts are used up")
+                .isThrownBy(() -> retryer.continueOrPropagate(error));
+    }
+
+    @Test
+    void shouldRetrySubmissionsOnlyOnConnectFailures() {
+        Retryer retryer = new FusionBrainRetryer(settings).clone();
+
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .isThrownBy(() -> retryer.continueOrPropagate(serverError(Request.HttpMethod.POST)));
+        assertThatExceptionOfType(RetryableException.class)
+                .isThrownBy(() -> retryer.continueOrPropagate(ioError(new SocketException("Connection reset"))));
+        assertThatNoException()
+                .isThrownBy(() -> retryer.continueOrPropagate(ioError(new ConnectException("Connection refused"))));
+    }
+
+    @Test
+    void shouldNotRetryWhenDisabled() {
+        settings.setEnabled(false);
+        Retryer retryer = new FusionBrainRetryer(settings).clone();
+
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .isThrownBy(() -> retryer.continueOrPropagate(serverError(Request.HttpMethod.GET)));
+    }
+
+    @Test
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        settings.setMaxAttempts(10);
+        settings.setBudgetReserve(2);
+        FusionBrainRetryer prototype = new FusionBrainRetryer(settings);
+        Retryer retryer = prototype.clone();
+        RetryableException error = serverError(Request.HttpMethod.GET);
+
+        retryer.continueOrPropagate(error);
+        retryer.continueOrPropagate(error);
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .isThrownBy(() -> retryer.continueOrPropagate(error));
+
+        assertThat(prototype.getBudget().getRetryCount()).isEqualTo(2);
+        assertThat(prototype.getBudget().getExhaustedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void budget_shouldEarnRetriesFromRequests() {
+        RetryBudget budget = new RetryBudget(0.5, 1);
+
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isFalse();
+
+        budget.onRequest();
+        assertThat(budget.tryRetry()).as("half a retry is not enough").isFalse();
+        budget.onRequest();
+        budget.onRequest();
+        budget.onRequest();
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).as("balance is capped at the reserve").isFalse();
+    }
+
+    private RetryableException serverError(Request.HttpMethod method) {
+        return (RetryableException) errorDecoder.decode("call", response(method, 503, Map.of()));
+    }
+
+    private static RetryableException ioError(Exception cause) {
+        return new RetryableException(-1, cause.getMessage(), Request.HttpMethod.POST, cause, (Long) null,
+                request(Request.HttpMethod.POST));
+    }
+
+    private static Response response(Request.HttpMethod method, int status,
+                                     Map<String, Collection<String>> headers) {
+        return Response.builder()
+                .status(status)
+                .headers(headers)
+                .request(request(method))
+                .build();
+    }
+
+    private static Request request(Request.HttpMethod method) {
+        return Request.create(method, "https://api-key.fusionbrain.ai/key/api/v1/pipelines", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+}
@@ -1,10 +1,16 @@
 package ai.fusionbrain;
 
 import ai.fusionbrain.autoconfigure.FusionBrainSslConfig;
+import ai.fusionbrain.config.FusionBrainHttpProperties;
 import ai.fusionbrain.config.FusionBrainSslProperties;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -12,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -68,9 +75,39 @@ class FusionBrainSslConfigTest {
         // We can verify the basic behavior
 
         when(properties.isEnabled()).thenReturn(false);
+        FusionBrainHttpProperties httpProperties = new FusionBrainHttpProperties();
 
-        CloseableHttpClient client = config.fusionBrainHttpClient(properties);
+        CloseableHttpClient client = config.fusionBrainHttpClient(
+                config.fusionBrainConnectionManager(properties, httpProperties), httpProperties);
 
         assertNotNull(client);
     }
+
+    @Test
+    void fusionBrainConnectionManager_shouldApplyPoolLimits() throws Exception {
+        when(properties.isEnabled()).thenReturn(false);
+        FusionBrainHttpProperties httpProperties = new FusionBrainHttpProperties();
+        httpProperties.setMaxConnections(30);
+        httpProperties.setMaxConnectionsPerRoute(10);
+        httpProperties.setValidateAfterInactivity(Duration.ofMillis(500));
+
+        PoolingHttpClientConnectionManager connectionManager =
+                config.fusionBrainConnectionManager(properties, httpProperties);
+
+        assertEquals(30, connectionManager.getMaxTotal());
+        assertEquals(10, connectionManager.getDefaultMaxPerRoute());
+        assertEquals(500, connectionManager.getValidateAfterInactivity());
+    }
+
+    @Test
+    void getKeepAliveStrategy_shouldFallBackToConfiguredKeepAlive() {
+        FusionBrainHttpProperties httpProperties = new FusionBrainHttpProperties();
+        httpProperties.setKeepAlive(Duration.ofMillis(1234));
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+
+        long keepAlive = config.getKeepAliveStrategy(httpProperties)
+                .getKeepAliveDuration(response, new BasicHttpContext());
+
+        assertEquals(1234, keepAlive);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package ai.fusionbrain;
 
 import ai.fusionbrain.autoconfigure.FusionBrainSslConfig;
+import ai.fusionbrain.config.FusionBrainHttpProperties;
 import ai.fusionbrain.config.FusionBrainSslProperties;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 })
 class FusionBrainSslIntegrationTest {
 
-    @Import({FusionBrainSslConfig.class, FusionBrainSslProperties.class})
+    @Import({FusionBrainSslConfig.class, FusionBrainSslProperties.class, FusionBrainHttpProperties.class})
     static class TestConfig {
     }
 
@@ -44,7 +45,7 @@ class FusionBrainSslIntegrationTest {
 })
 class FusionBrainSslWithTruststoreIntegrationTest {
 
-    @Import({FusionBrainSslConfig.class, FusionBrainSslProperties.class})
+    @Import({FusionBrainSslConfig.class, FusionBrainSslProperties.class, FusionBrainHttpProperties.class})
     static class TestConfig {
     }
 
@@ -0,0 +1,247 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.batch.BatchHandle;
+import ai.fusionbrain.batch.BatchResult;
+import ai.fusionbrain.client.FusionBrainClient;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.PipelineParams;
+import ai.fusionbrain.exception.FusionBrainException;
+import ai.fusionbrain.exception.SubmissionRejectedException;
+import ai.fusionbrain.queue.EOverflowPolicy;
+import ai.fusionbrain.queue.ESubmissionPriority;
+import ai.fusionbrain.queue.FusionBrainSubmissionQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FusionBrainSubmissionQueueTest {
+    private final UUID pipelineId = UUID.randomUUID();
+    private final PipelineParams interactive = mock(PipelineParams.class);
+    private final PipelineParams batch = mock(PipelineParams.class);
+    private final List<CompletableFuture<StatusResponse>> running = new CopyOnWriteArrayList<>();
+    private final FusionBrainProperties.Queue settings = new FusionBrainProperties.Queue();
+    private FusionBrainClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(FusionBrainClient.class);
+        when(client.runPipeline(any(), any(), any(FileSource[].class))).thenReturn(RunResponse.builder().build());
+        when(client.waitForCompletion(any(UUID.class), any(RunResponse.class))).thenAnswer(invocation -> {
+            CompletableFuture<StatusResponse> future = new CompletableFuture<>();
+            running.add(future);
+            return future;
+        });
+        settings.setMaxInFlightPerPipeline(1);
+    }
+
+    @Test
+    void shouldLimitInFlightTasksPerPipeline() {
+        FusionBrainSubmissionQueue queue = queue();
+
+        CompletableFuture<StatusResponse> first = queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        CompletableFuture<StatusResponse> second = queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        queue.submit(UUID.randomUUID(), interactive, ESubmissionPriority.INTERACTIVE);
+
+        assertThat(running).hasSize(2);
+        assertThat(queue.getQueuedCount()).isEqualTo(1);
+        assertThat(queue.getInFlightCount(pipelineId)).isEqualTo(1);
+
+        StatusResponse done = StatusResponse.builder().status(EResourceStatus.DONE).build();
+        running.get(0).complete(done);
+
+        assertThat(first).isCompletedWithValue(done);
+        assertThat(second).isNotDone();
+        assertThat(queue.getQueuedCount()).isZero();
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(running).hasSize(3));
+    }
+
+    @Test
+    void shouldDispatchInteractiveBeforeBatch() {
+        FusionBrainSubmissionQueue queue = queue();
+        queue.submit(pipelineId, batch, ESubmissionPriority.BATCH);
+        queue.submit(pipelineId, batch, ESubmissionPriority.BATCH);
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+
+        assertThat(queue.getQueuedCount(ESubmissionPriority.BATCH)).isEqualTo(1);
+        assertThat(queue.getQueuedCount(ESubmissionPriority.INTERACTIVE)).isEqualTo(1);
+
+        running.get(0).complete(new StatusResponse());
+
+        InOrder order = inOrder(client);
+        order.verify(client).runPipeline(eq(pipelineId), eq(batch), any(FileSource[].class));
+        order.verify(client, timeout(2000)).runPipeline(eq(pipelineId), eq(interactive), any(FileSource[].class));
+        assertThat(queue.getQueuedCount(ESubmissionPriority.BATCH)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunBatchItemsThroughBatchLane() {
+        FusionBrainSubmissionQueue queue = queue();
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+
+        BatchHandle handle = queue.runBatch(pipelineId, List.of(batch, batch, batch), 2);
+
+        assertThat(running).hasSize(1);
+        assertThat(queue.getQueuedCount(ESubmissionPriority.BATCH)).isEqualTo(2);
+        assertThat(handle.getInFlightCount()).isEqualTo(2);
+
+        for (int done = 1; done <= 4; done++) {
+            int started = done;
+            await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(running).hasSize(started));
+            running.get(done - 1).complete(StatusResponse.builder().status(EResourceStatus.DONE).build());
+        }
+
+        BatchResult result = handle.getResult().join();
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(queue.getInFlightCount(pipelineId)).isZero();
+        verify(client, times(3)).runPipeline(eq(pipelineId), eq(batch), any(FileSource[].class));
+    }
+
+    @Test
+    void shouldFailWhenFullWithFailPolicy() {
+        settings.setCapacity(1);
+        settings.setOverflowPolicy(EOverflowPolicy.FAIL);
+        FusionBrainSubmissionQueue queue = queue();
+
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        CompletableFuture<StatusResponse> queued = queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        CompletableFuture<StatusResponse> rejected = queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+
+        assertThat(queued).isNotDone();
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(failure(rejected)).isInstanceOf(SubmissionRejectedException.class);
+    }
+
+    @Test
+    void shouldDropOldestLowerPriorityWork() {
+        settings.setCapacity(1);
+        settings.setOverflowPolicy(EOverflowPolicy.DROP_OLDEST);
+        FusionBrainSubmissionQueue queue = queue();
+
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        CompletableFuture<StatusResponse> dropped = queue.submit(pipelineId, batch, ESubmissionPriority.BATCH);
+        CompletableFuture<StatusResponse> kept = queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        CompletableFuture<StatusResponse> rejected = queue.submit(pipelineId, batch, ESubmissionPriority.BATCH);
+
+        assertThat(failure(dropped)).isInstanceOf(SubmissionRejectedException.class)
+                .hasMessageContaining("dropped");
+        assertThat(kept).isNotDone();
+        assertThat(failure(rejected)).isInstanceOf(SubmissionRejectedException.class);
+        assertThat(queue.getQueuedCount(ESubmissionPriority.INTERACTIVE)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBlockUntilSpaceFreesUp() {
+        settings.setCapacity(1);
+        settings.setOverflowPolicy(EOverflowPolicy.BLOCK);
+        FusionBrainSubmissionQueue queue = queue();
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+
+        CompletableFuture<CompletableFuture<StatusResponse>> blocked = CompletableFuture.supplyAsync(
+                () -> queue.submit(pipelineId, batch, ESubmissionPriority.BATCH));
+
+        await().during(200, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(blocked).isNotDone());
+        running.get(0).complete(new StatusResponse());
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(blocked).isDone());
+        assertThat(blocked.join()).isNotDone();
+        assertThat(queue.getQueuedCount(ESubmissionPriority.BATCH)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenBlockTimesOut() {
+        settings.setCapacity(1);
+        settings.setBlockTimeout(Duration.ZERO);
+        FusionBrainSubmissionQueue queue = queue();
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+
+        assertThat(failure(queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE)))
+                .isInstanceOf(SubmissionRejectedException.class)
+                .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    void shouldReleaseSlotWhenSubmissionFails() {
+        FusionBrainSubmissionQueue queue = queue();
+        when(client.runPipeline(eq(pipelineId), eq(batch), any(FileSource[].class)))
+                .thenThrow(new FusionBrainException("Failed to run pipeline"));
+
+        CompletableFuture<StatusResponse> failed = queue.submit(pipelineId, batch, ESubmissionPriority.BATCH);
+        queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+
+        assertThat(failure(failed)).isInstanceOf(FusionBrainException.class);
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(running).hasSize(1));
+        assertThat(queue.getInFlightCount(pipelineId)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotDispatchFromCompletionCallbacksHoldingExecutorSlot() {
+        // Executor with a single slot whose execute blocks until the slot is free
+        Semaphore slot = new Semaphore(1);
+        ExecutorService threads = Executors.newCachedThreadPool();
+        Executor limited = task -> {
+            slot.acquireUninterruptibly();
+            threads.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    slot.release();
+                }
+            });
+        };
+        CountDownLatch bothQueued = new CountDownLatch(1);
+        when(client.runPipeline(any(), any(), any(FileSource[].class))).thenAnswer(invocation -> {
+            bothQueued.await(2, TimeUnit.SECONDS);
+            return RunResponse.builder().build();
+        });
+        when(client.waitForCompletion(any(UUID.class), any(RunResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(new StatusResponse()));
+        FusionBrainSubmissionQueue queue = new FusionBrainSubmissionQueue(client, settings, limited);
+
+        try {
+            CompletableFuture<StatusResponse> first = queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+            CompletableFuture<StatusResponse> second = queue.submit(pipelineId, interactive, ESubmissionPriority.INTERACTIVE);
+            bothQueued.countDown();
+
+            await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+                assertThat(first).isDone();
+                assertThat(second).isDone();
+            });
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static Throwable failure(CompletableFuture<StatusResponse> future) {
+        assertThat(future).isCompletedExceptionally();
+        return future.handle((status, e) -> e).join();
+    }
+
+    private FusionBrainSubmissionQueue queue() {
+        return new FusionBrainSubmissionQueue(client, settings, Runnable::run);
+    }
+}
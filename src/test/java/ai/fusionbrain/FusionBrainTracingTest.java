@@ -0,0 +1,190 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.autoconfigure.FusionBrainAutoConfiguration;
+import ai.fusionbrain.client.FusionBrainClientImpl;
+import ai.fusionbrain.client.FusionBrainFeignClient;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.observation.FusionBrainTracing;
+import ai.fusionbrain.observation.ObservationFusionBrainTracing;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class FusionBrainTracingTest {
+    private final List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+    private final Map<Observation.Context, List<String>> events = new ConcurrentHashMap<>();
+    private final ObservationRegistry registry = ObservationRegistry.create();
+    private final ObservationFusionBrainTracing tracing = new ObservationFusionBrainTracing(registry);
+    private final FusionBrainFeignClient feignClient = Mockito.mock(FusionBrainFeignClient.class);
+    private final UUID pipelineId = UUID.randomUUID();
+    private FusionBrainClientImpl client;
+
+    @BeforeEach
+    void setUp() {
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onEvent(Observation.Event event, Observation.Context context) {
+                events.computeIfAbsent(context, c -> new CopyOnWriteArrayList<>()).add(event.getName());
+            }
+
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.setMaxRetries(3);
+        properties.setPollInterval(1);
+        client = FusionBrainClientImpl.builder()
+                .feignClient(feignClient)
+                .objectMapper(new ObjectMapper())
+                .properties(properties)
+                .asyncExecutor(Executors.newSingleThreadExecutor())
+                .pollingScheduler(Executors.newSingleThreadScheduledExecutor())
+                .tracing(tracing)
+                .build();
+    }
+
+    @Test
+    void shouldTraceTaskFromSubmissionToCompletion() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.runPipeline(any(), eq(pipelineId), any()))
+                .thenReturn(RunResponse.builder().id(taskId).statusTime(0L).build());
+        when(feignClient.getStatus(taskId)).thenReturn(status(EResourceStatus.PROCESSING), status(EResourceStatus.DONE));
+
+        RunResponse run = client.runPipeline(pipelineId, null, List.of(new byte[10]));
+        client.waitForCompletion(pipelineId, run).get(10, TimeUnit.SECONDS);
+
+        Observation.Context task = await().atMost(1, TimeUnit.SECONDS).until(() -> stopped.stream()
+                .filter(context -> context.getName().equals(ObservationFusionBrainTracing.TASK))
+                .findFirst().orElse(null), context -> context != null);
+        assertThat(task.getHighCardinalityKeyValue("task").getValue()).isEqualTo(taskId.toString());
+        assertThat(task.getHighCardinalityKeyValue("polls").getValue()).isEqualTo("2");
+        assertThat(task.getHighCardinalityKeyValue("fusionbrain.generated.time").getValue()).isEqualTo("12000");
+        assertThat(task.getLowCardinalityKeyValue("pipeline").getValue()).isEqualTo(pipelineId.toString());
+        assertThat(events.get(task)).containsExactly("queued", "uploaded", "generated", "polled");
+
+        List<Observation.Context> calls = stopped.stream()
+                .filter(context -> context.getName().equals(ObservationFusionBrainTracing.CALL))
+                .toList();
+        assertThat(calls).extracting(context -> context.getLowCardinalityKeyValue("operation").getValue())
+                .containsExactly("run", "status", "status");
+        assertThat(calls).allSatisfy(call -> assertThat(call.getParentObservation().getContextView()).isSameAs(task));
+    }
+
+    @Test
+    void shouldEndTaskSpanWithErrorWhenSubmissionFails() {
+        when(feignClient.runPipeline(any(), eq(pipelineId), any()))
+                .thenThrow(new FusionBrainServerException("unavailable", 503));
+
+        assertThatExceptionOfType(FusionBrainServerException.class)
+                .isThrownBy(() -> client.runPipeline(pipelineId, null, List.of(new byte[10])));
+
+        assertThat(stopped).extracting(Observation.Context::getName)
+                .containsExactly(ObservationFusionBrainTracing.CALL, ObservationFusionBrainTracing.TASK);
+        assertThat(stopped).allSatisfy(context -> assertThat(context.getError())
+                .isInstanceOf(FusionBrainServerException.class));
+    }
+
+    @Test
+    void shouldEndSpanOfTaskThatIsNeverAwaited() {
+        FusionBrainProperties properties = new FusionBrainProperties();
+        properties.setMaxRetries(1);
+        properties.setPollInterval(1);
+        FusionBrainClientImpl shortLivedClient = FusionBrainClientImpl.builder()
+                .feignClient(feignClient)
+                .objectMapper(new ObjectMapper())
+                .properties(properties)
+                .asyncExecutor(Executors.newSingleThreadExecutor())
+                .pollingScheduler(Executors.newSingleThreadScheduledExecutor())
+                .tracing(tracing)
+                .build();
+        UUID taskId = UUID.randomUUID();
+        when(feignClient.runPipeline(any(), eq(pipelineId), any()))
+                .thenReturn(RunResponse.builder().id(taskId).statusTime(0L).build());
+
+        shortLivedClient.runPipeline(pipelineId, null, List.of(new byte[10]));
+
+        Observation.Context task = await().atMost(5, TimeUnit.SECONDS).until(() -> stopped.stream()
+                .filter(context -> context.getName().equals(ObservationFusionBrainTracing.TASK))
+                .findFirst().orElse(null), context -> context != null);
+        assertThat(task.getHighCardinalityKeyValue("task").getValue()).isEqualTo(taskId.toString());
+        assertThat(task.getHighCardinalityKeyValue("fusionbrain.unawaited.time").getValue()).isEqualTo("1000");
+        assertThat(events.get(task)).containsExactly("queued", "uploaded", "unawaited");
+    }
+
+    @Test
+    void shouldRunWrappedExecutorTasksInSubmittersSpan() throws Exception {
+        Observation parent = Observation.start("caller", registry);
+        CompletableFuture<Observation> seen = new CompletableFuture<>();
+
+        parent.scoped(() -> tracing.wrap(Executors.newSingleThreadExecutor())
+                .execute(() -> seen.complete(registry.getCurrentObservation())));
+
+        assertThat(seen.get(10, TimeUnit.SECONDS)).isSameAs(parent);
+        parent.stop();
+    }
+
+    @Test
+    void shouldTraceWhenObservationRegistryIsAutoConfigured() {
+        // Listed first on purpose: the registry must exist before the FusionBrain conditions are evaluated
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        FusionBrainAutoConfiguration.class,
+                        JacksonAutoConfiguration.class,
+                        HttpMessageConvertersAutoConfiguration.class,
+                        FeignAutoConfiguration.class,
+                        ObservationAutoConfiguration.class))
+                .withPropertyValues(
+                        "fusionbrain.enabled=true",
+                        "fusionbrain.api-key=test-key",
+                        "fusionbrain.api-secret=test-secret")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObservationRegistry.class);
+                    assertThat(context.getBean(FusionBrainTracing.class)).isInstanceOf(ObservationFusionBrainTracing.class);
+                });
+    }
+
+    private static StatusResponse status(EResourceStatus resourceStatus) {
+        StatusResponse status = new StatusResponse();
+        status.setStatus(resourceStatus);
+        status.setGenerationTime(12L);
+        return status;
+    }
+}
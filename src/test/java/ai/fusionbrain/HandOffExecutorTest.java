@@ -0,0 +1,56 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.resilience.HandOffExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class HandOffExecutorTest {
+
+    @Test
+    void shouldRunTasksInOrderWithoutBlockingCaller() throws Exception {
+        HandOffExecutor executor = new HandOffExecutor("hand-off");
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+
+        long start = System.nanoTime();
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            executor.execute(() -> order.add(index));
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        assertThat(order).isEmpty();
+        release.countDown();
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(order).containsExactly(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    void shouldKeepRunningAfterFailedTaskAndRestartWhenIdle() {
+        HandOffExecutor executor = new HandOffExecutor("hand-off");
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        executor.execute(() -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute(() -> threads.add(Thread.currentThread().getName()));
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(threads).hasSize(1));
+
+        executor.execute(() -> threads.add(Thread.currentThread().getName()));
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(threads).containsOnly("hand-off"));
+        assertThat(threads).hasSize(2);
+    }
+}
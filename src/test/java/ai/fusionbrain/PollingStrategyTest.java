@@ -0,0 +1,119 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.polling.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PollingStrategyTest {
+    private FusionBrainProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FusionBrainProperties();
+        properties.setPollInterval(3);
+        properties.getPolling().setMultiplier(2.0);
+        properties.getPolling().setMaxInterval(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void fixedStrategyShouldKeepLegacySchedule() {
+        PollingStrategy strategy = new FixedPollingStrategy(properties);
+
+        assertThat(strategy.initialDelayMillis(null, 5)).isEqualTo(5000);
+        assertThat(strategy.nextDelayMillis(null, 1)).isZero();
+        assertThat(strategy.nextDelayMillis(null, 2)).isEqualTo(3000);
+        assertThat(strategy.nextDelayMillis(null, 7)).isEqualTo(3000);
+    }
+
+    @Test
+    void exponentialStrategyShouldGrowUpToMaxInterval() {
+        PollingStrategy strategy = new ExponentialPollingStrategy(properties);
+
+        assertThat(strategy.nextDelayMillis(null, 1)).isEqualTo(3000);
+        assertThat(strategy.nextDelayMillis(null, 2)).isEqualTo(6000);
+        assertThat(strategy.nextDelayMillis(null, 3)).isEqualTo(10000);
+        assertThat(strategy.nextDelayMillis(null, 10)).isEqualTo(10000);
+    }
+
+    @Test
+    void jitteredStrategyShouldStayWithinJitterRange() {
+        PollingStrategy strategy = new JitteredPollingStrategy(new ExponentialPollingStrategy(properties), 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(strategy.nextDelayMillis(null, 2)).isBetween(3000L, 6000L);
+        }
+        assertThat(strategy.initialDelayMillis(null, 2)).isEqualTo(2000);
+    }
+
+    @Test
+    void adaptiveStrategyShouldLearnGenerationTimePerPipeline() {
+        AdaptivePollingStrategy strategy = new AdaptivePollingStrategy(properties);
+        UUID pipelineId = UUID.randomUUID();
+
+        assertThat(strategy.initialDelayMillis(pipelineId, 2)).isEqualTo(2000);
+        assertThat(strategy.nextDelayMillis(pipelineId, 1)).isEqualTo(3000);
+
+        strategy.onCompleted(pipelineId, done(20L), 21000);
+        strategy.onCompleted(pipelineId, done(30L), 31000);
+
+        assertThat(strategy.getExpectedMillis(pipelineId)).isEqualTo(22000);
+        assertThat(strategy.initialDelayMillis(pipelineId, 2)).isEqualTo(22000);
+        assertThat(strategy.nextDelayMillis(pipelineId, 1)).isEqualTo(2200);
+        assertThat(strategy.getExpectedMillis(UUID.randomUUID())).isEqualTo(-1);
+        assertThat(strategy.getExpectedMillis(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void adaptiveStrategyShouldNotShortenTotalWait() {
+        properties.setMaxRetries(10);
+        AdaptivePollingStrategy strategy = new AdaptivePollingStrategy(properties);
+        UUID pipelineId = UUID.randomUUID();
+        strategy.onCompleted(pipelineId, done(22L), 23000);
+
+        long total = 0;
+        for (int attempt = 1; attempt <= properties.getMaxRetries(); attempt++) {
+            total += strategy.nextDelayMillis(pipelineId, attempt);
+        }
+
+        assertThat(strategy.nextDelayMillis(pipelineId, 1)).isEqualTo(2200);
+        assertThat(strategy.nextDelayMillis(pipelineId, 5)).isEqualTo(2200);
+        assertThat(strategy.nextDelayMillis(pipelineId, 6)).isEqualTo(3800);
+        assertThat(total).isGreaterThanOrEqualTo(properties.getMaxRetries() * 3000L);
+    }
+
+    @Test
+    void adaptiveStrategyShouldIgnoreFailedTasks() {
+        AdaptivePollingStrategy strategy = new AdaptivePollingStrategy(properties);
+        StatusResponse failed = StatusResponse.builder().status(EResourceStatus.FAIL).generationTime(50L).build();
+
+        strategy.onCompleted(null, failed, 1000);
+
+        assertThat(strategy.getExpectedMillis(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void fromPropertiesShouldCreateConfiguredStrategy() {
+        assertThat(PollingStrategy.fromProperties(properties)).isInstanceOf(FixedPollingStrategy.class);
+
+        properties.getPolling().setStrategy(EPollingStrategy.EXPONENTIAL);
+        assertThat(PollingStrategy.fromProperties(properties)).isInstanceOf(ExponentialPollingStrategy.class);
+
+        properties.getPolling().setStrategy(EPollingStrategy.JITTERED);
+        assertThat(PollingStrategy.fromProperties(properties)).isInstanceOf(JitteredPollingStrategy.class);
+
+        properties.getPolling().setStrategy(EPollingStrategy.ADAPTIVE);
+        assertThat(PollingStrategy.fromProperties(properties)).isInstanceOf(AdaptivePollingStrategy.class);
+    }
+
+    private static StatusResponse done(Long generationTime) {
+        return StatusResponse.builder().status(EResourceStatus.DONE).generationTime(generationTime).build();
+    }
+}
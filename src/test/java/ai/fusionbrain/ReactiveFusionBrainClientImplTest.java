@@ -0,0 +1,251 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.client.ReactiveFusionBrainClient;
+import ai.fusionbrain.client.ReactiveFusionBrainClientImpl;
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EPipelineType;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.RunResponse;
+import ai.fusionbrain.dto.request.FileSource;
+import ai.fusionbrain.dto.request.GenerateParams;
+import ai.fusionbrain.dto.request.Text2ImageParams;
+import ai.fusionbrain.exception.FusionBrainException;
+import ai.fusionbrain.exception.FusionBrainServerException;
+import ai.fusionbrain.exception.PipelineDisabledException;
+import ai.fusionbrain.exception.ValidationException;
+import ai.fusionbrain.polling.FixedPollingStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveFusionBrainClientImplTest {
+    private final Queue<ClientResponse> responses = new ArrayDeque<>();
+    private final Queue<ClientRequest> requests = new ArrayDeque<>();
+    private FusionBrainProperties properties;
+    private ReactiveFusionBrainClient client;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FusionBrainProperties();
+        properties.setMaxRetries(2);
+        properties.setPollInterval(1);
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("https://test.url/key/api/v1")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(responses.remove());
+                })
+                .build();
+        client = new ReactiveFusionBrainClientImpl(webClient, new ObjectMapper(), properties,
+                new FixedPollingStrategy(properties));
+    }
+
+    @Test
+    void shouldGetPipelinesOfType() {
+        respond(HttpStatus.OK, "[{\"id\":\"" + UUID.randomUUID() + "\",\"type\":\"TEXT2IMAGE\"}]");
+
+        StepVerifier.create(client.getPipelines(EPipelineType.TEXT2IMAGE))
+                .assertNext(pipeline -> assertThat(pipeline.getType()).isEqualTo(EPipelineType.TEXT2IMAGE))
+                .verifyComplete();
+
+        assertThat(requests.remove().url().toString()).endsWith("/pipelines?type=TEXT2IMAGE");
+    }
+
+    @Test
+    void shouldMapErrorStatusToServerException() {
+        respond(HttpStatus.SERVICE_UNAVAILABLE, "");
+
+        StepVerifier.create(client.getPipelineAvailability(UUID.randomUUID()))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(FusionBrainServerException.class)
+                        .hasMessageContaining("Status: 503"))
+                .verify();
+    }
+
+    @Test
+    void shouldRunPipelineWithMultipartBody() {
+        UUID pipelineId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        respond(HttpStatus.CREATED, "{\"uuid\":\"" + taskId + "\",\"status\":\"INITIAL\",\"status_time\":5}");
+
+        StepVerifier.create(client.runPipeline(pipelineId, params()))
+                .assertNext(response -> {
+                    assertThat(response.getId()).isEqualTo(taskId);
+                    assertThat(response.getStatusTime()).isEqualTo(5);
+                })
+                .verifyComplete();
+
+        ClientRequest request = requests.remove();
+        assertThat(request.method()).isEqualTo(HttpMethod.POST);
+        assertThat(request.url().toString()).endsWith("/pipeline/run?pipeline_id=" + pipelineId);
+    }
+
+    @Test
+    void shouldRejectDisabledPipeline() {
+        respond(HttpStatus.CREATED, "{\"model_status\":\"DISABLED_BY_QUEUE\"}");
+
+        StepVerifier.create(client.runPipeline(UUID.randomUUID(), params()))
+                .expectError(PipelineDisabledException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldStreamFileSourcesAsParts(@TempDir Path tempDir) throws Exception {
+        respond(HttpStatus.CREATED, "{\"uuid\":\"" + UUID.randomUUID() + "\",\"status\":\"INITIAL\"}");
+        Path image = Files.writeString(tempDir.resolve("input.png"), "png-bytes");
+
+        StepVerifier.create(client.runPipeline(UUID.randomUUID(), params(),
+                        FileSource.of(image), FileSource.of(new ByteArrayInputStream("stream-bytes".getBytes()))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        String body = writeBody(requests.remove());
+        assertThat(body)
+                .contains("name=\"params\"")
+                .contains("name=\"file\"; filename=\"input.png\"")
+                .contains("png-bytes")
+                .contains("name=\"file\"; filename=\"file\"")
+                .contains("stream-bytes");
+    }
+
+    @Test
+    void shouldWriteParamsWithoutTypeId() {
+        respond(HttpStatus.CREATED, "{\"uuid\":\"" + UUID.randomUUID() + "\",\"status\":\"INITIAL\"}");
+
+        StepVerifier.create(client.runPipeline(UUID.randomUUID(), params()))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(writeBody(requests.remove()))
+                .contains("\"type\":\"GENERATE\"")
+                .doesNotContain("Text2ImageParams");
+    }
+
+    @Test
+    void shouldValidateParamsWithGivenValidator() {
+        Validator validator = mock(Validator.class);
+        ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("rejected by context validator");
+        when(validator.validate(any())).thenReturn(Set.of(violation));
+        ReactiveFusionBrainClient validatingClient = new ReactiveFusionBrainClientImpl(
+                WebClient.builder().exchangeFunction(request -> Mono.error(new AssertionError())).build(),
+                new ObjectMapper(), properties, new FixedPollingStrategy(properties), validator);
+
+        StepVerifier.create(validatingClient.runPipeline(UUID.randomUUID(), params()))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(ValidationException.class)
+                        .hasMessageContaining("rejected by context validator"))
+                .verify();
+    }
+
+    @Test
+    void shouldRejectEmptyFilesWithoutRequest() {
+        StepVerifier.create(client.runPipeline(UUID.randomUUID(), params(), List.of(new byte[0])))
+                .expectError(ValidationException.class)
+                .verify();
+
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void shouldPollUntilFinalStatus() {
+        UUID taskId = UUID.randomUUID();
+        respond(HttpStatus.OK, "{\"uuid\":\"" + taskId + "\",\"status\":\"PROCESSING\"}");
+        respond(HttpStatus.OK, "{\"uuid\":\"" + taskId + "\",\"status\":\"DONE\"}");
+
+        StepVerifier.create(client.waitForCompletion(UUID.randomUUID(), RunResponse.builder().id(taskId).build()))
+                .assertNext(status -> assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE))
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void shouldFailAfterMaxRetries() {
+        UUID taskId = UUID.randomUUID();
+        for (int i = 0; i <= properties.getMaxRetries(); i++) {
+            respond(HttpStatus.OK, "{\"uuid\":\"" + taskId + "\",\"status\":\"PROCESSING\"}");
+        }
+
+        StepVerifier.create(client.waitForCompletion(taskId, 0))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(FusionBrainException.class)
+                        .hasMessage("Timeout waiting for task completion after 2 attempts"))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldRejectNegativeInitialDelay() {
+        StepVerifier.create(client.waitForCompletion(UUID.randomUUID(), -1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static String writeBody(ClientRequest request) {
+        MockClientHttpRequest httpRequest = new MockClientHttpRequest(request.method(), request.url());
+        request.body().insert(httpRequest, new BodyInserter.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return ExchangeStrategies.withDefaults().messageWriters();
+            }
+
+            @Override
+            public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, Object> hints() {
+                return Map.of();
+            }
+        }).block();
+        return httpRequest.getBodyAsString().block();
+    }
+
+    private void respond(HttpStatus status, String body) {
+        responses.add(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    private static Text2ImageParams params() {
+        Text2ImageParams params = new Text2ImageParams();
+        params.setGenerateParams(new GenerateParams("text"));
+        return params;
+    }
+}
@@ -0,0 +1,185 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.cache.CacheStats;
+import ai.fusionbrain.cache.RefreshingCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RefreshingCacheTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldServeCachedValueUntilExpiry() {
+        RefreshingCache<String, String> cache = cache(key -> key + "-" + loads.incrementAndGet(), 1.0, Runnable::run);
+
+        assertThat(cache.get("a")).isEqualTo("a-1");
+        advance(Duration.ofSeconds(9));
+        assertThat(cache.get("a")).isEqualTo("a-1");
+        advance(Duration.ofSeconds(1));
+        assertThat(cache.get("a")).isEqualTo("a-2");
+
+        assertThat(cache.stats()).isEqualTo(new CacheStats(1, 2, 2, 0, 0));
+        assertThat(cache.stats().hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void shouldSupportNullKey() {
+        RefreshingCache<String, String> cache = cache(key -> String.valueOf(key) + loads.incrementAndGet(), 1.0, Runnable::run);
+
+        assertThat(cache.get(null)).isEqualTo("null1");
+        assertThat(cache.get(null)).isEqualTo("null1");
+        cache.invalidate(null);
+        assertThat(cache.get(null)).isEqualTo("null2");
+    }
+
+    @Test
+    void shouldRefreshAheadOfExpiryInBackground() {
+        List<Runnable> background = new ArrayList<>();
+        RefreshingCache<String, String> cache = cache(key -> key + "-" + loads.incrementAndGet(), 0.5, background::add);
+
+        cache.get("a");
+        advance(Duration.ofSeconds(6));
+
+        assertThat(cache.get("a")).isEqualTo("a-1");
+        assertThat(cache.get("a")).isEqualTo("a-1");
+        assertThat(background).hasSize(1);
+
+        background.get(0).run();
+        advance(Duration.ofSeconds(4));
+
+        assertThat(cache.get("a")).isEqualTo("a-2");
+        assertThat(cache.stats().getRefreshCount()).isEqualTo(1);
+        assertThat(cache.stats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepStaleValueWhenRefreshFails() {
+        RefreshingCache<String, String> cache = cache(key -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("down");
+            }
+            return "value";
+        }, 0.5, Runnable::run);
+
+        cache.get("a");
+        advance(Duration.ofSeconds(6));
+
+        assertThat(cache.get("a")).isEqualTo("value");
+        assertThat(cache.stats().getLoadFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        RefreshingCache<String, String> cache = cache(key -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("down");
+            }
+            return "value";
+        }, 1.0, Runnable::run);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> cache.get("a")).withMessage("down");
+        assertThat(cache.get("a")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldShareSingleLoadBetweenConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RefreshingCache<String, String> cache = cache(key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        }, 1.0, Runnable::run);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            results.add(CompletableFuture.supplyAsync(() -> cache.get("a"), callers));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> cache.get("a"), callers));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(results).allSatisfy(result -> assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value"));
+            assertThat(loads).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailJoinedLoadsWhenLoaderThrowsError() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RefreshingCache<String, String> cache = cache(key -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new AssertionError("broken loader");
+        }, 1.0, Runnable::run);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("a"), callers);
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> joined = CompletableFuture.supplyAsync(() -> cache.get("a"), callers);
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThatExceptionOfType(ExecutionException.class)
+                    .isThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .withCauseInstanceOf(AssertionError.class);
+            assertThatExceptionOfType(ExecutionException.class)
+                    .isThrownBy(() -> joined.get(5, TimeUnit.SECONDS))
+                    .withCauseInstanceOf(AssertionError.class);
+            assertThat(cache.stats().getLoadFailureCount()).isEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new RefreshingCache<String, String>("test", key -> key, Duration.ZERO, 0.5, Runnable::run));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new RefreshingCache<String, String>("test", key -> key, Duration.ofSeconds(1), 2.0, Runnable::run));
+    }
+
+    private RefreshingCache<String, String> cache(Function<String, String> loader, double refreshAhead,
+                                                  Executor executor) {
+        return new RefreshingCache<>("test", loader, Duration.ofSeconds(10), refreshAhead, executor, clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
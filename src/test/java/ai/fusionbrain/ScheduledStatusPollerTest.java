@@ -0,0 +1,113 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.polling.ScheduledStatusPoller;
+import ai.fusionbrain.polling.FixedPollingStrategy;
+import ai.fusionbrain.polling.PollDeferredException;
+import ai.fusionbrain.polling.StatusPoller;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+class ScheduledStatusPollerTest {
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executor;
+    private FusionBrainProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        executor = Executors.newSingleThreadExecutor();
+        properties = new FusionBrainProperties();
+        properties.setMaxRetries(3);
+        properties.setPollInterval(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldServeManyPendingTasksWithSingleThread() {
+        Map<UUID, AtomicInteger> calls = new ConcurrentHashMap<>();
+        StatusPoller poller = new ScheduledStatusPoller(taskId -> {
+            int call = calls.computeIfAbsent(taskId, id -> new AtomicInteger()).incrementAndGet();
+            return status(taskId, call < 2 ? EResourceStatus.PROCESSING : EResourceStatus.DONE);
+        }, scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        List<CompletableFuture<StatusResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(poller.poll(UUID.randomUUID(), 0));
+        }
+
+        await().atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(futures).allMatch(CompletableFuture::isDone));
+        assertThat(futures).allMatch(f -> f.join().getStatus() == EResourceStatus.DONE);
+        assertThat(calls.values()).allMatch(count -> count.get() == 2);
+        assertThat(poller.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldStopPollingCancelledTask() {
+        AtomicInteger calls = new AtomicInteger();
+        StatusPoller poller = new ScheduledStatusPoller(taskId -> {
+            calls.incrementAndGet();
+            return status(taskId, EResourceStatus.PROCESSING);
+        }, scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        CompletableFuture<StatusResponse> future = poller.poll(UUID.randomUUID(), 1);
+        future.cancel(false);
+
+        await().pollDelay(1500, TimeUnit.MILLISECONDS).atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(calls).hasValue(0));
+        assertThat(poller.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldRejectNegativeInitialDelay() {
+        StatusPoller poller = new ScheduledStatusPoller(taskId -> status(taskId, EResourceStatus.DONE),
+                scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        CompletableFuture<StatusResponse> future = poller.poll(UUID.randomUUID(), -1);
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(future::get)
+                .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRetryDeferredPollsWithoutCountingAttempts() {
+        properties.setMaxRetries(0);
+        AtomicInteger calls = new AtomicInteger();
+        StatusPoller poller = new ScheduledStatusPoller(taskId -> {
+            if (calls.incrementAndGet() <= 3) {
+                throw new PollDeferredException("Rate limited", 10);
+            }
+            return status(taskId, EResourceStatus.DONE);
+        }, scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        CompletableFuture<StatusResponse> future = poller.poll(UUID.randomUUID(), 0);
+
+        assertThat(future.orTimeout(2, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(calls).hasValue(4);
+    }
+
+    private static StatusResponse status(UUID taskId, EResourceStatus status) {
+        return StatusResponse.builder().id(taskId).status(status).build();
+    }
+}
@@ -0,0 +1,87 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.GenerationResult;
+import ai.fusionbrain.dto.StatusResponse;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StatusResponseTest {
+    private static final String DONE = "{\"uuid\":\"8b1c6a4e-0c8b-4d53-9a7c-1f2e3d4c5b6a\",\"status\":\"DONE\"," +
+            "\"result\":{\"files\":[\"" + base64("first") + "\",\"" + base64("second") + "\"],\"censored\":false," +
+            "\"unknown\":{\"nested\":[1,2]}},\"generationTime\":9}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldBindTypedResult() throws Exception {
+        StatusResponse status = objectMapper.readValue(DONE, StatusResponse.class);
+
+        assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(status.getGenerationTime()).isEqualTo(9L);
+        assertThat(status.getResult().getCensored()).isFalse();
+        assertThat(status.getResult().getImageCount()).isEqualTo(2);
+        assertThat(status.getResult().getImages())
+                .extracting(image -> new String(image, StandardCharsets.UTF_8))
+                .containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldDecodeEachImageOnlyOnce() {
+        GenerationResult result = new GenerationResult(List.of(base64("image")), false);
+
+        byte[] first = result.getImage(0);
+
+        assertThat(result.getImage(0)).isSameAs(first);
+        assertThat(result.getImages().get(0)).isSameAs(first);
+
+        result.setFiles(List.of(base64("other")));
+        assertThat(result.getImage(0)).isEqualTo("other".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldRejectMissingImage() {
+        GenerationResult result = new GenerationResult();
+
+        assertThat(result.getImages()).isEmpty();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> result.getImage(0));
+    }
+
+    @Test
+    void statusOnlyView_shouldSkipResult() throws Exception {
+        ObjectMapper springLikeMapper = JsonMapper.builder()
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .build();
+
+        for (ObjectMapper mapper : List.of(objectMapper, springLikeMapper)) {
+            StatusResponse status = mapper.readerFor(StatusResponse.class)
+                    .withView(StatusResponse.StatusOnly.class)
+                    .readValue(DONE);
+
+            assertThat(status.getId()).isNotNull();
+            assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+            assertThat(status.getGenerationTime()).isEqualTo(9L);
+            assertThat(status.getResult()).isNull();
+        }
+    }
+
+    @Test
+    void toString_shouldNotIncludeImages() throws Exception {
+        StatusResponse status = objectMapper.readValue(DONE, StatusResponse.class);
+
+        assertThat(status.toString()).doesNotContain(base64("first")).contains("censored=false");
+    }
+
+    private static String base64(String content) {
+        return Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
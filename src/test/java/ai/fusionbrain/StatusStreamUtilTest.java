@@ -0,0 +1,112 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.ResultSink;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.utils.StatusStreamUtil;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StatusStreamUtilTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void read_shouldDecodeFilesIntoSinkAndKeepOtherFields() throws IOException {
+        UUID taskId = UUID.randomUUID();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        StatusResponse status = StatusStreamUtil.read(objectMapper,
+                json("{\"uuid\":\"" + taskId + "\",\"status\":\"DONE\",\"result\":{\"files\":[\"" + base64("first")
+                        + "\",\"" + base64("second") + "\"],\"censored\":true},\"generationTime\":7}"),
+                ResultSink.to(out));
+
+        assertThat(status.getId()).isEqualTo(taskId);
+        assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(status.getGenerationTime()).isEqualTo(7L);
+        assertThat(status.getResult().getCensored()).isTrue();
+        assertThat(status.getResult().getFiles()).isNull();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("firstsecond");
+    }
+
+    @Test
+    void read_shouldLeaveSinkUntouchedWhileTaskIsRunning() throws IOException {
+        StatusResponse status = StatusStreamUtil.read(objectMapper,
+                json("{\"status\":\"PROCESSING\",\"statusDescription\":\"busy\"}"),
+                index -> {
+                    throw new AssertionError("Sink must not be opened");
+                });
+
+        assertThat(status.getStatus()).isEqualTo(EResourceStatus.PROCESSING);
+        assertThat(status.getStatusDescription()).isEqualTo("busy");
+        assertThat(status.getResult()).isNull();
+    }
+
+    @Test
+    void read_shouldWriteEachFileToItsOwnPath(@TempDir Path tempDir) throws IOException {
+        StatusStreamUtil.read(objectMapper,
+                json("{\"status\":\"DONE\",\"result\":{\"files\":[\"" + base64("a") + "\",\"" + base64("b") + "\"]}}"),
+                ResultSink.toFiles(index -> tempDir.resolve("image-" + index + ".png")));
+
+        assertThat(tempDir.resolve("image-0.png")).hasContent("a");
+        assertThat(tempDir.resolve("image-1.png")).hasContent("b");
+    }
+
+    @Test
+    void read_shouldWriteToFileAndChannel(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("image.png");
+        StatusStreamUtil.read(objectMapper,
+                json("{\"status\":\"DONE\",\"result\":{\"files\":[\"" + base64("file") + "\"]}}"),
+                ResultSink.toFile(file));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StatusStreamUtil.read(objectMapper,
+                json("{\"status\":\"DONE\",\"result\":{\"files\":[\"" + base64("channel") + "\"]}}"),
+                ResultSink.to(Channels.newChannel(out)));
+
+        assertThat(Files.readString(file)).isEqualTo("file");
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("channel");
+    }
+
+    @Test
+    void read_shouldRejectSecondImageForSingleFileSink(@TempDir Path tempDir) {
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> StatusStreamUtil.read(objectMapper,
+                        json("{\"result\":{\"files\":[\"" + base64("a") + "\",\"" + base64("b") + "\"]}}"),
+                        ResultSink.toFile(tempDir.resolve("image.png"))))
+                .withMessageContaining("more than one image");
+    }
+
+    @Test
+    void read_shouldRejectMalformedResponses() {
+        assertThatExceptionOfType(JsonMappingException.class)
+                .isThrownBy(() -> StatusStreamUtil.read(objectMapper, json("[]"), ResultSink.to(new ByteArrayOutputStream())));
+        assertThatExceptionOfType(JsonMappingException.class)
+                .isThrownBy(() -> StatusStreamUtil.read(objectMapper, json("{\"result\":{\"files\":[42]}}"),
+                        ResultSink.to(new ByteArrayOutputStream())))
+                .withMessageContaining("Expected base64 string");
+    }
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String base64(String content) {
+        return Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
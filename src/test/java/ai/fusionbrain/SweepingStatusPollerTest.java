@@ -0,0 +1,235 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.config.FusionBrainProperties;
+import ai.fusionbrain.dto.EResourceStatus;
+import ai.fusionbrain.dto.StatusResponse;
+import ai.fusionbrain.exception.FusionBrainException;
+import ai.fusionbrain.polling.FixedPollingStrategy;
+import ai.fusionbrain.polling.PollDeferredException;
+import ai.fusionbrain.polling.PollingStrategy;
+import ai.fusionbrain.polling.StatusPoller;
+import ai.fusionbrain.polling.SweepingStatusPoller;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+class SweepingStatusPollerTest {
+    private ScheduledThreadPoolExecutor scheduler;
+    private ExecutorService executor;
+    private FusionBrainProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        executor = Executors.newFixedThreadPool(8);
+        properties = new FusionBrainProperties();
+        properties.setMaxRetries(3);
+        properties.setPollInterval(1);
+        properties.getPolling().setSweepConcurrency(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCompleteAllTasksWithBoundedConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Map<UUID, AtomicInteger> calls = new ConcurrentHashMap<>();
+        StatusPoller poller = new SweepingStatusPoller(taskId -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                int call = calls.computeIfAbsent(taskId, id -> new AtomicInteger()).incrementAndGet();
+                return status(taskId, call < 2 ? EResourceStatus.PROCESSING : EResourceStatus.DONE);
+            } finally {
+                running.decrementAndGet();
+            }
+        }, scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        List<CompletableFuture<StatusResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(poller.poll(UUID.randomUUID(), 0));
+        }
+
+        await().atMost(4, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(futures).allMatch(CompletableFuture::isDone));
+        assertThat(futures).allMatch(f -> f.join().getStatus() == EResourceStatus.DONE);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(poller.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldSharePollsOfAlreadyPendingTask() {
+        AtomicInteger calls = new AtomicInteger();
+        StatusPoller poller = new SweepingStatusPoller(taskId -> {
+            calls.incrementAndGet();
+            return status(taskId, EResourceStatus.DONE);
+        }, scheduler, executor, properties, new FixedPollingStrategy(properties));
+        UUID taskId = UUID.randomUUID();
+
+        CompletableFuture<StatusResponse> first = poller.poll(taskId, 1);
+        CompletableFuture<StatusResponse> second = poller.poll(taskId, 1);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(first.orTimeout(3, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(second.join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepPollingForRemainingCallersWhenOneCancels() {
+        AtomicInteger calls = new AtomicInteger();
+        StatusPoller poller = new SweepingStatusPoller(taskId -> status(taskId,
+                calls.incrementAndGet() < 2 ? EResourceStatus.PROCESSING : EResourceStatus.DONE),
+                scheduler, executor, properties, new FixedPollingStrategy(properties));
+        UUID taskId = UUID.randomUUID();
+
+        CompletableFuture<StatusResponse> first = poller.poll(taskId, 1);
+        CompletableFuture<StatusResponse> second = poller.poll(taskId, 1);
+        first.cancel(false);
+
+        assertThat(second.orTimeout(4, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(first).isCancelled();
+    }
+
+    @Test
+    void shouldStopPollingWhenAllCallersCancel() {
+        AtomicInteger calls = new AtomicInteger();
+        StatusPoller poller = new SweepingStatusPoller(taskId -> {
+            calls.incrementAndGet();
+            return status(taskId, EResourceStatus.DONE);
+        }, scheduler, executor, properties, new FixedPollingStrategy(properties));
+        UUID taskId = UUID.randomUUID();
+
+        CompletableFuture<StatusResponse> first = poller.poll(taskId, 1);
+        CompletableFuture<StatusResponse> second = poller.poll(taskId, 1);
+        first.cancel(false);
+        assertThat(poller.getPendingCount()).isEqualTo(1);
+        second.cancel(false);
+
+        assertThat(poller.getPendingCount()).isZero();
+        await().during(1500, TimeUnit.MILLISECONDS).atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(calls.get()).isZero());
+    }
+
+    @Test
+    void shouldStreamThroughExclusiveFetcherOfSharedTask() {
+        AtomicInteger exclusiveCalls = new AtomicInteger();
+        StatusPoller poller = new SweepingStatusPoller(taskId -> status(taskId, EResourceStatus.PROCESSING),
+                scheduler, executor, properties, new FixedPollingStrategy(properties));
+        UUID taskId = UUID.randomUUID();
+
+        CompletableFuture<StatusResponse> plain = poller.poll(taskId, 1);
+        CompletableFuture<StatusResponse> streaming = poller.pollExclusive(taskId, null, 1, id -> {
+            exclusiveCalls.incrementAndGet();
+            return status(id, EResourceStatus.DONE);
+        });
+
+        assertThat(streaming.orTimeout(3, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(plain.join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(exclusiveCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectSecondExclusiveFetcher() {
+        StatusPoller poller = new SweepingStatusPoller(taskId -> status(taskId, EResourceStatus.DONE),
+                scheduler, executor, properties, new FixedPollingStrategy(properties));
+        UUID taskId = UUID.randomUUID();
+
+        CompletableFuture<StatusResponse> first = poller.pollExclusive(taskId, null, 1, id -> status(id, EResourceStatus.DONE));
+        CompletableFuture<StatusResponse> second = poller.pollExclusive(taskId, null, 1, id -> status(id, EResourceStatus.DONE));
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(second::get)
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(first.orTimeout(3, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+    }
+
+    @Test
+    void shouldStopSweepsWhenNoTaskIsPending() {
+        StatusPoller poller = new SweepingStatusPoller(taskId -> status(taskId, EResourceStatus.DONE),
+                scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        poller.poll(UUID.randomUUID(), 0).orTimeout(2, TimeUnit.SECONDS).join();
+
+        await().atMost(3, TimeUnit.SECONDS).until(() -> scheduler.getQueue().isEmpty());
+
+        CompletableFuture<StatusResponse> next = poller.poll(UUID.randomUUID(), 0);
+        assertThat(next.orTimeout(2, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+    }
+
+    @Test
+    void shouldSweepAtSubIntervalStrategyDelays() {
+        properties.setPollInterval(10);
+        AtomicInteger calls = new AtomicInteger();
+        StatusPoller poller = new SweepingStatusPoller(
+                taskId -> status(taskId, calls.incrementAndGet() < 3 ? EResourceStatus.PROCESSING : EResourceStatus.DONE),
+                scheduler, executor, properties, new PollingStrategy() {
+                    @Override
+                    public long initialDelayMillis(UUID pipelineId, long initialDelay) {
+                        return 0;
+                    }
+
+                    @Override
+                    public long nextDelayMillis(UUID pipelineId, int attempt) {
+                        return 50;
+                    }
+                });
+
+        StatusResponse status = poller.poll(UUID.randomUUID(), 0).orTimeout(2, TimeUnit.SECONDS).join();
+
+        assertThat(status.getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void shouldFailTaskAfterMaxRetries() {
+        properties.setMaxRetries(0);
+        StatusPoller poller = new SweepingStatusPoller(taskId -> status(taskId, EResourceStatus.PROCESSING),
+                scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        CompletableFuture<StatusResponse> future = poller.poll(UUID.randomUUID(), 0);
+
+        await().atMost(2, TimeUnit.SECONDS).until(future::isDone);
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(future::get)
+                .withCauseInstanceOf(FusionBrainException.class)
+                .withMessageContaining("Timeout waiting for task completion after 0 attempts");
+    }
+
+    @Test
+    void shouldRetryDeferredPollsWithoutCountingAttempts() {
+        properties.setMaxRetries(0);
+        AtomicInteger calls = new AtomicInteger();
+        StatusPoller poller = new SweepingStatusPoller(taskId -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new PollDeferredException("Rate limited", 10);
+            }
+            return status(taskId, EResourceStatus.DONE);
+        }, scheduler, executor, properties, new FixedPollingStrategy(properties));
+
+        CompletableFuture<StatusResponse> future = poller.poll(UUID.randomUUID(), 0);
+
+        assertThat(future.orTimeout(3, TimeUnit.SECONDS).join().getStatus()).isEqualTo(EResourceStatus.DONE);
+        assertThat(calls).hasValue(2);
+    }
+
+    private static StatusResponse status(UUID taskId, EResourceStatus status) {
+        return StatusResponse.builder().id(taskId).status(status).build();
+    }
+}
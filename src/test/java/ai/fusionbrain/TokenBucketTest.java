@@ -0,0 +1,118 @@
+package ai.fusionbrain;
+
+import ai.fusionbrain.resilience.RateLimiterStats;
+import ai.fusionbrain.resilience.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TokenBucketTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldAllowBurstAndRefillAtConstantRate() {
+        TokenBucket bucket = new TokenBucket(2.0, 3, clock::get);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire()).as("refill is capped at the burst size").isTrue();
+        }
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        assertThat(bucket.stats()).isEqualTo(new RateLimiterStats(7, 3, 0, 0));
+    }
+
+    @Test
+    void shouldNotReservePermitWhenWaitExceedsTimeout() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1.0, 1, clock::get);
+        bucket.tryAcquire();
+
+        assertThat(bucket.tryAcquire(500, TimeUnit.MILLISECONDS)).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bucket.tryAcquire()).as("rejected caller must not consume the next permit").isTrue();
+    }
+
+    @Test
+    void shouldReportTimeUntilNextPermit() {
+        TokenBucket bucket = new TokenBucket(2.0, 1, clock::get);
+        assertThat(bucket.nanosUntilNextPermit()).isZero();
+
+        bucket.tryAcquire();
+        assertThat(bucket.nanosUntilNextPermit()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(bucket.nanosUntilNextPermit()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(300));
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void shouldWaitForNextPermit() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(20.0, 1);
+        bucket.tryAcquire();
+
+        long start = System.nanoTime();
+        assertThat(bucket.tryAcquire(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+        RateLimiterStats stats = bucket.stats();
+        assertThat(stats.getAcquiredCount()).isEqualTo(2);
+        assertThat(stats.getMaxWaitNanos()).isPositive();
+        assertThat(stats.averageWait()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldHandOutExactlyAvailablePermitsUnderContention() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1.0, 50, clock::get);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 100; j++) {
+                        if (bucket.tryAcquire()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(granted).hasValue(50);
+        assertThat(bucket.stats().getRejectedCount()).isEqualTo(750);
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TokenBucket(0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TokenBucket(1.0, 0));
+    }
+}
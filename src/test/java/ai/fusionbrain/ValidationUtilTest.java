@@ -3,6 +3,7 @@ package ai.fusionbrain;
 import ai.fusionbrain.exception.ValidationException;
 import ai.fusionbrain.utils.ValidationUtil;
 import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -10,11 +11,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ValidationUtilTest {
@@ -76,16 +76,39 @@ class ValidationUtilTest {
     }
 
     @Test
-    void validate_ShouldHandleValidatorFactoryException_Gracefully() {
+    void validate_ShouldPropagateValidatorException() {
         // Arrange
         TestObject validObject = new TestObject("valid", "123");
+        Validator validator = mock(Validator.class);
+        when(validator.validate(validObject)).thenThrow(new RuntimeException("Validation engine failed"));
 
-        try (MockedStatic<Validation> validationMock = mockStatic(Validation.class)) {
-            validationMock.when(Validation::buildDefaultValidatorFactory)
-                    .thenThrow(new RuntimeException("Factory creation failed"));
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> ValidationUtil.validate(validObject, validator));
+    }
+
+    @Test
+    void validate_ShouldUseGivenValidator() {
+        // Arrange
+        Validator validator = spy(Validation.buildDefaultValidatorFactory().getValidator());
+        TestObject invalidObject = new TestObject(null, "123");
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ValidationUtil.validate(invalidObject, validator));
+        verify(validator).validate(invalidObject);
+    }
+
+    @Test
+    void validate_ShouldShareDefaultValidator() {
+        // Act & Assert
+        assertSame(ValidationUtil.getDefaultValidator(), ValidationUtil.getDefaultValidator());
+        assertDoesNotThrow(() -> ValidationUtil.validate(new UnconstrainedObject()));
+        assertDoesNotThrow(() -> ValidationUtil.validate(new TestObject("valid", "1234"),
+                ValidationUtil.getDefaultValidator()));
+        assertThrows(IllegalArgumentException.class,
+                () -> ValidationUtil.validate(null, ValidationUtil.getDefaultValidator()));
+    }
 
-            // Act & Assert
-            assertThrows(RuntimeException.class, () -> ValidationUtil.validate(validObject));
-        }
+    private static class UnconstrainedObject {
+        private String field;
     }
-}
\ No newline at end of file
+}